@@ -35,9 +35,11 @@ public class NotificationController {
     }
 
     // 🔹 알림 생성 (관리자 제한 제거)
+    // Idempotency-Key 가 있으면 같은 키로 다시 보내도 한 번만 저장 (study-service outbox 재전송)
     @PostMapping
     public List<NotificationResponse> create(
-            @RequestBody NotificationRequest body
+            @RequestBody NotificationRequest body,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
         List<Long> userIds = body.getUserIds();
 
@@ -46,7 +48,7 @@ public class NotificationController {
         }
 
         return userIds.stream()
-                .map(userId -> service.save(userId, body))
+                .map(userId -> service.save(userId, body, idempotencyKey))
                 .toList();
     }
 
@@ -5,7 +5,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Notifications")
+@Table(
+        name = "Notifications",
+        // 같은 요청을 다시 받아도 사용자당 한 건만 (Idempotency-Key)
+        uniqueConstraints = @UniqueConstraint(name = "uk_notifications_user_key", columnNames = {"user_id", "idempotency_key"})
+)
 public class Notification {
 
     @Id
@@ -30,6 +34,10 @@ public class Notification {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // 보낸 쪽이 재전송 구분용으로 붙인 키 (없으면 null → 중복 검사 안 함)
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
     public enum Type {
         SCHEDULE, REQUEST, SYSTEM
     }
@@ -79,4 +87,12 @@ public class Notification {
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
 }
@@ -4,6 +4,7 @@ import com.study.notification.domain.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
@@ -15,4 +16,7 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     // 특정 유저의 전체 알림 삭제
     void deleteByUserId(Long userId);
+
+    // 같은 Idempotency-Key 로 이미 저장된 알림 (재전송 중복 방지)
+    Optional<Notification> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
 }
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class NotificationService {
@@ -42,8 +43,23 @@ public class NotificationService {
     // 🔹 알림 생성 (targetUserId = 알림 받을 유저 ID)
     @Transactional
     public NotificationResponse save(Long targetUserId, NotificationRequest request) {
+        return save(targetUserId, request, null);
+    }
+
+    // 🔹 알림 생성 (idempotencyKey 가 같은 알림이 이미 있으면 새로 저장하지 않고 그대로 반환)
+    @Transactional
+    public NotificationResponse save(Long targetUserId, NotificationRequest request, String idempotencyKey) {
+
+        if (idempotencyKey != null) {
+            Optional<Notification> existing =
+                    notificationRepository.findByUserIdAndIdempotencyKey(targetUserId, idempotencyKey);
+            if (existing.isPresent()) {
+                return NotificationResponse.fromEntity(existing.get());
+            }
+        }
 
         Notification notification = new Notification();
+        notification.setIdempotencyKey(idempotencyKey);
         notification.setUserId(targetUserId);
         notification.setMessage(request.getMessage());
         notification.setType(Notification.Type.valueOf(request.getType().toUpperCase()));
@@ -326,4 +326,37 @@ class NotificationControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(10)));
     }
+
+    @Test
+    @DisplayName("[내부통신] 같은 Idempotency-Key 로 재전송하면 한 번만 저장")
+    void internalCommunication_IdempotencyKey_Redelivery() throws Exception {
+        // Given - study-service outbox 가 같은 알림을 두 번 보냄 (첫 응답 유실 후 재시도)
+        NotificationRequest request = new NotificationRequest();
+        request.setUserIds(Arrays.asList(2L, 3L));
+        request.setMessage("스터디 가입 요청이 승인되었습니다.");
+        request.setType("REQUEST");
+        String idempotencyKey = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+        // When
+        String first = mockMvc.perform(post("/api/notifications")
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String second = mockMvc.perform(post("/api/notifications")
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then - 같은 알림을 돌려주고 사용자당 한 건만 저장
+        assertThat(second).isEqualTo(first);
+        assertThat(notificationRepository.findByUserIdOrderByNotificationIdDesc(2L)).hasSize(1);
+        assertThat(notificationRepository.findByUserIdOrderByNotificationIdDesc(3L)).hasSize(1);
+    }
 }
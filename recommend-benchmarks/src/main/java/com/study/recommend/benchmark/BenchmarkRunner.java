@@ -0,0 +1,25 @@
+package com.study.recommend.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * benchmarks.jar 진입점
+ *
+ * JMH 기본 옵션을 그대로 받고, GC 프로파일러(할당률 gc.alloc.rate.norm)를 항상 붙인다.
+ * 예) java -jar benchmarks.jar TagSimilarity -f 1 -wi 3 -i 5
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,42 @@
+package com.study.recommend.benchmark;
+
+import com.study.recommend.util.DistanceScoreUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DistanceScoreUtil.calculateDistanceScore (거리 배열 한 바퀴 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistanceScoreBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int candidateCount;
+
+    private double[] distancesKm;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(11);
+        distancesKm = new double[candidateCount];
+        for (int i = 0; i < candidateCount; i++) {
+            distancesKm[i] = random.nextDouble() * 10;
+        }
+    }
+
+    @Benchmark
+    public double calculateDistanceScore() {
+        double sum = 0;
+        for (double d : distancesKm) {
+            sum += DistanceScoreUtil.calculateDistanceScore(d);
+        }
+        return sum;
+    }
+}
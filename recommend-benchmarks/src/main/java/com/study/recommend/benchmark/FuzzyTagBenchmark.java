@@ -0,0 +1,147 @@
+package com.study.recommend.benchmark;
+
+import com.study.recommend.tag.FuzzyTagIndex;
+import com.study.recommend.tag.TagDictionary;
+import com.study.recommend.tag.WeightedTagIds;
+import com.study.recommend.util.TagSimilarityUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근사 태그 매칭 (어휘 vocabularySize 개, 질의 1개 기준)
+ *
+ * - typo: 어휘 단어에서 한 글자 바꾸기/빼기/넣기
+ * - prefix: 어휘 단어 앞 70%
+ * - miss: 어휘와 무관한 단어 (전체 탐색 비용 상한)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzyTagBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    private static final String LATIN = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+    @Param({"50000"})
+    private int vocabularySize;
+
+    private TagDictionary dictionary;
+    private FuzzyTagIndex index;
+
+    private String[] typos;
+    private String[] prefixes;
+    private String[] misses;
+    private List<String>[] userTags;
+
+    private int cursor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Random random = new Random(11);
+        dictionary = new TagDictionary();
+
+        // 영문 80%, 한글 20% (길이 3 ~ 12)
+        List<String> vocabulary = new ArrayList<>(vocabularySize);
+        while (vocabulary.size() < vocabularySize) {
+            // 정규화 결과 기준으로 질의를 만들도록 정규화된 단어를 보관 (복수형 s 제거 등)
+            String word = TagSimilarityUtil.normalizeFull(
+                    random.nextInt(5) == 0 ? hangulWord(random) : latinWord(random));
+            vocabulary.add(word);
+            dictionary.encodeGroup(List.of(word));
+        }
+        index = dictionary.fuzzyIndex();
+
+        typos = new String[QUERIES];
+        prefixes = new String[QUERIES];
+        misses = new String[QUERIES];
+        userTags = new List[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String word = vocabulary.get(random.nextInt(vocabulary.size()));
+            typos[i] = typo(word, random);
+
+            String longWord = vocabulary.get(random.nextInt(vocabulary.size()));
+            prefixes[i] = longWord.substring(0,
+                    Math.min(longWord.length(), Math.max(3, (int) Math.ceil(longWord.length() * 0.7))));
+
+            misses[i] = "zz" + latinWord(random) + "qq";
+
+            // 사용자 한 명: 정확 2개 + 오타 1개 + 무관 1개
+            userTags[i] = List.of(
+                    vocabulary.get(random.nextInt(vocabulary.size())),
+                    vocabulary.get(random.nextInt(vocabulary.size())),
+                    typos[i],
+                    misses[i]);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (QUERIES - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public FuzzyTagIndex.Match bestMatchTypo() {
+        return index.bestMatch(typos[next()]);
+    }
+
+    @Benchmark
+    public FuzzyTagIndex.Match bestMatchPrefix() {
+        return index.bestMatch(prefixes[next()]);
+    }
+
+    @Benchmark
+    public FuzzyTagIndex.Match bestMatchMiss() {
+        return index.bestMatch(misses[next()]);
+    }
+
+    @Benchmark
+    public WeightedTagIds encodeWeightedUser() {
+        return dictionary.encodeWeighted(userTags[next()]);
+    }
+
+    // ===========================
+    // 데이터 생성
+    // ===========================
+    private static String latinWord(Random random) {
+        int length = 3 + random.nextInt(10);
+        StringBuilder sb = new StringBuilder(length);
+        sb.append((char) ('a' + random.nextInt(26)));
+        for (int i = 1; i < length; i++) {
+            sb.append(LATIN.charAt(random.nextInt(LATIN.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String hangulWord(Random random) {
+        int length = 3 + random.nextInt(4);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+        }
+        return sb.toString();
+    }
+
+    private static String typo(String word, Random random) {
+        int at = random.nextInt(word.length());
+        char replacement = Character.isLetterOrDigit(word.charAt(at)) && word.charAt(at) < 128
+                ? (char) ('a' + random.nextInt(26))
+                : (char) ('가' + random.nextInt('힣' - '가' + 1));
+        switch (random.nextInt(3)) {
+            case 0:
+                return word.substring(0, at) + replacement + word.substring(at + 1);
+            case 1:
+                return word.length() > 3 ? word.substring(0, at) + word.substring(at + 1) : word + replacement;
+            default:
+                return word.substring(0, at) + replacement + word.substring(at);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.study.recommend.benchmark;
+
+import com.study.recommend.index.GeoCandidate;
+import com.study.recommend.index.IndexedGroup;
+import com.study.recommend.scoring.GeoPoints;
+import com.study.recommend.scoring.GeoScoringEngine;
+import com.study.recommend.tag.TagDictionary;
+import com.study.recommend.util.GeoDistanceUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 필터 + 인기/거리 점수 계산
+ *
+ * - perObjectStream : 기존 방식 (그룹 객체마다 haversine → 박싱된 getter 로 stream 점수화)
+ * - soa             : GeoScoringEngine (미리 계산된 sin/cos SoA + primitive 배열 루프)
+ *                     kernel=scalar / vector 로 Vector API 구현과 비교
+ *
+ * vector 커널은 jdk.incubator.vector 가 필요해서 포크 JVM 에 모듈을 추가한다.
+ * VectorGeoKernel 은 recommend-service 의 vector 프로필에서만 컴파일되므로
+ * mvn -Pbenchmarks,vector 로 빌드해야 kernel=vector 가 동작한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class GeoScoringBenchmark {
+
+    private static final double RADIUS_KM = 5.0;
+    private static final double POP_WEIGHT = 0.7;
+    private static final double DISTANCE_WEIGHT = 0.3;
+
+    @Param({"1000", "10000", "100000"})
+    private int candidateCount;
+
+    @Param({"scalar", "vector"})
+    private String kernel;
+
+    private List<IndexedGroup> groups;
+    private long[] memberCounts;
+
+    private GeoScoringEngine engine;
+    private GeoPoints points;
+    private double[] memberCountValues;
+
+    @Setup
+    public void setUp() {
+        // 반경보다 조금 넓게 뿌려서 일부는 필터에 걸리도록
+        groups = SyntheticGroups.generate(candidateCount, RADIUS_KM * 1.3, new TagDictionary());
+
+        memberCounts = new long[candidateCount];
+        memberCountValues = new double[candidateCount];
+        points = new GeoPoints(candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            IndexedGroup g = groups.get(i);
+            memberCounts[i] = 1 + (g.getGroupId() * 31) % 20;
+            memberCountValues[i] = memberCounts[i];
+            points.add(g.getSinLat(), g.getCosLat(), g.getSinLng(), g.getCosLng());
+        }
+
+        engine = "vector".equals(kernel) ? GeoScoringEngine.vector() : GeoScoringEngine.scalar();
+    }
+
+    @Benchmark
+    public double perObjectStream() {
+        List<GeoCandidate> inRadius = groups.stream()
+                .map(g -> new GeoCandidate(g, GeoDistanceUtil.haversineKm(
+                        SyntheticGroups.CENTER_LAT, SyntheticGroups.CENTER_LNG, g.getLatitude(), g.getLongitude())))
+                .filter(c -> c.getDistanceKm() <= RADIUS_KM)
+                .map(c -> c.withMemberCount(memberCounts[(int) (c.getGroupId() - 1)]))
+                .toList();
+
+        long maxMemberCount = inRadius.stream().mapToLong(GeoCandidate::getMemberCount).max().orElse(1L);
+
+        return inRadius.stream()
+                .mapToDouble(c -> {
+                    double popScore = Math.sqrt((double) c.getMemberCount() / maxMemberCount);
+                    double distanceScore = Math.max(0, 1.0 - c.getDistanceKm() / RADIUS_KM);
+                    return POP_WEIGHT * popScore + DISTANCE_WEIGHT * distanceScore;
+                })
+                .sum();
+    }
+
+    @Benchmark
+    public double soa() {
+        int[] hitIndexes = new int[candidateCount];
+        double[] distancesKm = new double[candidateCount];
+        int n = engine.withinRadius(SyntheticGroups.CENTER_LAT, SyntheticGroups.CENTER_LNG,
+                points, RADIUS_KM, hitIndexes, distancesKm);
+
+        double[] counts = new double[n];
+        double maxMemberCount = 0;
+        for (int i = 0; i < n; i++) {
+            counts[i] = memberCountValues[hitIndexes[i]];
+            maxMemberCount = Math.max(maxMemberCount, counts[i]);
+        }
+
+        double[] popScores = new double[n];
+        double[] distanceScores = new double[n];
+        double[] finalScores = new double[n];
+        engine.sqrtRatio(counts, n, maxMemberCount, popScores);
+        engine.linearDistanceScores(distancesKm, n, RADIUS_KM, distanceScores);
+        engine.weightedSum(popScores, POP_WEIGHT, distanceScores, DISTANCE_WEIGHT, n, finalScores);
+
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += finalScores[i];
+        }
+        return sum;
+    }
+}
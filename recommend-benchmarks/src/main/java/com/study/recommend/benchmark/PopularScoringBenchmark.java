@@ -0,0 +1,81 @@
+package com.study.recommend.benchmark;
+
+import com.study.recommend.cache.PopularCandidateCache;
+import com.study.recommend.dto.PopularLocationResponse;
+import com.study.recommend.index.GeoGridIndex;
+import com.study.recommend.metrics.RecommendMetrics;
+import com.study.recommend.repository.GroupPopularityProjection;
+import com.study.recommend.repository.PopularLocationRepository;
+import com.study.recommend.service.GroupCandidateService;
+import com.study.recommend.service.PopularLocationService;
+import com.study.recommend.tag.TagDictionary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PopularLocationService.getPopularGroupsByLocation 전체 경로
+ * (인메모리 인덱스 후보 조회 → 인기도 롤업 → 멤버 수 정렬 → 인기/거리/트렌드 점수), DB 없이 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PopularScoringBenchmark {
+
+    private static final double RADIUS_KM = 5.0;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int candidateCount;
+
+    private PopularLocationService popularLocationService;
+
+    @Setup
+    public void setUp() {
+        GeoGridIndex index = new GeoGridIndex(0.02);
+        index.replaceAll(SyntheticGroups.generate(candidateCount, RADIUS_KM, new TagDictionary()));
+
+        PopularLocationRepository repository = RepositoryStubs.stub(PopularLocationRepository.class, Map.of(
+                "findPopularity", args -> popularity((Collection<?>) args[0])
+        ));
+
+        // 지표 기록 비용까지 포함해서 측정
+        RecommendMetrics metrics = new RecommendMetrics(new SimpleMeterRegistry());
+        GroupCandidateService candidates = new GroupCandidateService(index, null, repository, metrics);
+        // 후보 캐시는 끄고 매 호출 계산 경로를 측정
+        PopularCandidateCache disabledCache = new PopularCandidateCache(false, 30, 10_000, 0.005, 0.5, Optional.empty());
+        popularLocationService = new PopularLocationService(candidates, disabledCache, metrics);
+    }
+
+    private static List<GroupPopularityProjection> popularity(Collection<?> groupIds) {
+        LocalDateTime updatedAt = LocalDateTime.now().minusHours(12);
+        List<GroupPopularityProjection> rows = new ArrayList<>(groupIds.size());
+        for (Object id : groupIds) {
+            Long groupId = (Long) id;
+            long count = 1 + (groupId * 31) % 20;
+            double velocity = (groupId * 17) % 7;
+            rows.add(new GroupPopularityProjection() {
+                @Override public Long getGroupId() { return groupId; }
+                @Override public Long getMemberCount() { return count; }
+                @Override public Double getJoinVelocity() { return velocity; }
+                @Override public LocalDateTime getVelocityUpdatedAt() { return updatedAt; }
+            });
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public PopularLocationResponse getPopularGroupsByLocation() {
+        return popularLocationService.getPopularGroupsByLocation(
+                SyntheticGroups.CENTER_LAT, SyntheticGroups.CENTER_LNG, RADIUS_KM, 10, null, null);
+    }
+}
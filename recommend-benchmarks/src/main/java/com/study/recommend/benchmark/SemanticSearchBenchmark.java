@@ -0,0 +1,93 @@
+package com.study.recommend.benchmark;
+
+import com.study.recommend.index.IndexedGroup;
+import com.study.recommend.semantic.SemanticGroupIndex;
+import com.study.recommend.semantic.SemanticMatch;
+import com.study.recommend.semantic.TagEmbeddings;
+import com.study.recommend.tag.TagDictionary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 의미 기반 추천 상위 10개: HNSW 근사 검색 vs 전체 내적 스캔
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SemanticSearchBenchmark {
+
+    private static final int K = 10;
+    private static final int QUERY_COUNT = 64;
+
+    @Param({"10000", "100000"})
+    private int groupCount;
+
+    private SemanticGroupIndex index;
+    private float[][] groupVectors;
+    private float[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        TagEmbeddings embeddings = new TagEmbeddings(new ClassPathResource("embeddings/tag-embeddings.txt"));
+        List<IndexedGroup> groups = SyntheticGroups.generate(groupCount, 5.0, new TagDictionary());
+
+        index = new SemanticGroupIndex(null, embeddings, true, 16, 100, 128, 0.2);
+        index.rebuild(groups);
+
+        groupVectors = new float[groups.size()][];
+        for (int i = 0; i < groups.size(); i++) {
+            groupVectors[i] = embeddings.average(groups.get(i).getTags());
+        }
+
+        Random random = new Random(7);
+        queries = new float[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = embeddings.average(SyntheticGroups.randomTags(random));
+        }
+    }
+
+    @Benchmark
+    public List<SemanticMatch> hnswTop10() {
+        return index.search(queries[next++ & (QUERY_COUNT - 1)], K);
+    }
+
+    @Benchmark
+    public int[] bruteForceTop10() {
+        float[] query = queries[next++ & (QUERY_COUNT - 1)];
+
+        // 상위 K 개 (점수 오름차순 유지, [0] 이 가장 낮음)
+        int[] top = new int[K];
+        float[] topScores = new float[K];
+        Arrays.fill(topScores, Float.NEGATIVE_INFINITY);
+
+        for (int g = 0; g < groupVectors.length; g++) {
+            float[] vector = groupVectors[g];
+            if (vector == null) continue;
+
+            float score = 0f;
+            for (int i = 0; i < vector.length; i++) {
+                score += query[i] * vector[i];
+            }
+            if (score <= topScores[0]) continue;
+
+            int j = 1;
+            while (j < K && topScores[j] < score) {
+                topScores[j - 1] = topScores[j];
+                top[j - 1] = top[j];
+                j++;
+            }
+            topScores[j - 1] = score;
+            top[j - 1] = g;
+        }
+        return top;
+    }
+}
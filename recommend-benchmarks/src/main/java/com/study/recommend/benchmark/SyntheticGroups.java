@@ -0,0 +1,73 @@
+package com.study.recommend.benchmark;
+
+import com.study.recommend.index.IndexedGroup;
+import com.study.recommend.tag.TagDictionary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 가짜 스터디 그룹 (서울 시청 기준 반경 안에 고르게 뿌림, 시드 고정)
+ */
+final class SyntheticGroups {
+
+    static final double CENTER_LAT = 37.5665;
+    static final double CENTER_LNG = 126.9780;
+
+    static final String[] VOCABULARY = {
+            "Java", "Spring", "SpringBoot", "스프링", "Python", "파이썬", "py", "JavaScript", "js",
+            "TypeScript", "React", "react.js", "리액트", "Vue", "Node.js", "노드", "ML", "머신러닝",
+            "DeepLearning", "딥러닝", "AI", "DB", "데이터베이스", "Algorithms", "알고리즘", "자료구조",
+            "C++", "C언어", "Kotlin", "Android", "iOS", "Swift", "Docker", "Kubernetes", "AWS",
+            "토익", "영어회화", "정보처리기사", "SQLD", "CS", "OS", "Network", "Linux", "Go", "Rust"
+    };
+
+    private SyntheticGroups() {
+    }
+
+    static List<IndexedGroup> generate(int count, double radiusKm, TagDictionary dictionary) {
+        Random random = new Random(42);
+        double latSpan = radiusKm / 111.32;
+        double lngSpan = radiusKm / (111.32 * Math.cos(Math.toRadians(CENTER_LAT)));
+
+        List<IndexedGroup> groups = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<String> tags = randomTags(random);
+
+            groups.add(new IndexedGroup(
+                    (long) i + 1,
+                    "스터디 " + i,
+                    "설명 " + i,
+                    toJson(tags),
+                    10,
+                    "ACTIVE",
+                    CENTER_LAT + (random.nextDouble() * 2 - 1) * latSpan,
+                    CENTER_LNG + (random.nextDouble() * 2 - 1) * lngSpan,
+                    LocalDateTime.now(),
+                    tags,
+                    dictionary.encodeGroup(tags)
+            ));
+        }
+        return groups;
+    }
+
+    static List<String> randomTags(Random random) {
+        int n = 1 + random.nextInt(4);
+        List<String> tags = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            tags.add(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+        }
+        return tags;
+    }
+
+    static String toJson(List<String> tags) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < tags.size(); i++) {
+            if (i > 0) sb.append(',');
+            sb.append('"').append(tags.get(i)).append('"');
+        }
+        return sb.append(']').toString();
+    }
+}
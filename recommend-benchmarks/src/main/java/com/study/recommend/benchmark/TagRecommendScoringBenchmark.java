@@ -0,0 +1,68 @@
+package com.study.recommend.benchmark;
+
+import com.study.recommend.dto.TagRecommendResponse;
+import com.study.recommend.index.GeoGridIndex;
+import com.study.recommend.metrics.RecommendMetrics;
+import com.study.recommend.pagination.RankedListCache;
+import com.study.recommend.repository.UserInterestTagRepository;
+import com.study.recommend.service.GroupCandidateService;
+import com.study.recommend.service.TagRecommendService;
+import com.study.recommend.tag.GroupTagCache;
+import com.study.recommend.tag.TagDictionary;
+import com.study.recommend.tag.UserTagCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TagRecommendService.getTagBasedGroups 전체 경로
+ * (인메모리 인덱스 후보 조회 → 태그/거리 점수 → top-K), DB 없이 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagRecommendScoringBenchmark {
+
+    private static final double RADIUS_KM = 5.0;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int candidateCount;
+
+    private TagRecommendService tagRecommendService;
+
+    @Setup
+    public void setUp() {
+        TagDictionary dictionary = new TagDictionary();
+
+        GeoGridIndex index = new GeoGridIndex(0.02);
+        index.replaceAll(SyntheticGroups.generate(candidateCount, RADIUS_KM, dictionary));
+
+        UserInterestTagRepository userTags = RepositoryStubs.stub(UserInterestTagRepository.class, Map.of(
+                "findTagsByUserId", args -> List.of("Java", "스프링", "알고리즘", "DB")
+        ));
+
+        // 지표 기록 비용까지 포함해서 측정
+        RecommendMetrics metrics = new RecommendMetrics(new SimpleMeterRegistry());
+        GroupCandidateService candidates = new GroupCandidateService(index, null, null, metrics);
+
+        // 관심 태그는 사용자 캐시 적중 상태 (운영과 같게), 정렬 결과 캐시는 끔
+        UserTagCache userTagCache = new UserTagCache(userTags, dictionary, null, true, 1000, 600);
+        tagRecommendService = new TagRecommendService(candidates, userTagCache, new GroupTagCache(dictionary),
+                new RankedListCache(0, 0, 0), metrics);
+        // 반경 내 후보 전체를 점수 계산 대상으로
+        RepositoryStubs.setField(tagRecommendService, "oversamplingFactor", Integer.MAX_VALUE);
+        RepositoryStubs.setField(tagRecommendService, "maxCandidatePool", candidateCount);
+    }
+
+    @Benchmark
+    public TagRecommendResponse getTagBasedGroups() {
+        return tagRecommendService.getTagBasedGroups(
+                1L, SyntheticGroups.CENTER_LAT, SyntheticGroups.CENTER_LNG, RADIUS_KM, 10, 0.5, 0.5);
+    }
+}
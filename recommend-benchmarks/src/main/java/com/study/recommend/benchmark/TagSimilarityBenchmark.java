@@ -0,0 +1,98 @@
+package com.study.recommend.benchmark;
+
+import com.study.recommend.tag.TagDictionary;
+import com.study.recommend.util.TagSimilarityUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TagSimilarityUtil 단위 연산 (태그 1개 / 그룹 1쌍 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagSimilarityBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    private String[] rawTags;
+
+    private List<String>[] userNorm;
+    private List<String>[] groupNorm;
+
+    private int[][] userIds;
+    private int[][] groupIds;
+
+    private int cursor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Random random = new Random(7);
+        TagDictionary dictionary = new TagDictionary();
+
+        rawTags = SyntheticGroups.VOCABULARY.clone();
+
+        userNorm = new List[PAIRS];
+        groupNorm = new List[PAIRS];
+        userIds = new int[PAIRS][];
+        groupIds = new int[PAIRS][];
+
+        List<String>[] users = new List[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            users[i] = SyntheticGroups.randomTags(random);
+            List<String> group = SyntheticGroups.randomTags(random);
+
+            userNorm[i] = TagSimilarityUtil.normalizeTags(users[i]);
+            groupNorm[i] = TagSimilarityUtil.normalizeTags(group);
+            groupIds[i] = dictionary.encodeGroup(group);
+        }
+        // 사용자 태그는 그룹 어휘를 다 등록한 뒤 조회 (encode 는 사전에 넣지 않음)
+        for (int i = 0; i < PAIRS; i++) {
+            userIds[i] = dictionary.encode(users[i]);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (PAIRS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public String normalizeTag() {
+        return TagSimilarityUtil.normalizeTag(rawTags[next() % rawTags.length]);
+    }
+
+    @Benchmark
+    public String normalizeFull() {
+        return TagSimilarityUtil.normalizeFull(rawTags[next() % rawTags.length]);
+    }
+
+    @Benchmark
+    public double jaccardSimilarityLists() {
+        int i = next();
+        return TagSimilarityUtil.jaccardSimilarity(userNorm[i], groupNorm[i]);
+    }
+
+    @Benchmark
+    public double jaccardSimilarityIds() {
+        int i = next();
+        return TagSimilarityUtil.jaccardSimilarity(userIds[i], groupIds[i]);
+    }
+
+    @Benchmark
+    public void normalizeTagsPerCandidate(Blackhole bh) {
+        // 리팩터링 전 경로: 후보마다 사용자/그룹 태그를 다시 정규화
+        int i = next();
+        bh.consume(TagSimilarityUtil.jaccardSimilarity(
+                TagSimilarityUtil.normalizeTags(userNorm[i]),
+                TagSimilarityUtil.normalizeTags(groupNorm[i])));
+    }
+}
@@ -0,0 +1,38 @@
+package com.study.recommend.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 인기 추천 후보 캐시 키
+ *
+ * 좌표는 격자 셀 인덱스로, 반경은 버킷 단위로 양자화한다.
+ * 값은 셀 중심에서 radiusKm 안의 후보 집합이고, radiusKm 은 셀 안 어느 좌표에서
+ * 요청 반경(버킷 이하)을 그려도 그 원을 덮도록 셀 반대각선만큼 넓힌 값이다.
+ * 점수/거리는 캐시하지 않고 요청 좌표/반경/가중치로 매번 다시 계산한다.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class PopularCacheKey {
+
+    private final int latCell;
+    private final int lngCell;
+
+    // 셀 중심 좌표 (후보 조회용, 셀 인덱스에서 결정되므로 동등성에 영향 없음)
+    @EqualsAndHashCode.Exclude
+    private final double centerLatitude;
+    @EqualsAndHashCode.Exclude
+    private final double centerLongitude;
+
+    // 셀 중심 기준 후보 조회 반경 (반경 버킷 + 셀 반대각선)
+    private final double radiusKm;
+
+    /**
+     * Redis 키 (인스턴스 간 공유)
+     */
+    public String toRedisKey() {
+        return "recommend:popular:candidates:" + latCell + ":" + lngCell + ":" + radiusKm;
+    }
+}
@@ -0,0 +1,66 @@
+package com.study.recommend.cache;
+
+import com.study.recommend.repository.PopularLocationProjection;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 셀 후보 캐시에 보관하는 그룹 + 인기도 롤업 값
+ *
+ * 거리는 요청 좌표마다 다르므로 저장하지 않고, at(distanceKm) 으로 요청 기준 projection 을 만든다.
+ * L2(Redis) 에 JSON 으로 저장되므로 필드는 단순 값만 둔다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopularCandidate {
+
+    private Long groupId;
+    private String title;
+    private String description;
+    private Long memberCount;
+    private Integer maxMembers;
+    private String status;
+    private Double latitude;
+    private Double longitude;
+    private Double joinVelocity;
+    private LocalDateTime velocityUpdatedAt;
+
+    public static PopularCandidate of(PopularLocationProjection p) {
+        return new PopularCandidate(
+                p.getGroupId(),
+                p.getTitle(),
+                p.getDescription(),
+                p.getMemberCount(),
+                p.getMaxMembers(),
+                p.getStatus(),
+                p.getLatitude(),
+                p.getLongitude(),
+                p.getJoinVelocity(),
+                p.getVelocityUpdatedAt()
+        );
+    }
+
+    /**
+     * 요청 좌표에서 잰 거리를 붙인 projection
+     */
+    public PopularLocationProjection at(double distanceKm) {
+        PopularCandidate c = this;
+        return new PopularLocationProjection() {
+            @Override public Long getGroupId() { return c.groupId; }
+            @Override public String getTitle() { return c.title; }
+            @Override public String getDescription() { return c.description; }
+            @Override public Long getMemberCount() { return c.memberCount; }
+            @Override public Integer getMaxMembers() { return c.maxMembers; }
+            @Override public String getStatus() { return c.status; }
+            @Override public Double getLatitude() { return c.latitude; }
+            @Override public Double getLongitude() { return c.longitude; }
+            @Override public Double getDistanceKm() { return distanceKm; }
+            @Override public Double getJoinVelocity() { return c.joinVelocity; }
+            @Override public LocalDateTime getVelocityUpdatedAt() { return c.velocityUpdatedAt; }
+        };
+    }
+}
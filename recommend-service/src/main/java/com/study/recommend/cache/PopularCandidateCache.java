@@ -0,0 +1,173 @@
+package com.study.recommend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.recommend.index.GroupChangedEvent;
+import com.study.recommend.util.GeoDistanceUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * /api/recommend/popular 셀 후보 캐시
+ *
+ * 후보 조회(인덱스 반경 검색 + 인기도 롤업 조회)만 셀 단위로 공유하고,
+ * 거리 / 반경 필터 / 점수는 PopularLocationService 가 요청 좌표·반경·가중치로 매번 다시 계산한다.
+ *
+ * - L1: 인스턴스 로컬 Caffeine (같은 키 동시 요청은 한 번만 조회)
+ * - L2: Redis (recommend.cache.popular.redis.enabled=true 일 때만)
+ * - 짧은 TTL + GroupChangedEvent 로 변경된 그룹 주변 키만 무효화
+ *
+ * 모든 인스턴스가 같은 DB 를 폴링해서 같은 이벤트를 받으므로,
+ * L2 는 각 인스턴스가 자기가 쓴 키만 지우면 전체가 정리된다.
+ *
+ * L1 적중률은 cache.gets{cache="recommend.popular"} 로 노출 (MeterBinder).
+ */
+@Slf4j
+@Component
+public class PopularCandidateCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final double cellSizeDeg;
+    private final double radiusStepKm;
+    private final Duration ttl;
+
+    // 셀 중심에서 반대각선 끝까지 거리 (위도 1도 ≈ 111.32km, 경도 방향은 이보다 짧음)
+    private final double cellHalfDiagonalKm;
+
+    private final Cache<PopularCacheKey, List<PopularCandidate>> local;
+
+    // 이 인스턴스가 L2 에 쓴 키 (L2 와 같은 TTL)
+    private final Cache<PopularCacheKey, Boolean> remoteKeys;
+
+    private final PopularCandidateRemoteStore remoteStore;
+
+    public PopularCandidateCache(@Value("${recommend.cache.popular.enabled:true}") boolean enabled,
+                                 @Value("${recommend.cache.popular.ttl-seconds:30}") long ttlSeconds,
+                                 @Value("${recommend.cache.popular.max-size:10000}") long maxSize,
+                                 @Value("${recommend.cache.popular.cell-size-deg:0.005}") double cellSizeDeg,
+                                 @Value("${recommend.cache.popular.radius-step-km:0.5}") double radiusStepKm,
+                                 Optional<PopularCandidateRemoteStore> remoteStore) {
+        this.enabled = enabled;
+        this.cellSizeDeg = cellSizeDeg;
+        this.radiusStepKm = radiusStepKm;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.cellHalfDiagonalKm = cellSizeDeg * 111.32 * Math.sqrt(2) / 2;
+
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.remoteKeys = Caffeine.newBuilder()
+                .maximumSize(maxSize * 4)
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.remoteStore = remoteStore.orElse(null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, local, "recommend.popular");
+    }
+
+    // ===========================
+    // 키 양자화
+    // ===========================
+    public PopularCacheKey keyOf(double latitude, double longitude, double radiusKm) {
+        int latCell = (int) Math.floor(latitude / cellSizeDeg);
+        int lngCell = (int) Math.floor(longitude / cellSizeDeg);
+
+        // 반경은 radiusStepKm 단위로 올림 (최소 한 칸) → 요청 반경보다 작아지지 않음
+        double radiusBucket = Math.max(1, Math.ceil(radiusKm / radiusStepKm)) * radiusStepKm;
+
+        // 셀 안 어느 좌표의 요청 원이든 덮도록 셀 반대각선만큼 넓혀서 조회
+        return new PopularCacheKey(
+                latCell,
+                lngCell,
+                (latCell + 0.5) * cellSizeDeg,
+                (lngCell + 0.5) * cellSizeDeg,
+                radiusBucket + cellHalfDiagonalKm
+        );
+    }
+
+    // ===========================
+    // 조회 (L1 → L2 → 후보 조회)
+    // ===========================
+    public List<PopularCandidate> get(PopularCacheKey key,
+                                      Function<PopularCacheKey, List<PopularCandidate>> loader) {
+        if (!enabled) {
+            return loader.apply(key);
+        }
+        return local.get(key, k -> loadThroughRemote(k, loader));
+    }
+
+    private List<PopularCandidate> loadThroughRemote(PopularCacheKey key,
+                                                     Function<PopularCacheKey, List<PopularCandidate>> loader) {
+        if (remoteStore == null) {
+            return loader.apply(key);
+        }
+
+        List<PopularCandidate> cached = remoteStore.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<PopularCandidate> candidates = loader.apply(key);
+        remoteStore.put(key, candidates, ttl);
+        remoteKeys.put(key, Boolean.TRUE);
+        return candidates;
+    }
+
+    // ===========================
+    // 무효화
+    // ===========================
+    @EventListener
+    public void onGroupChanged(GroupChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        // 후보는 셀 중심 기준 조회 반경 안의 그룹이므로, 그 안에서 바뀐 그룹만 영향을 줌
+        List<PopularCacheKey> affectedLocal = local.asMap().keySet().stream()
+                .filter(k -> isAffected(k, event))
+                .toList();
+        local.invalidateAll(affectedLocal);
+
+        if (remoteStore != null) {
+            List<PopularCacheKey> affectedRemote = remoteKeys.asMap().keySet().stream()
+                    .filter(k -> isAffected(k, event))
+                    .toList();
+            if (!affectedRemote.isEmpty()) {
+                remoteStore.evict(affectedRemote);
+                remoteKeys.invalidateAll(affectedRemote);
+            }
+        }
+
+        if (!affectedLocal.isEmpty()) {
+            log.debug("[PopularCandidateCache] groupId={} 변경 → {}개 키 무효화",
+                    event.getGroupId(), affectedLocal.size());
+        }
+    }
+
+    private boolean isAffected(PopularCacheKey key, GroupChangedEvent event) {
+        double distanceKm = GeoDistanceUtil.haversineKm(
+                key.getCenterLatitude(), key.getCenterLongitude(),
+                event.getLatitude(), event.getLongitude());
+        return distanceKm <= key.getRadiusKm();
+    }
+}
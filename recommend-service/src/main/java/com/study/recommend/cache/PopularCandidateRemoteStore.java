@@ -0,0 +1,19 @@
+package com.study.recommend.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인기 추천 셀 후보의 인스턴스 간 공유 저장소 (L2)
+ *
+ * 구현체는 장애 시 예외 대신 캐시 미스로 동작해야 한다.
+ */
+public interface PopularCandidateRemoteStore {
+
+    List<PopularCandidate> get(PopularCacheKey key);
+
+    void put(PopularCacheKey key, List<PopularCandidate> candidates, Duration ttl);
+
+    void evict(Collection<PopularCacheKey> keys);
+}
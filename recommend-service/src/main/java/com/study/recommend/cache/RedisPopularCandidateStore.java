@@ -0,0 +1,59 @@
+package com.study.recommend.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis 기반 L2 저장소 (JSON 문자열)
+ *
+ * Redis 장애 시 예외를 던지지 않고 캐시 미스로 처리 → 추천은 DB/인덱스로 계속 동작
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisPopularCandidateStore implements PopularCandidateRemoteStore {
+
+    private static final TypeReference<List<PopularCandidate>> CANDIDATES = new TypeReference<>() { };
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public List<PopularCandidate> get(PopularCacheKey key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key.toRedisKey());
+            return json == null ? null : objectMapper.readValue(json, CANDIDATES);
+        } catch (Exception e) {
+            log.warn("[PopularCandidateCache] Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(PopularCacheKey key, List<PopularCandidate> candidates, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key.toRedisKey(), objectMapper.writeValueAsString(candidates), ttl);
+        } catch (Exception e) {
+            log.warn("[PopularCandidateCache] Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(Collection<PopularCacheKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> redisKeys = keys.stream().map(PopularCacheKey::toRedisKey).toList();
+            redisTemplate.delete(redisKeys);
+        } catch (Exception e) {
+            log.warn("[PopularCandidateCache] Redis 삭제 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.study.recommend.cf;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 서비스 중인 CoMembershipMatrix 보관
+ *
+ * 전체 재구성은 새 행렬을 만든 뒤 참조만 교체하고,
+ * 증분 갱신은 현재 행렬에 직접 반영한다.
+ */
+@Component
+public class CoMembershipIndex {
+
+    private volatile CoMembershipMatrix current = new CoMembershipMatrix();
+
+    private volatile boolean ready = false;
+
+    public CoMembershipMatrix current() {
+        return current;
+    }
+
+    public void replace(CoMembershipMatrix matrix) {
+        this.current = matrix;
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+}
@@ -0,0 +1,231 @@
+package com.study.recommend.cf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * APPROVED 멤버십 기반 그룹-그룹 공동 멤버 수 (희소 행렬)
+ *
+ * - groupMembers / userGroups : 정렬된 long[] (이진 탐색 + 병합 diff)
+ * - coCounts : groupId → (다른 groupId → 공동 멤버 수), 박싱 없는 LongIntHashMap
+ * - (user, group) 하나가 추가/삭제되면 그 사용자가 속한 다른 그룹들과의 카운트만 ±1
+ *   → 전체 재계산 없이 변경된 그룹의 멤버 diff 만으로 갱신
+ *
+ * 갱신은 CoMembershipRefresher 단일 스레드, 조회는 동시에 가능 (read/write lock)
+ */
+public class CoMembershipMatrix {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // groupId → 정렬된 userId
+    private final Map<Long, long[]> groupMembers = new HashMap<>();
+
+    // userId → 정렬된 groupId
+    private final Map<Long, long[]> userGroups = new HashMap<>();
+
+    // groupId → (groupId → 공동 멤버 수)
+    private final Map<Long, LongIntHashMap> coCounts = new HashMap<>();
+
+    private long membershipCount = 0;
+
+    // ===========================
+    // 갱신
+    // ===========================
+    public void addMembership(long userId, long groupId) {
+        lock.writeLock().lock();
+        try {
+            add(userId, groupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 그룹의 APPROVED 멤버 목록을 통째로 교체 (기존 목록과 diff 해서 바뀐 멤버만 반영)
+     * @param userIds 정렬된 userId (비어 있으면 그룹 제거)
+     * @return 추가 + 삭제된 멤버 수
+     */
+    public int replaceGroupMembers(long groupId, long[] userIds) {
+        lock.writeLock().lock();
+        try {
+            long[] current = groupMembers.getOrDefault(groupId, EMPTY);
+            int changed = 0;
+
+            int i = 0, j = 0;
+            while (i < current.length || j < userIds.length) {
+                if (j >= userIds.length || (i < current.length && current[i] < userIds[j])) {
+                    remove(current[i++], groupId);
+                    changed++;
+                } else if (i >= current.length || userIds[j] < current[i]) {
+                    add(userIds[j++], groupId);
+                    changed++;
+                } else {
+                    i++;
+                    j++;
+                }
+            }
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===========================
+    // 조회
+    // ===========================
+
+    /**
+     * groupId 와 멤버를 공유하는 그룹 목록 (공동 멤버 수, 상대 그룹 멤버 수 포함)
+     */
+    public List<CoOccurrence> neighbors(long groupId) {
+        lock.readLock().lock();
+        try {
+            LongIntHashMap counts = coCounts.get(groupId);
+            if (counts == null) {
+                return List.of();
+            }
+
+            List<CoOccurrence> result = new ArrayList<>(counts.size());
+            counts.forEach((otherId, coCount) -> result.add(
+                    new CoOccurrence(otherId, coCount, groupMembers.getOrDefault(otherId, EMPTY).length)));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] groupsOf(long userId) {
+        lock.readLock().lock();
+        try {
+            return userGroups.getOrDefault(userId, EMPTY);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int memberCount(long groupId) {
+        lock.readLock().lock();
+        try {
+            return groupMembers.getOrDefault(groupId, EMPTY).length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 그룹별 멤버 목록 복사본 (스냅샷용)
+     * 배열은 갱신 시 새로 만들어 교체하므로 참조만 복사해도 안전
+     */
+    public Map<Long, long[]> groupMembers() {
+        lock.readLock().lock();
+        try {
+            return new HashMap<>(groupMembers);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int groupCount() {
+        lock.readLock().lock();
+        try {
+            return groupMembers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long membershipCount() {
+        lock.readLock().lock();
+        try {
+            return membershipCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===========================
+    // 내부 구현 (write lock 안에서만 호출)
+    // ===========================
+    private void add(long userId, long groupId) {
+        long[] groups = userGroups.getOrDefault(userId, EMPTY);
+        if (Arrays.binarySearch(groups, groupId) >= 0) {
+            return;
+        }
+
+        for (long other : groups) {
+            increment(groupId, other, 1);
+            increment(other, groupId, 1);
+        }
+
+        userGroups.put(userId, insert(groups, groupId));
+        groupMembers.put(groupId, insert(groupMembers.getOrDefault(groupId, EMPTY), userId));
+        membershipCount++;
+    }
+
+    private void remove(long userId, long groupId) {
+        long[] groups = userGroups.getOrDefault(userId, EMPTY);
+        if (Arrays.binarySearch(groups, groupId) < 0) {
+            return;
+        }
+
+        long[] remaining = delete(groups, groupId);
+        for (long other : remaining) {
+            increment(groupId, other, -1);
+            increment(other, groupId, -1);
+        }
+
+        putOrRemove(userGroups, userId, remaining);
+        putOrRemove(groupMembers, groupId, delete(groupMembers.getOrDefault(groupId, EMPTY), userId));
+        membershipCount--;
+    }
+
+    private void increment(long groupId, long otherId, int delta) {
+        LongIntHashMap counts = coCounts.get(groupId);
+        if (counts == null) {
+            if (delta <= 0) return;
+            counts = new LongIntHashMap();
+            coCounts.put(groupId, counts);
+        }
+
+        counts.addTo(otherId, delta);
+        if (counts.size() == 0) {
+            coCounts.remove(groupId);
+        }
+    }
+
+    private static void putOrRemove(Map<Long, long[]> map, long key, long[] values) {
+        if (values.length == 0) {
+            map.remove(key);
+        } else {
+            map.put(key, values);
+        }
+    }
+
+    private static long[] insert(long[] sorted, long value) {
+        int pos = Arrays.binarySearch(sorted, value);
+        if (pos >= 0) return sorted;
+
+        int at = -pos - 1;
+        long[] out = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, out, 0, at);
+        out[at] = value;
+        System.arraycopy(sorted, at, out, at + 1, sorted.length - at);
+        return out;
+    }
+
+    private static long[] delete(long[] sorted, long value) {
+        int at = Arrays.binarySearch(sorted, value);
+        if (at < 0) return sorted;
+
+        long[] out = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, out, 0, at);
+        System.arraycopy(sorted, at + 1, out, at, sorted.length - at - 1);
+        return out;
+    }
+}
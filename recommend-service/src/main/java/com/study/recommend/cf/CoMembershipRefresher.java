@@ -0,0 +1,160 @@
+package com.study.recommend.cf;
+
+import com.study.recommend.repository.CoMembershipRepository;
+import com.study.recommend.repository.MembershipProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CoMembershipMatrix 적재 / 증분 갱신
+ *
+ * 1) 기동 시 + 주기적으로 전체 재구성 (member_id keyset 페이지로 스캔 → 새 행렬로 교체)
+ * 2) 그 사이에는 변경 피드로 들어온 그룹만 APPROVED 멤버 목록을 다시 읽고 diff 만 반영
+ *    (study-service 가 승인/거절/강퇴 시 그룹 updated_at 을 갱신함)
+ * 3) 재구성 스캔 도중 반영된 그룹은 새 행렬로 교체한 뒤 한 번 더 반영
+ * 4) hard delete 된 그룹은 다음 전체 재구성 때 정리 (조회 시에는 상세 조회에서 걸러짐)
+ */
+@Slf4j
+@Component
+public class CoMembershipRefresher {
+
+    // IN 절 하나에 넣을 group_id 개수
+    private static final int GROUP_CHUNK_SIZE = 500;
+
+    private final CoMembershipRepository coMembershipRepository;
+    private final CoMembershipIndex coMembershipIndex;
+
+    private final boolean enabled;
+    private final int pageSize;
+
+    // 재구성 스캔 중이면 그동안 반영된 그룹 id 를 모음 (스캔 결과가 이보다 오래됐을 수 있음)
+    private volatile Set<Long> changedDuringRebuild;
+
+    public CoMembershipRefresher(CoMembershipRepository coMembershipRepository,
+                                 CoMembershipIndex coMembershipIndex,
+                                 @Value("${recommend.co-membership.enabled:true}") boolean enabled,
+                                 @Value("${recommend.co-membership.page-size:50000}") int pageSize) {
+        this.coMembershipRepository = coMembershipRepository;
+        this.coMembershipIndex = coMembershipIndex;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+    }
+
+    // ===========================
+    // 전체 재구성
+    // ===========================
+    @Scheduled(
+            fixedDelayString = "${recommend.co-membership.rebuild-interval-ms:21600000}",
+            initialDelayString = "${recommend.co-membership.rebuild-interval-ms:21600000}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        Set<Long> changedDuringScan = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changedDuringScan;
+
+        try {
+            long start = System.currentTimeMillis();
+
+            CoMembershipMatrix matrix = new CoMembershipMatrix();
+            long afterMemberId = 0L;
+
+            while (true) {
+                List<MembershipProjection> page =
+                        coMembershipRepository.findApprovedMembershipsAfter(afterMemberId, pageSize);
+
+                for (MembershipProjection row : page) {
+                    matrix.addMembership(row.getUserId(), row.getGroupId());
+                    afterMemberId = row.getMemberId();
+                }
+
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+
+            coMembershipIndex.replace(matrix);
+            changedDuringRebuild = null;
+
+            // 스캔 도중 이전 행렬에만 반영된 변경을 새 행렬에도 반영
+            if (!changedDuringScan.isEmpty()) {
+                replaceMembers(matrix, new ArrayList<>(changedDuringScan));
+            }
+
+            log.info("[CoMembership] 전체 재구성 완료 groups={} memberships={} ({}ms)",
+                    matrix.groupCount(), matrix.membershipCount(), System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            changedDuringRebuild = null;
+            log.warn("[CoMembership] 전체 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    public void rebuildIfNotReady() {
+        if (enabled && !coMembershipIndex.isReady()) {
+            rebuild();
+        }
+    }
+
+    // ===========================
+    // 증분 갱신 (변경 피드로 들어온 그룹의 멤버 diff)
+    // ===========================
+
+    /**
+     * 조회 실패는 호출한 쪽에서 다시 시도하도록 그대로 던짐
+     */
+    public void applyGroups(Collection<Long> groupIds) {
+        if (!enabled || !coMembershipIndex.isReady() || groupIds.isEmpty()) {
+            return;
+        }
+
+        Set<Long> scanning = changedDuringRebuild;
+        if (scanning != null) {
+            scanning.addAll(groupIds);
+        }
+
+        int changedMembers = replaceMembers(coMembershipIndex.current(), new ArrayList<>(groupIds));
+
+        if (changedMembers > 0) {
+            log.debug("[CoMembership] 증분 갱신 groups={} memberChanges={}", groupIds.size(), changedMembers);
+        }
+    }
+
+    private int replaceMembers(CoMembershipMatrix matrix, List<Long> groupIds) {
+        int changedMembers = 0;
+
+        for (int from = 0; from < groupIds.size(); from += GROUP_CHUNK_SIZE) {
+            List<Long> chunk = groupIds.subList(from, Math.min(from + GROUP_CHUNK_SIZE, groupIds.size()));
+
+            Map<Long, List<Long>> members = new HashMap<>();
+            for (MembershipProjection row : coMembershipRepository.findApprovedMembersOfGroups(chunk)) {
+                members.computeIfAbsent(row.getGroupId(), k -> new ArrayList<>()).add(row.getUserId());
+            }
+
+            // 멤버가 하나도 안 남은 그룹은 빈 배열 → 행렬에서 제거
+            for (Long groupId : chunk) {
+                changedMembers += matrix.replaceGroupMembers(groupId, toSortedArray(members.get(groupId)));
+            }
+        }
+        return changedMembers;
+    }
+
+    private long[] toSortedArray(List<Long> userIds) {
+        if (userIds == null) {
+            return new long[0];
+        }
+        return userIds.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+    }
+}
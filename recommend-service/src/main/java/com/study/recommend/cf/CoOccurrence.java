@@ -0,0 +1,20 @@
+package com.study.recommend.cf;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기준 그룹과 멤버를 공유하는 다른 그룹 한 건
+ */
+@Getter
+@AllArgsConstructor
+public class CoOccurrence {
+
+    private final long groupId;
+
+    // 두 그룹 모두에 APPROVED 인 사용자 수
+    private final int coMemberCount;
+
+    // 상대 그룹의 APPROVED 멤버 수
+    private final int memberCount;
+}
@@ -0,0 +1,167 @@
+package com.study.recommend.cf;
+
+/**
+ * long → int 오픈 어드레싱 해시맵 (선형 탐사, 박싱 없음)
+ *
+ * - 키 0 은 빈 슬롯 표시용이라 사용할 수 없음 (group_id 는 1 부터)
+ * - 삭제는 backward-shift 로 처리해서 tombstone 이 쌓이지 않음
+ * - 동기화 없음: CoMembershipMatrix 의 락 안에서만 사용
+ */
+class LongIntHashMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    LongIntHashMap() {
+        this(8);
+    }
+
+    LongIntHashMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expected / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(long key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    /**
+     * key 의 값에 delta 를 더하고, 결과가 0 이하가 되면 키를 지운다.
+     * @return 더한 뒤의 값 (지워졌으면 0)
+     */
+    int addTo(long key, int delta) {
+        checkKey(key);
+
+        int slot = slotOf(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                int updated = values[slot] + delta;
+                if (updated <= 0) {
+                    removeAt(slot);
+                    return 0;
+                }
+                values[slot] = updated;
+                return updated;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (delta <= 0) {
+            return 0;
+        }
+
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size >= resizeAt) {
+            allocateAndRehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    /**
+     * 모든 (키, 값) 순회
+     */
+    void forEach(LongIntConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    interface LongIntConsumer {
+        void accept(long key, int value);
+    }
+
+    // ===========================
+    // 내부 구현
+    // ===========================
+    private int find(long key) {
+        if (key == 0) return -1;
+
+        int slot = slotOf(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeAt(int slot) {
+        size--;
+
+        // 뒤에 이어진 클러스터를 한 칸씩 당겨서 탐사 경로를 유지
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0) {
+            int home = slotOf(keys[next]);
+            boolean movable = (next > gap)
+                    ? (home <= gap || home > next)
+                    : (home <= gap && home > next);
+            if (movable) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = 0;
+    }
+
+    private int slotOf(long key) {
+        // murmur3 fmix64
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void allocateAndRehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+
+        allocate(capacity);
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slotOf(oldKeys[i]);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    private static void checkKey(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("키 0 은 사용할 수 없습니다.");
+        }
+    }
+}
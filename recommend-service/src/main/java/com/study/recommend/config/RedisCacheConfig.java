@@ -0,0 +1,48 @@
+package com.study.recommend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.recommend.cache.PopularCandidateRemoteStore;
+import com.study.recommend.cache.RedisPopularCandidateStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * 인기 추천 셀 후보 캐시 L2 (Redis)
+ *
+ * Redis 자동 설정은 애플리케이션에서 제외돼 있으므로,
+ * recommend.cache.popular.redis.enabled=true 일 때만 여기서 직접 연결을 만든다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recommend.cache.popular.redis.enabled", havingValue = "true")
+public class RedisCacheConfig {
+
+    @Bean
+    public LettuceConnectionFactory recommendRedisConnectionFactory(
+            @Value("${spring.data.redis.host:localhost}") String host,
+            @Value("${spring.data.redis.port:6379}") int port,
+            @Value("${spring.data.redis.password:}") String password) {
+
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(host, port);
+        if (StringUtils.hasText(password)) {
+            config.setPassword(password);
+        }
+        return new LettuceConnectionFactory(config);
+    }
+
+    @Bean
+    public StringRedisTemplate recommendRedisTemplate(LettuceConnectionFactory recommendRedisConnectionFactory) {
+        return new StringRedisTemplate(recommendRedisConnectionFactory);
+    }
+
+    @Bean
+    public PopularCandidateRemoteStore popularCandidateRemoteStore(StringRedisTemplate recommendRedisTemplate,
+                                                                  ObjectMapper objectMapper) {
+        return new RedisPopularCandidateStore(recommendRedisTemplate, objectMapper);
+    }
+}
@@ -59,8 +59,15 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(auth -> auth
 
-                        // 헬스체크는 항상 허용
-                        .requestMatchers("/actuator/health", "/health", "/", "/favicon.ico").permitAll()
+                        // 헬스체크 / 지표 수집은 항상 허용
+                        .requestMatchers("/actuator/health", "/health", "/", "/favicon.ico",
+                                "/actuator/prometheus").permitAll()
+
+                        // 내부 서비스 통신 (캐시 무효화)
+                        .requestMatchers("/internal/recommend/**").permitAll()
+
+                        // 배치 추천은 다른 사용자 태그를 다루므로 관리자만
+                        .requestMatchers("/api/recommend/tag/batch").hasRole("ADMIN")
 
                         // 추천 API는 모두 인증 필요
                         .requestMatchers("/api/recommend/**").authenticated()
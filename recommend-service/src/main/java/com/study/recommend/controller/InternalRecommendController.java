@@ -0,0 +1,26 @@
+package com.study.recommend.controller;
+
+import com.study.recommend.tag.UserTagCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/internal/recommend")   // 내부 서비스 통신 전용
+@RequiredArgsConstructor
+public class InternalRecommendController {
+
+    private final UserTagCache userTagCache;
+
+    /**
+     * 관심 태그 캐시 무효화 (user-service 가 태그 수정 커밋 후 호출)
+     * DELETE /internal/recommend/users/{userId}/tags
+     *
+     * 호출을 받은 인스턴스만 즉시 비워지고, 나머지는 변경 피드(UserChangedEvent)로 정리됨
+     */
+    @DeleteMapping("/users/{userId}/tags")
+    public ResponseEntity<Void> evictUserTags(@PathVariable Long userId) {
+        userTagCache.invalidate(userId);
+        return ResponseEntity.noContent().build();
+    }
+}
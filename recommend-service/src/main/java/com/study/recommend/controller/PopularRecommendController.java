@@ -1,10 +1,17 @@
 package com.study.recommend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.recommend.dto.PopularLocationGroupDto;
 import com.study.recommend.dto.PopularLocationResponse;
 import com.study.recommend.service.PopularLocationService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/recommend")
@@ -12,22 +19,73 @@ import org.springframework.web.bind.annotation.*;
 public class PopularRecommendController {
 
     private final PopularLocationService popularLocationService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 인기 + 위치 기반 스터디 추천함
      * GET /api/recommend/popular?lat=..&lng=..&radiusKm=..&limit=..&popWeight=..&distanceWeight=..
+     * "더 보기" 는 이전 응답의 nextCursor 를 cursor 로 넘김
      */
     @GetMapping("/popular")
-    public PopularLocationResponse getPopularGroups(
+    public ResponseEntity<?> getPopularGroups(
             @RequestParam("lat") double latitude,
             @RequestParam("lng") double longitude,
             @RequestParam(value = "radiusKm", required = false) Double radiusKm,
             @RequestParam(value = "limit", required = false) Integer limit,
             @RequestParam(value = "popWeight", required = false) Double popWeight,
-            @RequestParam(value = "distanceWeight", required = false) Double distanceWeight
+            @RequestParam(value = "distanceWeight", required = false) Double distanceWeight,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        return popularLocationService.getPopularGroupsByLocation(
-                latitude, longitude, radiusKm, limit, popWeight, distanceWeight
-        );
+        try {
+            return ResponseEntity.ok(popularLocationService.getPopularGroupsByLocation(
+                    latitude, longitude, radiusKm, limit, popWeight, distanceWeight, cursor
+            ));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서 → 400
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 인기 추천 스트리밍 모드
+     * GET /api/recommend/popular?stream=true&...  →  그룹 한 개당 한 줄씩 NDJSON, 다음 커서는 X-Next-Cursor 헤더
+     */
+    @GetMapping(value = "/popular", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> getPopularGroupsStream(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lng") double longitude,
+            @RequestParam(value = "radiusKm", required = false) Double radiusKm,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "popWeight", required = false) Double popWeight,
+            @RequestParam(value = "distanceWeight", required = false) Double distanceWeight,
+            @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        PopularLocationResponse response;
+        try {
+            response = popularLocationService.getPopularGroupsByLocation(
+                    latitude, longitude, radiusKm, limit, popWeight, distanceWeight, cursor
+            );
+        } catch (IllegalArgumentException e) {
+            // 스트리밍 응답 타입 그대로 400 + 메시지
+            byte[] message = e.getMessage().getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(out -> out.write(message));
+        }
+
+        StreamingResponseBody body = out -> {
+            for (PopularLocationGroupDto group : response.getGroups()) {
+                out.write(objectMapper.writeValueAsBytes(group));
+                out.write('\n');
+                out.flush();
+            }
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"));
+        if (response.getNextCursor() != null) {
+            builder.header("X-Next-Cursor", response.getNextCursor());
+        }
+        return builder.body(body);
     }
 }
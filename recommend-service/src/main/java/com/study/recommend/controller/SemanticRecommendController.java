@@ -0,0 +1,35 @@
+package com.study.recommend.controller;
+
+import com.study.common.security.JwtTokenProvider;
+import com.study.recommend.dto.SemanticRecommendResponse;
+import com.study.recommend.service.SemanticRecommendService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/recommend")
+@RequiredArgsConstructor
+public class SemanticRecommendController {
+
+    private final SemanticRecommendService semanticRecommendService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 의미 기반 태그 추천 (태그 임베딩 유사도, 위치 무관)
+     * GET /api/recommend/semantic?limit=..
+     */
+    @GetMapping("/semantic")
+    public SemanticRecommendResponse getSemanticRecommend(
+            HttpServletRequest request,
+            @RequestParam(required = false, defaultValue = "10") int limit
+    ) {
+
+        String header = request.getHeader("Authorization");
+        String token = header.substring(7);
+        Long userId = jwtTokenProvider.getUserId(token);
+
+        return semanticRecommendService.getSemanticGroups(userId, limit);
+    }
+}
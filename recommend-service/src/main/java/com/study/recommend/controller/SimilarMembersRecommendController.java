@@ -0,0 +1,36 @@
+package com.study.recommend.controller;
+
+import com.study.common.security.JwtTokenProvider;
+import com.study.recommend.dto.SimilarGroupResponse;
+import com.study.recommend.service.SimilarMembersService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/recommend")
+@RequiredArgsConstructor
+public class SimilarMembersRecommendController {
+
+    private final SimilarMembersService similarMembersService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 공동 멤버십 기반 추천 ("이 그룹 멤버들이 함께 가입한 그룹")
+     * GET /api/recommend/similar-members?groupId=..&limit=..
+     */
+    @GetMapping("/similar-members")
+    public SimilarGroupResponse getSimilarMemberGroups(
+            HttpServletRequest request,
+            @RequestParam Long groupId,
+            @RequestParam(required = false, defaultValue = "10") int limit
+    ) {
+
+        String header = request.getHeader("Authorization");
+        String token = header.substring(7);
+        Long userId = jwtTokenProvider.getUserId(token);
+
+        return similarMembersService.getSimilarGroups(userId, groupId, limit);
+    }
+}
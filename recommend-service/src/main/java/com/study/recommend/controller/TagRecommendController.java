@@ -1,12 +1,22 @@
 package com.study.recommend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.common.security.JwtTokenProvider;
+import com.study.recommend.dto.TagBatchRequest;
+import com.study.recommend.dto.TagRecommendGroupDto;
 import com.study.recommend.dto.TagRecommendResponse;
+import com.study.recommend.service.TagBatchRecommendService;
 import com.study.recommend.service.TagRecommendService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/recommend")
@@ -14,25 +24,114 @@ import jakarta.servlet.http.HttpServletRequest;
 public class TagRecommendController {
 
     private final TagRecommendService tagRecommendService;
+    private final TagBatchRecommendService tagBatchRecommendService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/tag")
-    public TagRecommendResponse getTagBasedRecommend(
+    public ResponseEntity<?> getTagBasedRecommend(
             HttpServletRequest request,
             @RequestParam double lat,
             @RequestParam double lng,
             @RequestParam(required = false, defaultValue = "5") double radiusKm,
             @RequestParam(required = false, defaultValue = "10") int limit,
             @RequestParam(required = false, defaultValue = "0.5") double alpha,
-            @RequestParam(required = false, defaultValue = "0.5") double beta
+            @RequestParam(required = false, defaultValue = "0.5") double beta,
+            @RequestParam(required = false) String cursor
     ) {
 
+        try {
+            return ResponseEntity.ok(recommend(request, lat, lng, radiusKm, limit, alpha, beta, cursor));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서 → 400
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 태그 추천 스트리밍 모드
+     * GET /api/recommend/tag?stream=true&...  →  그룹 한 개당 한 줄씩 NDJSON, 다음 커서는 X-Next-Cursor 헤더
+     */
+    @GetMapping(value = "/tag", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> getTagBasedRecommendStream(
+            HttpServletRequest request,
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false, defaultValue = "5") double radiusKm,
+            @RequestParam(required = false, defaultValue = "10") int limit,
+            @RequestParam(required = false, defaultValue = "0.5") double alpha,
+            @RequestParam(required = false, defaultValue = "0.5") double beta,
+            @RequestParam(required = false) String cursor
+    ) {
+        TagRecommendResponse response;
+        try {
+            response = recommend(request, lat, lng, radiusKm, limit, alpha, beta, cursor);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        }
+
+        StreamingResponseBody body = out -> {
+            for (TagRecommendGroupDto group : response.getGroups()) {
+                out.write(objectMapper.writeValueAsBytes(group));
+                out.write('\n');
+                out.flush();
+            }
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"));
+        if (response.getNextCursor() != null) {
+            builder.header("X-Next-Cursor", response.getNextCursor());
+        }
+        return builder.body(body);
+    }
+
+    private TagRecommendResponse recommend(HttpServletRequest request, double lat, double lng, double radiusKm,
+                                           int limit, double alpha, double beta, String cursor) {
         String header = request.getHeader("Authorization");
         String token = header.substring(7);
         Long userId = jwtTokenProvider.getUserId(token);
 
         return tagRecommendService.getTagBasedGroups(
-                userId, lat, lng, radiusKm, limit, alpha, beta
+                userId, lat, lng, radiusKm, limit, alpha, beta, cursor
         );
     }
+
+    // 스트리밍 응답 타입 그대로 400 + 메시지
+    private static ResponseEntity<StreamingResponseBody> badRequest(IllegalArgumentException e) {
+        byte[] message = e.getMessage().getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(out -> out.write(message));
+    }
+
+    /**
+     * 여러 사용자 태그 추천 (관리자 / 배치 작업 전용)
+     * POST /api/recommend/tag/batch  →  사용자 한 명당 한 줄씩 NDJSON 으로 스트리밍
+     */
+    @PostMapping("/tag/batch")
+    public ResponseEntity<StreamingResponseBody> getTagBasedRecommendBatch(
+            @RequestBody TagBatchRequest batchRequest
+    ) {
+        try {
+            tagBatchRecommendService.validate(batchRequest);
+        } catch (IllegalArgumentException e) {
+            // 빈 / 너무 큰 배치 → 스트림을 열기 전에 400
+            return badRequest(e);
+        }
+
+        StreamingResponseBody body = out -> tagBatchRecommendService.recommend(batchRequest, result -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
 }
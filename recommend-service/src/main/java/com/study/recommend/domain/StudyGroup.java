@@ -37,6 +37,9 @@ public class StudyGroup {
     @Enumerated(EnumType.STRING)
     private GroupStatus status;
 
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     public enum GroupStatus {
         PENDING, ACTIVE, INACTIVE, REJECTED
     }
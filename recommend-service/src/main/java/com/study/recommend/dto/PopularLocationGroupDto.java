@@ -16,6 +16,7 @@ public class PopularLocationGroupDto {
 
     private Double popScore;
     private Double distanceScore;
+    private Double trendScore;
     private Double finalScore;
 
     // 기본 생성자
@@ -25,7 +26,8 @@ public class PopularLocationGroupDto {
     public PopularLocationGroupDto(Long groupId, String title, String description,
                                    long memberCount, Integer maxMembers, String status,
                                    Double latitude, Double longitude, Double distanceKm,
-                                   Double popScore, Double distanceScore, Double finalScore) {
+                                   Double popScore, Double distanceScore, Double trendScore,
+                                   Double finalScore) {
 
         this.groupId = groupId;
         this.title = title;
@@ -38,6 +40,7 @@ public class PopularLocationGroupDto {
         this.distanceKm = distanceKm;
         this.popScore = popScore;
         this.distanceScore = distanceScore;
+        this.trendScore = trendScore;
         this.finalScore = finalScore;
     }
 
@@ -53,5 +56,6 @@ public class PopularLocationGroupDto {
     public Double getDistanceKm() { return distanceKm; }
     public Double getPopScore() { return popScore; }
     public Double getDistanceScore() { return distanceScore; }
+    public Double getTrendScore() { return trendScore; }
     public Double getFinalScore() { return finalScore; }
 }
@@ -3,15 +3,20 @@ package com.study.recommend.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Getter
 @Builder
 @AllArgsConstructor
+@NoArgsConstructor
 public class PopularLocationResponse {
 
     private RecommendCriteria criteria;
     private double radiusKm;
     private int limit;
     private List<PopularLocationGroupDto> groups;
+
+    // 다음 페이지 커서 (더 없으면 null)
+    private String nextCursor;
 }
@@ -2,5 +2,7 @@ package com.study.recommend.dto;
 
 public enum RecommendCriteria {
     POPULARITY_LOCATION,
-    TAG_LOCATION
+    TAG_LOCATION,
+    CO_MEMBERSHIP,
+    SEMANTIC_TAG
 }
@@ -0,0 +1,24 @@
+package com.study.recommend.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SemanticGroupDto {
+
+    private Long studyGroupId;
+    private String name;
+    private String description;
+
+    private List<String> category;
+
+    private Double latitude;
+    private Double longitude;
+
+    // 사용자 태그 평균 벡터 · 그룹 태그 평균 벡터 (코사인)
+    private double similarity;
+}
@@ -0,0 +1,14 @@
+package com.study.recommend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import java.util.List;
+
+@Getter
+@Builder
+public class SemanticRecommendResponse {
+
+    private final RecommendCriteria criteria;
+    private final int limit;
+    private final List<SemanticGroupDto> groups;
+}
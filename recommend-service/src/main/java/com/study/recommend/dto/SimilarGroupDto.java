@@ -0,0 +1,27 @@
+package com.study.recommend.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimilarGroupDto {
+
+    private Long studyGroupId;
+    private String name;
+    private String description;
+
+    private List<String> category;
+
+    private int memberCount;
+    private Integer maxMembers;
+
+    // 기준 그룹과 공동 멤버 수
+    private int coMemberCount;
+
+    // 공동 멤버 수 / sqrt(기준 그룹 멤버 수 × 이 그룹 멤버 수)
+    private double similarity;
+}
@@ -0,0 +1,15 @@
+package com.study.recommend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import java.util.List;
+
+@Getter
+@Builder
+public class SimilarGroupResponse {
+
+    private final RecommendCriteria criteria;
+    private final Long groupId;
+    private final int limit;
+    private final List<SimilarGroupDto> groups;
+}
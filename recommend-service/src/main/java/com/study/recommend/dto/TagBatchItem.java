@@ -0,0 +1,14 @@
+package com.study.recommend.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagBatchItem {
+
+    private Long userId;
+    private double lat;
+    private double lng;
+}
@@ -0,0 +1,22 @@
+package com.study.recommend.dto;
+
+import lombok.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배치 태그 추천 요청 (반경/limit/가중치는 전체 공통, 위치는 사용자별)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagBatchRequest {
+
+    private double radiusKm = 5;
+    private int limit = 10;
+    private double alpha = 0.5;
+    private double beta = 0.5;
+
+    private List<TagBatchItem> users = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package com.study.recommend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 배치 태그 추천 응답 한 줄 (NDJSON)
+ * 실패한 사용자는 recommendation 대신 error 만 채워서 나머지는 계속 내려보낸다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TagBatchResult {
+
+    private final Long userId;
+    private final TagRecommendResponse recommendation;
+    private final String error;
+}
@@ -12,4 +12,7 @@ public class TagRecommendResponse {
     private final double radiusKm;
     private final int limit;
     private final List<TagRecommendGroupDto> groups;
+
+    // 다음 페이지 커서 (더 없으면 null)
+    private final String nextCursor;
 }
@@ -0,0 +1,28 @@
+package com.study.recommend.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드 한 건 (무엇이 바뀌었는지만, 내용은 소비자가 다시 읽음)
+ */
+@Getter
+@AllArgsConstructor
+public class ChangeEvent {
+
+    private final ChangeType type;
+    private final Long entityId;
+
+    // 원본 행의 updated_at (모르면 null)
+    private final LocalDateTime version;
+
+    public static ChangeEvent group(Long groupId) {
+        return new ChangeEvent(ChangeType.GROUP, groupId, null);
+    }
+
+    public static ChangeEvent user(Long userId) {
+        return new ChangeEvent(ChangeType.USER, userId, null);
+    }
+}
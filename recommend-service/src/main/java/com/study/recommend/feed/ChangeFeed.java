@@ -0,0 +1,34 @@
+package com.study.recommend.feed;
+
+import java.util.List;
+
+/**
+ * recommend-service 가 읽는 외부 테이블(Study_groups / Group_members / Users)의 변경 피드
+ *
+ * 사용 순서: start() → 전체 적재 → poll() 반복
+ *          (스냅샷이 있으면 resume(스냅샷의 position) → 스냅샷 복원 → poll() 반복)
+ * start()/resume() 이후에 커밋된 변경은 반드시 poll() 에 한 번 이상 나온다 (중복 가능, 소비자는 멱등).
+ */
+public interface ChangeFeed {
+
+    /**
+     * 현재 시점을 기준점으로 잡음 (전체 적재 직전에 호출)
+     */
+    void start();
+
+    /**
+     * 지금까지 poll 로 내보낸 위치 (스냅샷에 같이 저장)
+     */
+    String position();
+
+    /**
+     * position() 으로 받은 위치부터 다시 읽음
+     * @throws IllegalArgumentException 이 피드가 만든 위치가 아니면
+     */
+    void resume(String position);
+
+    /**
+     * 지난 poll 이후 변경분 (없으면 빈 목록)
+     */
+    List<ChangeEvent> poll();
+}
@@ -0,0 +1,198 @@
+package com.study.recommend.feed;
+
+import com.study.recommend.cf.CoMembershipRefresher;
+import com.study.recommend.index.GroupIndexRefresher;
+import com.study.recommend.snapshot.IndexSnapshot;
+import com.study.recommend.snapshot.IndexSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 변경 피드 → 인메모리 상태 반영
+ *
+ * 1) 기동 시
+ *    - 로컬 스냅샷이 있으면 복원하고, 피드는 스냅샷에 저장된 위치부터 (그 이후 변경만 따라잡음)
+ *    - 없으면 피드 기준점을 먼저 잡고 전체 적재 (적재 중 바뀐 것은 피드로 다시 들어옴)
+ * 2) 이후: 짧은 주기로 poll 해서 바뀐 것만 반영
+ *    - GROUP → 공간 인덱스(GroupIndexRefresher) + 공동 멤버십 행렬(CoMembershipRefresher)
+ *              (인덱스 반영 시 GroupChangedEvent 로 태그 캐시/응답 캐시도 같이 정리됨)
+ *    - USER  → UserChangedEvent 발행 (사용자 단위 캐시용)
+ * 3) 주기적으로 (피드 위치 + 인덱스) 를 함께 캡처해서 스냅샷 저장
+ *
+ * 기동(main 스레드)과 poll(스케줄러 스레드)은 synchronized 로 직렬화
+ * → 인덱스/행렬 갱신은 항상 한 번에 한 스레드
+ */
+@Slf4j
+@Component
+public class ChangeFeedConsumer {
+
+    private final ChangeFeed changeFeed;
+    private final GroupIndexRefresher groupIndexRefresher;
+    private final CoMembershipRefresher coMembershipRefresher;
+    private final IndexSnapshotService indexSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean started = false;
+
+    // 반영 도중 실패한 그룹 (스케줄러 스레드에서만 접근)
+    private final Set<Long> failedGroupIds = new LinkedHashSet<>();
+
+    public ChangeFeedConsumer(ChangeFeed changeFeed,
+                              GroupIndexRefresher groupIndexRefresher,
+                              CoMembershipRefresher coMembershipRefresher,
+                              IndexSnapshotService indexSnapshotService,
+                              ApplicationEventPublisher eventPublisher) {
+        this.changeFeed = changeFeed;
+        this.groupIndexRefresher = groupIndexRefresher;
+        this.coMembershipRefresher = coMembershipRefresher;
+        this.indexSnapshotService = indexSnapshotService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // ===========================
+    // 기동: 스냅샷 복원 또는 기준점 → 전체 적재
+    // ===========================
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void bootstrap() {
+        if (restoreSnapshot()) {
+            // 스냅샷에 없던 인덱스만 전체 적재
+            groupIndexRefresher.loadIfNotReady();
+            coMembershipRefresher.rebuildIfNotReady();
+            return;
+        }
+
+        // 피드 기준점을 못 잡아도 전체 적재는 진행 (기준점은 poll 에서 재시도)
+        tryStart();
+
+        groupIndexRefresher.loadAll();
+        coMembershipRefresher.rebuild();
+    }
+
+    // ===========================
+    // 변경분 반영
+    // ===========================
+    @Scheduled(
+            fixedDelayString = "${recommend.feed.poll-interval-ms:2000}",
+            initialDelayString = "${recommend.feed.poll-interval-ms:2000}"
+    )
+    public synchronized void poll() {
+        if (!started) {
+            // 기준점을 늦게 잡았으면 그 사이 변경을 놓쳤을 수 있으니 한 번 더 전체 적재
+            if (tryStart()) {
+                groupIndexRefresher.loadAll();
+                coMembershipRefresher.rebuild();
+            }
+            return;
+        }
+
+        // 전체 적재에 실패한 상태면 다시 시도 (성공하면 이후 변경은 피드로 반영)
+        groupIndexRefresher.loadIfNotReady();
+        coMembershipRefresher.rebuildIfNotReady();
+
+        try {
+            List<ChangeEvent> events = changeFeed.poll();
+            if (events.isEmpty() && failedGroupIds.isEmpty()) {
+                return;
+            }
+            apply(events);
+
+        } catch (Exception e) {
+            log.warn("[ChangeFeed] 변경분 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean restoreSnapshot() {
+        IndexSnapshot snapshot = indexSnapshotService.load();
+        if (snapshot == null) {
+            return false;
+        }
+
+        try {
+            changeFeed.resume(snapshot.getFeedPosition());
+        } catch (Exception e) {
+            log.warn("[ChangeFeed] 스냅샷 위치로 이어 읽기 실패 → 전체 적재: {}", e.getMessage());
+            return false;
+        }
+
+        indexSnapshotService.restore(snapshot);
+        started = true;
+
+        log.info("[ChangeFeed] 스냅샷 복원 완료 → {} 이후 변경만 반영", snapshot.getFeedPosition());
+        return true;
+    }
+
+    private boolean tryStart() {
+        try {
+            changeFeed.start();
+            started = true;
+        } catch (Exception e) {
+            log.warn("[ChangeFeed] 기준점 설정 실패 → 다음 poll 에서 재시도: {}", e.getMessage());
+        }
+        return started;
+    }
+
+    // ===========================
+    // 스냅샷 저장
+    // ===========================
+    @Scheduled(
+            fixedDelayString = "${recommend.snapshot.interval-ms:600000}",
+            initialDelayString = "${recommend.snapshot.interval-ms:600000}"
+    )
+    public void writeSnapshot() {
+        if (!indexSnapshotService.isEnabled()) {
+            return;
+        }
+
+        // 캡처만 poll 과 직렬화 (파일 쓰기는 락 밖에서)
+        IndexSnapshot snapshot;
+        synchronized (this) {
+            // 반영 못 한 변경이 있으면 피드 위치와 인덱스 상태가 어긋나므로 다음 주기로
+            if (!started || !failedGroupIds.isEmpty()) {
+                return;
+            }
+            snapshot = indexSnapshotService.capture(changeFeed.position());
+        }
+
+        if (snapshot != null) {
+            indexSnapshotService.write(snapshot);
+        }
+    }
+
+    void apply(List<ChangeEvent> events) {
+        // 같은 poll 안에서 여러 번 바뀐 건 한 번만 반영 (지난번에 실패한 그룹도 같이)
+        Set<Long> groupIds = new LinkedHashSet<>(failedGroupIds);
+        Set<Long> userIds = new LinkedHashSet<>();
+
+        for (ChangeEvent event : events) {
+            switch (event.getType()) {
+                case GROUP -> groupIds.add(event.getEntityId());
+                case USER -> userIds.add(event.getEntityId());
+            }
+        }
+
+        for (Long userId : userIds) {
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
+        }
+
+        if (!groupIds.isEmpty()) {
+            // 피드는 이미 다음 위치로 넘어갔으므로, 실패하면 다음 poll 에서 다시 반영
+            failedGroupIds.clear();
+            failedGroupIds.addAll(groupIds);
+
+            groupIndexRefresher.applyGroups(groupIds);
+            coMembershipRefresher.applyGroups(groupIds);
+
+            failedGroupIds.clear();
+        }
+
+        log.debug("[ChangeFeed] 반영 groups={} users={}", groupIds.size(), userIds.size());
+    }
+}
@@ -0,0 +1,10 @@
+package com.study.recommend.feed;
+
+public enum ChangeType {
+
+    // Study_groups 행 또는 그 그룹의 멤버 구성이 바뀜 (study-service 가 updated_at 갱신)
+    GROUP,
+
+    // Users 행 또는 관심 태그가 바뀜 (user-service 가 updated_at 갱신)
+    USER
+}
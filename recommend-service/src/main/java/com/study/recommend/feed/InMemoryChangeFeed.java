@@ -0,0 +1,64 @@
+package com.study.recommend.feed;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 프로세스 내부 변경 피드 (테스트 / 로컬용, recommend.feed.type=in-memory)
+ *
+ * publish 한 이벤트를 다음 poll 에서 그대로 돌려준다.
+ */
+@Component
+@ConditionalOnProperty(name = "recommend.feed.type", havingValue = "in-memory")
+public class InMemoryChangeFeed implements ChangeFeed {
+
+    private static final String POSITION = "in-memory";
+
+    private final ConcurrentLinkedQueue<ChangeEvent> pending = new ConcurrentLinkedQueue<>();
+
+    public void publish(ChangeEvent event) {
+        pending.add(event);
+    }
+
+    public void publishGroupChanged(Long groupId) {
+        publish(ChangeEvent.group(groupId));
+    }
+
+    public void publishUserChanged(Long userId) {
+        publish(ChangeEvent.user(userId));
+    }
+
+    @Override
+    public void start() {
+        // 기준점 이전 변경은 전체 적재에 포함된 것으로 봄
+        pending.clear();
+    }
+
+    @Override
+    public String position() {
+        return POSITION;
+    }
+
+    @Override
+    public void resume(String position) {
+        if (!POSITION.equals(position)) {
+            throw new IllegalArgumentException("in-memory 피드 위치가 아닙니다: " + position);
+        }
+        // 프로세스 밖에 남는 기록이 없으므로 start() 와 같음
+        start();
+    }
+
+    @Override
+    public List<ChangeEvent> poll() {
+        List<ChangeEvent> events = new ArrayList<>();
+        ChangeEvent event;
+        while ((event = pending.poll()) != null) {
+            events.add(event);
+        }
+        return events;
+    }
+}
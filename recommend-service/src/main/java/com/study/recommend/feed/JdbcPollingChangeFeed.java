@@ -0,0 +1,151 @@
+package com.study.recommend.feed;
+
+import com.study.recommend.repository.ChangeFeedRepository;
+import com.study.recommend.repository.GroupVersionProjection;
+import com.study.recommend.repository.UserVersionProjection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Study_groups / Users 의 updated_at 워터마크를 폴링하는 변경 피드
+ *
+ * - 커밋이 updated_at 보다 늦게 보이는 경우를 위해 워터마크를 overlap 만큼 겹쳐서 조회
+ * - 겹쳐 읽은 행 중 (id, updated_at) 이 이미 내보낸 것과 같으면 다시 내보내지 않음
+ *   → 소비자에게는 실제로 바뀐 행만 전달
+ * - hard delete 는 잡지 못하므로 소비자 쪽 대조(reconcile) 로 정리
+ */
+@Component
+@ConditionalOnProperty(name = "recommend.feed.type", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcPollingChangeFeed implements ChangeFeed {
+
+    // 기준점이 없을 때 (테이블이 비어 있음)
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ChangeFeedRepository changeFeedRepository;
+    private final Duration overlap;
+
+    private final Source groups = new Source(ChangeType.GROUP);
+    private final Source users = new Source(ChangeType.USER);
+
+    public JdbcPollingChangeFeed(ChangeFeedRepository changeFeedRepository,
+                                 @Value("${recommend.feed.overlap-seconds:30}") long overlapSeconds) {
+        this.changeFeedRepository = changeFeedRepository;
+        this.overlap = Duration.ofSeconds(overlapSeconds);
+    }
+
+    @Override
+    public synchronized void start() {
+        GroupVersionProjection latestGroup = changeFeedRepository.findLatestGroupVersion();
+        groups.reset(latestGroup != null ? latestGroup.getUpdatedAt() : null);
+
+        UserVersionProjection latestUser = changeFeedRepository.findLatestUserVersion();
+        users.reset(latestUser != null ? latestUser.getUpdatedAt() : null);
+    }
+
+    // "groups=<updated_at>;users=<updated_at>"
+    @Override
+    public synchronized String position() {
+        return "groups=" + groups.watermark + ";users=" + users.watermark;
+    }
+
+    @Override
+    public synchronized void resume(String position) {
+        LocalDateTime groupWatermark = null;
+        LocalDateTime userWatermark = null;
+
+        try {
+            for (String part : position.split(";")) {
+                String[] kv = part.split("=", 2);
+                if (kv.length != 2) continue;
+                if ("groups".equals(kv[0])) groupWatermark = LocalDateTime.parse(kv[1]);
+                if ("users".equals(kv[0])) userWatermark = LocalDateTime.parse(kv[1]);
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("피드 위치 형식이 잘못됐습니다: " + position, e);
+        }
+
+        if (groupWatermark == null || userWatermark == null) {
+            throw new IllegalArgumentException("피드 위치 형식이 잘못됐습니다: " + position);
+        }
+
+        groups.reset(groupWatermark);
+        users.reset(userWatermark);
+    }
+
+    @Override
+    public synchronized List<ChangeEvent> poll() {
+        // 두 조회가 모두 성공한 뒤에만 워터마크를 옮김 (중간에 실패하면 다음 poll 에서 그대로 다시)
+        List<GroupVersionProjection> changedGroups = changeFeedRepository.findGroupsChangedSince(groups.since());
+        List<UserVersionProjection> changedUsers = changeFeedRepository.findUsersChangedSince(users.since());
+
+        List<ChangeEvent> events = new ArrayList<>();
+
+        for (GroupVersionProjection row : changedGroups) {
+            groups.offer(row.getGroupId(), row.getUpdatedAt(), events);
+        }
+        groups.advance();
+
+        for (UserVersionProjection row : changedUsers) {
+            users.offer(row.getUserId(), row.getUpdatedAt(), events);
+        }
+        users.advance();
+
+        return events;
+    }
+
+    /**
+     * 테이블 하나의 워터마크 + 겹침 구간 안에서 이미 내보낸 버전
+     */
+    private class Source {
+
+        private final ChangeType type;
+        private LocalDateTime watermark = BEGINNING;
+        private LocalDateTime maxSeen = BEGINNING;
+        private final Map<Long, LocalDateTime> emitted = new HashMap<>();
+
+        private Source(ChangeType type) {
+            this.type = type;
+        }
+
+        void reset(LocalDateTime latest) {
+            watermark = (latest != null ? latest : BEGINNING);
+            maxSeen = watermark;
+            emitted.clear();
+        }
+
+        LocalDateTime since() {
+            return watermark.minus(overlap);
+        }
+
+        void offer(Long id, LocalDateTime version, List<ChangeEvent> out) {
+            if (version == null) {
+                return;
+            }
+            if (version.equals(emitted.get(id))) {
+                return;
+            }
+            emitted.put(id, version);
+            out.add(new ChangeEvent(type, id, version));
+            if (version.isAfter(maxSeen)) {
+                maxSeen = version;
+            }
+        }
+
+        void advance() {
+            watermark = maxSeen;
+
+            // 다음 조회 범위 밖으로 나간 버전은 잊어도 다시 읽힐 일이 없음
+            LocalDateTime horizon = since();
+            emitted.values().removeIf(v -> v.isBefore(horizon));
+        }
+    }
+}
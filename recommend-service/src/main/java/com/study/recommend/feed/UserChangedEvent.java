@@ -0,0 +1,14 @@
+package com.study.recommend.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 정보/관심 태그 변경 (사용자 단위 캐시 무효화용)
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    private final Long userId;
+}
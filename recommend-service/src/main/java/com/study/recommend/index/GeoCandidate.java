@@ -0,0 +1,65 @@
+package com.study.recommend.index;
+
+import com.study.recommend.repository.GroupPopularityProjection;
+import com.study.recommend.repository.PopularLocationProjection;
+import com.study.recommend.repository.TagLocationProjection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인덱스 조회 결과 (그룹 + 사용자와의 거리)
+ * 네이티브 쿼리 projection 과 같은 인터페이스를 구현해서 서비스 쪽 코드는 그대로 쓴다.
+ */
+public class GeoCandidate implements TagLocationProjection, PopularLocationProjection {
+
+    private final IndexedGroup group;
+    private final double distanceKm;
+    private final long memberCount;
+    private final Double joinVelocity;
+    private final LocalDateTime velocityUpdatedAt;
+
+    public GeoCandidate(IndexedGroup group, double distanceKm) {
+        this(group, distanceKm, 0L, null, null);
+    }
+
+    private GeoCandidate(IndexedGroup group, double distanceKm, long memberCount,
+                         Double joinVelocity, LocalDateTime velocityUpdatedAt) {
+        this.group = group;
+        this.distanceKm = distanceKm;
+        this.memberCount = memberCount;
+        this.joinVelocity = joinVelocity;
+        this.velocityUpdatedAt = velocityUpdatedAt;
+    }
+
+    public GeoCandidate withMemberCount(long memberCount) {
+        return new GeoCandidate(group, distanceKm, memberCount, joinVelocity, velocityUpdatedAt);
+    }
+
+    /**
+     * 인기도 롤업 값 채우기 (롤업 행이 없으면 null → 멤버 0, 가입 속도 0)
+     */
+    public GeoCandidate withPopularity(GroupPopularityProjection popularity) {
+        if (popularity == null) {
+            return new GeoCandidate(group, distanceKm, 0L, null, null);
+        }
+        long count = popularity.getMemberCount() == null ? 0L : popularity.getMemberCount();
+        return new GeoCandidate(group, distanceKm, count,
+                popularity.getJoinVelocity(), popularity.getVelocityUpdatedAt());
+    }
+
+    public IndexedGroup getGroup() { return group; }
+
+    @Override public Long getGroupId() { return group.getGroupId(); }
+    @Override public String getTitle() { return group.getTitle(); }
+    @Override public String getDescription() { return group.getDescription(); }
+    @Override public String getCategory() { return group.getCategory(); }
+    @Override public Long getMemberCount() { return memberCount; }
+    @Override public Integer getMaxMembers() { return group.getMaxMembers(); }
+    @Override public String getStatus() { return group.getStatus(); }
+    @Override public Double getLatitude() { return group.getLatitude(); }
+    @Override public Double getLongitude() { return group.getLongitude(); }
+    @Override public Double getDistanceKm() { return distanceKm; }
+    @Override public LocalDateTime getUpdatedAt() { return group.getUpdatedAt(); }
+    @Override public Double getJoinVelocity() { return joinVelocity; }
+    @Override public LocalDateTime getVelocityUpdatedAt() { return velocityUpdatedAt; }
+}
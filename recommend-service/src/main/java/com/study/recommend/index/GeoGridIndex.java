@@ -0,0 +1,181 @@
+package com.study.recommend.index;
+
+import com.study.recommend.scoring.GeoPoints;
+import com.study.recommend.scoring.GeoScoringEngine;
+import com.study.recommend.util.GeoBoundingBox;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ACTIVE 스터디 그룹의 인메모리 격자(grid) 공간 인덱스
+ *
+ * - 위도/경도를 cellSizeDeg 단위 셀로 나눠서 셀 키 → 그룹 목록으로 보관
+ * - 반경 조회 시 바운딩 박스에 걸치는 셀만 모아서, 정확한 거리는 GeoScoringEngine 으로 한 번에 필터
+ * - 갱신(upsert/remove)은 GroupIndexRefresher 단일 스레드에서만, 조회는 동시에 가능
+ * - 전체 적재는 새 격자를 따로 만든 뒤 참조 한 번으로 교체 → 조회 중에 빈/일부 인덱스가 보이지 않음
+ *
+ * ⚠️ 날짜변경선(경도 ±180) 근처 반경은 고려하지 않음 (국내 서비스 기준)
+ */
+@Component
+public class GeoGridIndex {
+
+    private final double cellSizeDeg;
+
+    // 현재 서비스 중인 격자 (replaceAll 때 통째로 교체)
+    private volatile Grid grid = new Grid();
+
+    private volatile boolean ready = false;
+
+    public GeoGridIndex(@Value("${recommend.index.cell-size-deg:0.02}") double cellSizeDeg) {
+        this.cellSizeDeg = cellSizeDeg;
+    }
+
+    // ===========================
+    // 갱신
+    // ===========================
+    public void upsert(IndexedGroup group) {
+        upsert(grid, group);
+    }
+
+    public void remove(Long groupId) {
+        Grid current = grid;
+        IndexedGroup previous = current.groups.remove(groupId);
+        if (previous != null) {
+            removeFromCell(current, cellKey(previous.getLatitude(), previous.getLongitude()), groupId);
+        }
+    }
+
+    /**
+     * 전체 적재 (기존 내용은 버림)
+     * 새 격자를 다 채운 뒤 교체하므로 그 사이 조회는 이전 격자를 그대로 본다.
+     */
+    public void replaceAll(Collection<IndexedGroup> all) {
+        Grid next = new Grid();
+        for (IndexedGroup group : all) {
+            upsert(next, group);
+        }
+        grid = next;
+        ready = true;
+    }
+
+    public IndexedGroup get(Long groupId) {
+        return grid.groups.get(groupId);
+    }
+
+    public Collection<IndexedGroup> all() {
+        return grid.groups.values();
+    }
+
+    public int size() {
+        return grid.groups.size();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ===========================
+    // 반경 조회 (가까운 순)
+    // ===========================
+    public List<GeoCandidate> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        if (radiusKm < 0) {
+            return new ArrayList<>();
+        }
+
+        Grid current = grid;
+        GeoBoundingBox box = GeoBoundingBox.of(latitude, longitude, radiusKm);
+
+        int minLatIdx = cellIndex(box.getMinLat());
+        int maxLatIdx = cellIndex(box.getMaxLat());
+        int minLngIdx = cellIndex(box.getMinLng());
+        int maxLngIdx = cellIndex(box.getMaxLng());
+
+        long cellCount = (long) (maxLatIdx - minLatIdx + 1) * (maxLngIdx - minLngIdx + 1);
+
+        // 1. 바운딩 박스에 걸치는 그룹 모으기
+        List<IndexedGroup> source;
+        if (cellCount > current.cells.size()) {
+            // 반경이 너무 넓으면 셀을 도는 것보다 전체를 훑는 게 더 쌈
+            source = new ArrayList<>(current.groups.values());
+        } else {
+            source = new ArrayList<>();
+            for (int latIdx = minLatIdx; latIdx <= maxLatIdx; latIdx++) {
+                for (int lngIdx = minLngIdx; lngIdx <= maxLngIdx; lngIdx++) {
+                    Map<Long, IndexedGroup> cell = current.cells.get(toKey(latIdx, lngIdx));
+                    if (cell != null) {
+                        source.addAll(cell.values());
+                    }
+                }
+            }
+        }
+
+        // 2. SoA 로 옮겨서 거리 계산 + 반경 필터를 한 번에
+        GeoPoints points = new GeoPoints(source.size());
+        for (IndexedGroup g : source) {
+            points.add(g.getSinLat(), g.getCosLat(), g.getSinLng(), g.getCosLng());
+        }
+
+        int[] hitIndexes = new int[source.size()];
+        double[] hitDistances = new double[source.size()];
+        int hits = GeoScoringEngine.getInstance()
+                .withinRadius(latitude, longitude, points, radiusKm, hitIndexes, hitDistances);
+
+        List<GeoCandidate> result = new ArrayList<>(hits);
+        for (int i = 0; i < hits; i++) {
+            result.add(new GeoCandidate(source.get(hitIndexes[i]), hitDistances[i]));
+        }
+
+        result.sort(Comparator.comparingDouble(GeoCandidate::getDistanceKm));
+        return result;
+    }
+
+    // ===========================
+    // 셀 키 계산
+    // ===========================
+    private void upsert(Grid target, IndexedGroup group) {
+        long newCell = cellKey(group.getLatitude(), group.getLongitude());
+
+        IndexedGroup previous = target.groups.put(group.getGroupId(), group);
+        if (previous != null) {
+            long oldCell = cellKey(previous.getLatitude(), previous.getLongitude());
+            if (oldCell != newCell) {
+                removeFromCell(target, oldCell, previous.getGroupId());
+            }
+        }
+
+        target.cells.computeIfAbsent(newCell, k -> new ConcurrentHashMap<>())
+                .put(group.getGroupId(), group);
+    }
+
+    private void removeFromCell(Grid target, long cellKey, Long groupId) {
+        Map<Long, IndexedGroup> cell = target.cells.get(cellKey);
+        if (cell != null) {
+            cell.remove(groupId);
+        }
+    }
+
+    private int cellIndex(double degree) {
+        return (int) Math.floor(degree / cellSizeDeg);
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return toKey(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private static long toKey(int latIdx, int lngIdx) {
+        return ((long) latIdx << 32) | (lngIdx & 0xffffffffL);
+    }
+
+    // groupId → 그룹, cellKey → (groupId → 그룹)
+    private static final class Grid {
+        private final Map<Long, IndexedGroup> groups = new ConcurrentHashMap<>();
+        private final Map<Long, Map<Long, IndexedGroup>> cells = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,18 @@
+package com.study.recommend.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인덱스에 반영된 그룹 변경 (추가/수정/삭제, 멤버 수 변화 포함)
+ *
+ * 위치가 바뀐 경우 이전 위치와 새 위치로 각각 한 번씩 발행된다.
+ */
+@Getter
+@AllArgsConstructor
+public class GroupChangedEvent {
+
+    private final Long groupId;
+    private final double latitude;
+    private final double longitude;
+}
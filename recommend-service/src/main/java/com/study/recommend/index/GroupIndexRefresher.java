@@ -0,0 +1,218 @@
+package com.study.recommend.index;
+
+import com.study.recommend.repository.GroupIndexProjection;
+import com.study.recommend.repository.GroupIndexRepository;
+import com.study.recommend.tag.GroupTagCache;
+import com.study.recommend.tag.GroupTags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * GeoGridIndex 적재 / 증분 갱신
+ *
+ * 1) 기동 시 전체 적재 (ChangeFeedConsumer 가 피드 기준점을 잡은 뒤 호출)
+ * 2) 변경 피드로 들어온 그룹만 다시 읽어서 반영
+ * 3) study-service 는 그룹을 hard delete 하므로, 가끔 id 목록만 대조해서 삭제분을 정리
+ * 4) 실제로 바뀐 그룹마다 GroupChangedEvent 발행 (응답 캐시 무효화용)
+ *
+ * 적재에 실패하면 인덱스는 not-ready 로 남고, 추천 서비스는 네이티브 쿼리로 동작한다.
+ */
+@Slf4j
+@Component
+public class GroupIndexRefresher {
+
+    // IN 절 하나에 넣을 group_id 개수
+    private static final int GROUP_CHUNK_SIZE = 500;
+
+    private final GroupIndexRepository groupIndexRepository;
+    private final GeoGridIndex geoGridIndex;
+    private final GroupTagCache groupTagCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean enabled;
+
+    public GroupIndexRefresher(GroupIndexRepository groupIndexRepository,
+                               GeoGridIndex geoGridIndex,
+                               GroupTagCache groupTagCache,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${recommend.index.enabled:true}") boolean enabled) {
+        this.groupIndexRepository = groupIndexRepository;
+        this.geoGridIndex = geoGridIndex;
+        this.groupTagCache = groupTagCache;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+    }
+
+    // ===========================
+    // 전체 적재
+    // ===========================
+    public void loadAll() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+
+            List<GroupIndexProjection> rows = groupIndexRepository.findAllIndexable();
+            List<IndexedGroup> groups = new ArrayList<>(rows.size());
+
+            for (GroupIndexProjection row : rows) {
+                groups.add(toIndexedGroup(row));
+            }
+
+            geoGridIndex.replaceAll(groups);
+
+            log.info("[GeoGridIndex] 전체 적재 완료 groups={} ({}ms)",
+                    groups.size(), System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            log.warn("[GeoGridIndex] 전체 적재 실패 → 네이티브 쿼리로 동작: {}", e.getMessage());
+        }
+    }
+
+    public void loadIfNotReady() {
+        if (enabled && !geoGridIndex.isReady()) {
+            loadAll();
+        }
+    }
+
+    // ===========================
+    // 증분 갱신 (변경 피드로 들어온 그룹)
+    // ===========================
+
+    /**
+     * 그룹을 다시 읽어서 반영 (DB 에 없으면 삭제된 것으로 보고 제거)
+     * 조회 실패는 호출한 쪽에서 다시 시도하도록 그대로 던짐
+     */
+    public void applyGroups(Collection<Long> groupIds) {
+        if (!enabled || !geoGridIndex.isReady() || groupIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>(groupIds);
+        for (int from = 0; from < ids.size(); from += GROUP_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + GROUP_CHUNK_SIZE, ids.size()));
+
+            Set<Long> missing = new HashSet<>(chunk);
+            for (GroupIndexProjection row : groupIndexRepository.findByGroupIds(chunk)) {
+                apply(row);
+                missing.remove(row.getGroupId());
+            }
+            missing.forEach(this::removeGroup);
+        }
+    }
+
+    // ===========================
+    // 삭제분 / 누락분 대조
+    // ===========================
+    @Scheduled(
+            fixedDelayString = "${recommend.index.reconcile-interval-ms:300000}",
+            initialDelayString = "${recommend.index.reconcile-interval-ms:300000}"
+    )
+    public void reconcile() {
+        if (!enabled || !geoGridIndex.isReady()) {
+            return;
+        }
+
+        try {
+            Set<Long> activeIds = new HashSet<>(groupIndexRepository.findIndexableGroupIds());
+
+            // DB 에서 사라졌거나 비활성화된 그룹 제거
+            List<Long> stale = geoGridIndex.all().stream()
+                    .map(IndexedGroup::getGroupId)
+                    .filter(id -> !activeIds.contains(id))
+                    .toList();
+            stale.forEach(this::removeGroup);
+
+            // updated_at 이 비어 있어 증분 갱신에 안 걸린 그룹 보충
+            Set<Long> missing = new HashSet<>(activeIds);
+            geoGridIndex.all().forEach(g -> missing.remove(g.getGroupId()));
+            // (많이 벌어졌을 수 있으므로 증분 갱신과 같이 GROUP_CHUNK_SIZE 단위로 조회)
+            applyGroups(missing);
+
+            if (!stale.isEmpty() || !missing.isEmpty()) {
+                log.info("[GeoGridIndex] 대조 완료 removed={} added={}", stale.size(), missing.size());
+            }
+
+        } catch (Exception e) {
+            log.warn("[GeoGridIndex] 대조 실패: {}", e.getMessage());
+        }
+    }
+
+    private void apply(GroupIndexProjection row) {
+        if (!isIndexable(row)) {
+            removeGroup(row.getGroupId());
+            return;
+        }
+
+        IndexedGroup previous = geoGridIndex.get(row.getGroupId());
+
+        // 워터마크를 겹쳐 읽기 때문에 같은 행이 여러 번 올 수 있음 → updated_at 그대로면 건너뜀
+        if (previous != null && row.getUpdatedAt() != null
+                && Objects.equals(previous.getUpdatedAt(), row.getUpdatedAt())) {
+            return;
+        }
+
+        IndexedGroup group = toIndexedGroup(row);
+        geoGridIndex.upsert(group);
+
+        if (previous != null
+                && (previous.getLatitude() != group.getLatitude()
+                || previous.getLongitude() != group.getLongitude())) {
+            publishChanged(previous);
+        }
+        publishChanged(group);
+    }
+
+    private void removeGroup(Long groupId) {
+        IndexedGroup previous = geoGridIndex.get(groupId);
+
+        geoGridIndex.remove(groupId);
+        groupTagCache.invalidate(groupId);
+
+        if (previous != null) {
+            publishChanged(previous);
+        }
+    }
+
+    private void publishChanged(IndexedGroup group) {
+        eventPublisher.publishEvent(
+                new GroupChangedEvent(group.getGroupId(), group.getLatitude(), group.getLongitude()));
+    }
+
+    private boolean isIndexable(GroupIndexProjection row) {
+        return "ACTIVE".equals(row.getStatus())
+                && row.getLatitude() != null
+                && row.getLongitude() != null;
+    }
+
+    private IndexedGroup toIndexedGroup(GroupIndexProjection row) {
+        // updated_at 이 그대로면 캐시된 태그 벡터 재사용 (JSON 파싱 없음)
+        GroupTags groupTags = groupTagCache.get(row.getGroupId(), row.getUpdatedAt(), row.getCategory());
+
+        return new IndexedGroup(
+                row.getGroupId(),
+                row.getTitle(),
+                row.getDescription(),
+                row.getCategory(),
+                row.getMaxMembers(),
+                row.getStatus(),
+                row.getLatitude(),
+                row.getLongitude(),
+                row.getUpdatedAt(),
+                groupTags.getTags(),
+                groupTags.getTagIds()
+        );
+    }
+}
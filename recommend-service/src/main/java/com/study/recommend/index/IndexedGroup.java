@@ -0,0 +1,61 @@
+package com.study.recommend.index;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 공간 인덱스에 올라가는 ACTIVE 스터디 그룹 한 건
+ * (추천 응답에 필요한 컬럼만 보관)
+ */
+@Getter
+public class IndexedGroup {
+
+    private final Long groupId;
+    private final String title;
+    private final String description;
+    private final String category;
+    private final Integer maxMembers;
+    private final String status;
+
+    private final double latitude;
+    private final double longitude;
+
+    private final LocalDateTime updatedAt;
+
+    // category 파싱 결과 (응답용 원본 태그)
+    private final List<String> tags;
+
+    // 정규화된 태그 id (TagDictionary, 정렬됨) - category 가 바뀔 때만 다시 계산
+    private final int[] tagIds;
+
+    // 거리 계산용 sin/cos (적재 시 한 번만 계산 → GeoScoringEngine 루프에 삼각함수 없음)
+    private final double sinLat;
+    private final double cosLat;
+    private final double sinLng;
+    private final double cosLng;
+
+    public IndexedGroup(Long groupId, String title, String description, String category,
+                        Integer maxMembers, String status, double latitude, double longitude,
+                        LocalDateTime updatedAt, List<String> tags, int[] tagIds) {
+        this.groupId = groupId;
+        this.title = title;
+        this.description = description;
+        this.category = category;
+        this.maxMembers = maxMembers;
+        this.status = status;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.updatedAt = updatedAt;
+        this.tags = tags;
+        this.tagIds = tagIds;
+
+        double latRad = Math.toRadians(latitude);
+        double lngRad = Math.toRadians(longitude);
+        this.sinLat = Math.sin(latRad);
+        this.cosLat = Math.cos(latRad);
+        this.sinLng = Math.sin(lngRad);
+        this.cosLng = Math.cos(lngRad);
+    }
+}
@@ -0,0 +1,111 @@
+package com.study.recommend.metrics;
+
+import com.study.recommend.ranking.RankingResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 추천 지연 / 품질 지표 (/actuator/prometheus)
+ *
+ * - recommend.stage             : 단계별 소요 시간 (endpoint, stage)
+ *                                 candidate_fetch / tag_parse / feature:xxx / filter:xxx / scoring / sorting
+ * - recommend.candidate.fetch   : 후보 조회 경로별 소요 시간 (endpoint, source=index|db) → DB 인지 JVM 인지 구분
+ * - recommend.candidates        : 후보 풀 크기 (endpoint, phase=generated|filtered)
+ * - recommend.responses         : 응답 수 (endpoint, result=empty|non_empty) → 빈 결과 비율
+ *
+ * 캐시 적중률은 각 캐시가 MeterBinder 로 cache.gets{cache=...,result=hit|miss} 를 노출한다.
+ */
+@Component
+public class RecommendMetrics {
+
+    private final MeterRegistry registry;
+
+    public RecommendMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    // ===========================
+    // 단계 시간
+    // ===========================
+
+    /**
+     * 파이프라인 밖 단계 (태그 정규화 등) 시간 측정
+     */
+    public <T> T time(String endpoint, String stage, Supplier<T> body) {
+        return stageTimer(endpoint, stage).record(body);
+    }
+
+    /**
+     * 후보 조회 경로별 시간 (인메모리 인덱스 / DB 쿼리)
+     */
+    public <T> T timeCandidateFetch(String endpoint, String source, Supplier<T> body) {
+        return Timer.builder("recommend.candidate.fetch")
+                .description("추천 후보 조회 시간 (인덱스 / DB)")
+                .tag("endpoint", endpoint)
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(body);
+    }
+
+    /**
+     * RankingPipeline 단계별 시간 + 후보 수
+     */
+    public void recordRanking(String endpoint, RankingResult<?> result) {
+        for (Map.Entry<String, Long> entry : result.getStageNanos().entrySet()) {
+            stageTimer(endpoint, stageName(entry.getKey())).record(entry.getValue(), TimeUnit.NANOSECONDS);
+        }
+        candidateSummary(endpoint, "generated").record(result.getGeneratedCount());
+        candidateSummary(endpoint, "filtered").record(result.getFilteredCount());
+    }
+
+    // ===========================
+    // 결과
+    // ===========================
+    public void recordResponse(String endpoint, boolean empty) {
+        Counter.builder("recommend.responses")
+                .description("추천 응답 수 (빈 결과 비율 계산용)")
+                .tag("endpoint", endpoint)
+                .tag("result", empty ? "empty" : "non_empty")
+                .register(registry)
+                .increment();
+    }
+
+    // ===========================
+    // 내부 구현
+    // ===========================
+    private Timer stageTimer(String endpoint, String stage) {
+        return Timer.builder("recommend.stage")
+                .description("추천 단계별 소요 시간")
+                .tag("endpoint", endpoint)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private DistributionSummary candidateSummary(String endpoint, String phase) {
+        return DistributionSummary.builder("recommend.candidates")
+                .description("추천 후보 풀 크기")
+                .tag("endpoint", endpoint)
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    // 파이프라인 단계명 → 대시보드용 이름 (feature/filter 는 그대로)
+    private static String stageName(String stage) {
+        return switch (stage) {
+            case "generate" -> "candidate_fetch";
+            case "score" -> "scoring";
+            case "select" -> "sorting";
+            default -> stage;
+        };
+    }
+}
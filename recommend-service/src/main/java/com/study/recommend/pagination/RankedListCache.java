@@ -0,0 +1,55 @@
+package com.study.recommend.pagination;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 페이지 넘김용 정렬 결과 캐시 (짧은 TTL)
+ *
+ * 첫 페이지 요청 때 limit 보다 깊게 (max-results 개) 정렬해 두고,
+ * 같은 조건의 "더 보기" 요청은 후보 조회/점수 계산 없이 여기서 잘라서 준다.
+ * 적중률은 cache.gets{cache="recommend.ranked-list"} 로 노출 (MeterBinder).
+ */
+@Component
+public class RankedListCache implements MeterBinder {
+
+    private final int maxResults;
+    private final Cache<String, List<?>> cache;
+
+    public RankedListCache(@Value("${recommend.pagination.max-results:50}") int maxResults,
+                           @Value("${recommend.pagination.ttl-seconds:60}") long ttlSeconds,
+                           @Value("${recommend.pagination.max-size:10000}") long maxSize) {
+        this.maxResults = maxResults;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "recommend.ranked-list");
+    }
+
+    /**
+     * 한 번에 정렬해 둘 개수 (요청 limit 이 더 크면 limit)
+     */
+    public int depth(int limit) {
+        return Math.max(limit, maxResults);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(String key, Supplier<List<T>> loader) {
+        return (List<T>) cache.get(key, k -> List.copyOf(loader.get()));
+    }
+}
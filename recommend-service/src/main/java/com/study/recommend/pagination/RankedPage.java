@@ -0,0 +1,63 @@
+package com.study.recommend.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 점수 순으로 정렬된 목록에서 커서 다음 limit 개
+ */
+@Getter
+@AllArgsConstructor
+public class RankedPage<T> {
+
+    private final List<T> items;
+
+    // 더 없으면 null
+    private final String nextCursor;
+
+    /**
+     * @param ranked  점수 내림차순으로 정렬된 전체 목록
+     * @param cursor  이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    public static <T> RankedPage<T> of(List<T> ranked, RecommendCursor cursor, int limit,
+                                       ToDoubleFunction<T> score, ToLongFunction<T> groupId) {
+        int from = cursor == null ? 0 : startAfter(ranked, cursor, score, groupId);
+        int to = Math.min(ranked.size(), from + Math.max(limit, 0));
+
+        List<T> items = List.copyOf(ranked.subList(from, to));
+
+        String nextCursor = null;
+        if (to < ranked.size() && !items.isEmpty()) {
+            T last = items.get(items.size() - 1);
+            nextCursor = new RecommendCursor(score.applyAsDouble(last), groupId.applyAsLong(last)).encode();
+        }
+        return new RankedPage<>(items, nextCursor);
+    }
+
+    private static <T> int startAfter(List<T> ranked, RecommendCursor cursor,
+                                      ToDoubleFunction<T> score, ToLongFunction<T> groupId) {
+        // 1. 같은 항목이 그대로 있으면 그 다음부터
+        for (int i = 0; i < ranked.size(); i++) {
+            T item = ranked.get(i);
+            if (groupId.applyAsLong(item) == cursor.getGroupId()
+                    && Double.compare(score.applyAsDouble(item), cursor.getScore()) == 0) {
+                return i + 1;
+            }
+        }
+
+        // 2. 그 사이 점수가 바뀌어 못 찾으면 커서 위치 다음 첫 항목부터
+        //    (같은 점수는 통째로 건너뛰지 않고 groupId 로 앞뒤를 가름)
+        for (int i = 0; i < ranked.size(); i++) {
+            T item = ranked.get(i);
+            int cmp = Double.compare(score.applyAsDouble(item), cursor.getScore());
+            if (cmp < 0 || (cmp == 0 && groupId.applyAsLong(item) > cursor.getGroupId())) {
+                return i;
+            }
+        }
+        return ranked.size();
+    }
+}
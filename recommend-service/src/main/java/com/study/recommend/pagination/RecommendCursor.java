@@ -0,0 +1,46 @@
+package com.study.recommend.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * "더 보기" 커서 = 마지막으로 받은 항목의 (점수, groupId)
+ *
+ * 점수는 double 비트 그대로 인코딩해서 반올림 오차 없이 같은 항목을 다시 찾는다.
+ * 클라이언트에는 불투명한 base64url 문자열로만 노출.
+ */
+@Getter
+@AllArgsConstructor
+public class RecommendCursor {
+
+    private final double score;
+    private final long groupId;
+
+    public String encode() {
+        String raw = Long.toHexString(Double.doubleToLongBits(score)) + ":" + groupId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static RecommendCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            if (sep < 0) {
+                throw new IllegalArgumentException("잘못된 cursor 입니다.");
+            }
+            double score = Double.longBitsToDouble(Long.parseUnsignedLong(raw.substring(0, sep), 16));
+            long groupId = Long.parseLong(raw.substring(sep + 1));
+            return new RecommendCursor(score, groupId);
+
+        } catch (IllegalArgumentException e) {
+            // Base64 / 숫자 파싱 오류 포함
+            throw new IllegalArgumentException("잘못된 cursor 입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.study.recommend.ranking;
+
+/**
+ * 후보 하나를 남길지 결정 (table.value(...) 로 필요한 feature 만 계산해서 사용)
+ */
+@FunctionalInterface
+public interface CandidateFilter<Q, C> {
+
+    boolean keep(FeatureTable<Q, C> table, int index);
+}
@@ -0,0 +1,12 @@
+package com.study.recommend.ranking;
+
+import java.util.List;
+
+/**
+ * 요청 → 후보 목록 (인덱스/DB 조회 등)
+ */
+@FunctionalInterface
+public interface CandidateGenerator<Q, C> {
+
+    List<C> generate(Q query);
+}
@@ -0,0 +1,14 @@
+package com.study.recommend.ranking;
+
+/**
+ * 후보 전체에 대한 feature 한 열 계산
+ *
+ * 한 번에 배열로 채우므로 GeoScoringEngine 같은 배열 연산을 그대로 쓸 수 있고,
+ * 다른 feature 가 필요하면 table.column(...) 으로 가져오면 된다 (필요할 때 계산됨).
+ * 최댓값 정규화처럼 후보 전체를 보는 feature 는 "계산 시점에 남아 있는 후보" 기준이다.
+ */
+@FunctionalInterface
+public interface FeatureExtractor<Q, C> {
+
+    void extract(FeatureTable<Q, C> table, double[] out);
+}
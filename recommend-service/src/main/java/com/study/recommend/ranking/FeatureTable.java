@@ -0,0 +1,98 @@
+package com.study.recommend.ranking;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 현재 살아남은 후보 + 지금까지 계산된 feature 열
+ *
+ * - feature 는 처음 조회될 때 (그 시점 후보 전체에 대해) 한 번만 계산
+ * - 필터 후 compact 하면 이미 계산된 열도 같이 줄여서 다시 계산하지 않음
+ *   → 비싼 feature 는 필터를 통과한 후보에 대해서만 계산된다
+ */
+public class FeatureTable<Q, C> {
+
+    private final Q query;
+    private final Function<String, FeatureExtractor<Q, C>> extractors;
+    private final StageTimer timer;
+
+    private List<C> candidates;
+    private final Map<String, double[]> columns = new HashMap<>();
+
+    FeatureTable(Q query, List<C> candidates,
+                 Function<String, FeatureExtractor<Q, C>> extractors, StageTimer timer) {
+        this.query = query;
+        this.candidates = candidates;
+        this.extractors = extractors;
+        this.timer = timer;
+    }
+
+    public Q query() {
+        return query;
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+
+    public C candidate(int index) {
+        return candidates.get(index);
+    }
+
+    public List<C> candidates() {
+        return candidates;
+    }
+
+    /**
+     * feature 열 (없으면 지금 계산)
+     */
+    public double[] column(String feature) {
+        double[] column = columns.get(feature);
+        if (column != null) {
+            return column;
+        }
+
+        FeatureExtractor<Q, C> extractor = extractors.apply(feature);
+        if (extractor == null) {
+            throw new IllegalArgumentException("등록되지 않은 feature 입니다: " + feature);
+        }
+
+        double[] out = new double[candidates.size()];
+        timer.time("feature:" + feature, () -> extractor.extract(this, out));
+        columns.put(feature, out);
+        return out;
+    }
+
+    public double value(String feature, int index) {
+        return column(feature)[index];
+    }
+
+    /**
+     * keep[i] == true 인 후보만 남김 (계산된 열도 같이 압축)
+     */
+    void compact(boolean[] keep, int kept) {
+        if (kept == candidates.size()) {
+            return;
+        }
+
+        List<C> survivors = new ArrayList<>(kept);
+        for (int i = 0; i < keep.length; i++) {
+            if (keep[i]) survivors.add(candidates.get(i));
+        }
+
+        for (Map.Entry<String, double[]> entry : columns.entrySet()) {
+            double[] old = entry.getValue();
+            double[] packed = new double[kept];
+            int n = 0;
+            for (int i = 0; i < keep.length; i++) {
+                if (keep[i]) packed[n++] = old[i];
+            }
+            entry.setValue(packed);
+        }
+
+        candidates = survivors;
+    }
+}
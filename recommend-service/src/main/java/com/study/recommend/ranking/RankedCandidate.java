@@ -0,0 +1,32 @@
+package com.study.recommend.ranking;
+
+/**
+ * 최종 순위에 든 후보 하나
+ */
+public class RankedCandidate<C> {
+
+    private final FeatureTable<?, C> table;
+    private final int index;
+    private final double score;
+
+    RankedCandidate(FeatureTable<?, C> table, int index, double score) {
+        this.table = table;
+        this.index = index;
+        this.score = score;
+    }
+
+    public C getCandidate() {
+        return table.candidate(index);
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * feature 값 (점수에 쓰이지 않은 feature 는 이때 최종 후보에 대해서만 계산)
+     */
+    public double feature(String name) {
+        return table.value(name, index);
+    }
+}
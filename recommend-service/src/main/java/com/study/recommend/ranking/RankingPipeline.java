@@ -0,0 +1,286 @@
+package com.study.recommend.ranking;
+
+import com.study.recommend.util.TopKSelector;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 후보 생성 → 필터 → 가중 점수 → 상위 k 개 선택
+ *
+ * - feature 는 필터/점수에서 처음 쓰일 때 계산 (FeatureTable)
+ *   → 필터를 싼 것부터 등록하면 비싼 feature(태그 유사도 등)는 통과한 후보에 대해서만 계산
+ * - 가중치가 0 인 점수 항목은 계산하지 않음
+ * - 점수에 안 쓰인 feature 는 최종 후보(limit 개)에 대해서만 계산
+ *   (단, 후보 전체의 최댓값 등으로 정규화하는 poolFeature 는 선택 전에 필터 통과 후보 전체로 계산)
+ * - 단계별 소요 시간은 결과에 담고 debug 로그로도 남김
+ *
+ * 엔드포인트마다 builder 로 조합해서 서비스 필드로 들고 쓴다 (상태 없음, 스레드 안전).
+ */
+@Slf4j
+public class RankingPipeline<Q, C> {
+
+    private final String name;
+    private final CandidateGenerator<Q, C> generator;
+    private final Map<String, FeatureExtractor<Q, C>> features;
+    private final Set<String> poolFeatures;
+    private final List<NamedFilter<Q, C>> filters;
+    private final List<ScoreTerm<Q>> scoreTerms;
+    private final String tieBreakFeature;
+
+    private RankingPipeline(Builder<Q, C> builder) {
+        this.name = builder.name;
+        this.generator = builder.generator;
+        this.features = new LinkedHashMap<>(builder.features);
+        this.poolFeatures = new LinkedHashSet<>(builder.poolFeatures);
+        this.filters = List.copyOf(builder.filters);
+        this.scoreTerms = List.copyOf(builder.scoreTerms);
+        this.tieBreakFeature = builder.tieBreakFeature;
+    }
+
+    public static <Q, C> Builder<Q, C> builder(String name) {
+        return new Builder<>(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // ===========================
+    // 실행
+    // ===========================
+
+    /**
+     * 등록된 generator 로 후보를 만들어서 순위 계산
+     */
+    public RankingResult<C> rank(Q query, int limit) {
+        if (generator == null) {
+            throw new IllegalStateException("[" + name + "] generator 가 없습니다. 후보 목록을 직접 넘겨주세요.");
+        }
+
+        StageTimer timer = new StageTimer();
+        List<List<C>> generated = new ArrayList<>(1);
+        timer.time("generate", () -> generated.add(generator.generate(query)));
+
+        return run(query, generated.get(0), limit, timer);
+    }
+
+    /**
+     * 이미 조회한 후보 목록으로 순위 계산 (배치 추천처럼 후보를 공유하는 경우)
+     */
+    public RankingResult<C> rank(Q query, List<C> candidates, int limit) {
+        return run(query, candidates, limit, new StageTimer());
+    }
+
+    private RankingResult<C> run(Q query, List<C> candidates, int limit, StageTimer timer) {
+        FeatureTable<Q, C> table = new FeatureTable<>(query, candidates, features::get, timer);
+        int generatedCount = table.size();
+
+        // 1. 필터 (등록 순서대로, 각 필터가 쓰는 feature 는 그 시점 후보에 대해서만 계산)
+        for (NamedFilter<Q, C> filter : filters) {
+            if (table.size() == 0) break;
+            timer.time("filter:" + filter.name, () -> applyFilter(table, filter.filter));
+        }
+        int filteredCount = table.size();
+
+        // 2. 가중 점수
+        double[] scores = new double[table.size()];
+        timer.time("score", () -> score(table, scores));
+
+        // 2-1. 후보 전체 기준 feature 는 선택(compact) 전에 계산 → 가중치가 0 이어도 값이 같음
+        for (String feature : poolFeatures) {
+            table.column(feature);
+        }
+
+        // 3. 상위 limit 개 (점수 내림차순 → tieBreak feature 오름차순 → 원래 순서)
+        List<RankedCandidate<C>> ranked = new ArrayList<>();
+        timer.time("select", () -> ranked.addAll(select(table, scores, limit)));
+
+        RankingResult<C> result = new RankingResult<>(ranked, generatedCount, filteredCount, timer.snapshot());
+        if (log.isDebugEnabled()) {
+            log.debug("[RankingPipeline:{}] 후보 {} → 필터 후 {} → {}개, {}",
+                    name, generatedCount, filteredCount, ranked.size(), formatTimings(result.getStageNanos()));
+        }
+        return result;
+    }
+
+    private void applyFilter(FeatureTable<Q, C> table, CandidateFilter<Q, C> filter) {
+        int n = table.size();
+        boolean[] keep = new boolean[n];
+        int kept = 0;
+        for (int i = 0; i < n; i++) {
+            if (filter.keep(table, i)) {
+                keep[i] = true;
+                kept++;
+            }
+        }
+        table.compact(keep, kept);
+    }
+
+    private void score(FeatureTable<Q, C> table, double[] out) {
+        int n = table.size();
+        if (n == 0) return;
+
+        for (ScoreTerm<Q> term : scoreTerms) {
+            double weight = term.weight.applyAsDouble(table.query());
+            if (weight == 0.0) continue;
+
+            double[] column = table.column(term.feature);
+            for (int i = 0; i < n; i++) {
+                out[i] += weight * column[i];
+            }
+        }
+    }
+
+    private List<RankedCandidate<C>> select(FeatureTable<Q, C> table, double[] scores, int limit) {
+        int n = table.size();
+        if (n == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        Comparator<Integer> order = (a, b) -> Double.compare(scores[b], scores[a]);
+        if (tieBreakFeature != null) {
+            double[] tieBreak = table.column(tieBreakFeature);
+            order = order.thenComparingDouble(i -> tieBreak[i]);
+        }
+        order = order.thenComparingInt(i -> i);
+
+        List<Integer> indices = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) indices.add(i);
+        List<Integer> selected = TopKSelector.select(indices, limit, order);
+
+        // 최종 후보만 남기고 테이블을 줄임 → 표시용 feature 는 limit 개에 대해서만 계산
+        boolean[] keep = new boolean[n];
+        for (int index : selected) keep[index] = true;
+
+        int[] packedIndex = new int[n];
+        int next = 0;
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) packedIndex[i] = next++;
+        }
+        table.compact(keep, selected.size());
+
+        List<RankedCandidate<C>> ranked = new ArrayList<>(selected.size());
+        for (int index : selected) {
+            ranked.add(new RankedCandidate<>(table, packedIndex[index], scores[index]));
+        }
+        return ranked;
+    }
+
+    private static String formatTimings(Map<String, Long> stageNanos) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> entry : stageNanos.entrySet()) {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(entry.getKey()).append('=')
+                    .append(String.format("%.3fms", entry.getValue() / 1_000_000.0));
+        }
+        return sb.toString();
+    }
+
+    // ===========================
+    // 구성
+    // ===========================
+    private static class NamedFilter<Q, C> {
+        private final String name;
+        private final CandidateFilter<Q, C> filter;
+
+        private NamedFilter(String name, CandidateFilter<Q, C> filter) {
+            this.name = name;
+            this.filter = filter;
+        }
+    }
+
+    private static class ScoreTerm<Q> {
+        private final String feature;
+        private final ToDoubleFunction<Q> weight;
+
+        private ScoreTerm(String feature, ToDoubleFunction<Q> weight) {
+            this.feature = feature;
+            this.weight = weight;
+        }
+    }
+
+    public static class Builder<Q, C> {
+
+        private final String name;
+        private CandidateGenerator<Q, C> generator;
+        private final Map<String, FeatureExtractor<Q, C>> features = new LinkedHashMap<>();
+        private final Set<String> poolFeatures = new LinkedHashSet<>();
+        private final List<NamedFilter<Q, C>> filters = new ArrayList<>();
+        private final List<ScoreTerm<Q>> scoreTerms = new ArrayList<>();
+        private String tieBreakFeature;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder<Q, C> generator(CandidateGenerator<Q, C> generator) {
+            this.generator = generator;
+            return this;
+        }
+
+        public Builder<Q, C> feature(String feature, FeatureExtractor<Q, C> extractor) {
+            if (features.putIfAbsent(feature, extractor) != null) {
+                throw new IllegalArgumentException("feature 가 중복 등록됐습니다: " + feature);
+            }
+            return this;
+        }
+
+        /**
+         * 후보 전체 통계(최댓값 등)를 읽는 feature
+         * 점수에 안 쓰여도 최종 후보로 줄이기 전에 필터 통과 후보 전체로 계산한다.
+         */
+        public Builder<Q, C> poolFeature(String feature, FeatureExtractor<Q, C> extractor) {
+            feature(feature, extractor);
+            poolFeatures.add(feature);
+            return this;
+        }
+
+        /**
+         * 필터는 등록 순서대로 적용 → 싼 필터를 먼저 등록
+         */
+        public Builder<Q, C> filter(String filterName, CandidateFilter<Q, C> filter) {
+            filters.add(new NamedFilter<>(filterName, filter));
+            return this;
+        }
+
+        /**
+         * 최종 점수 += weight(query) * feature
+         */
+        public Builder<Q, C> score(String feature, ToDoubleFunction<Q> weight) {
+            scoreTerms.add(new ScoreTerm<>(feature, weight));
+            return this;
+        }
+
+        /**
+         * 점수가 같을 때 이 feature 가 작은 순
+         */
+        public Builder<Q, C> tieBreak(String feature) {
+            this.tieBreakFeature = feature;
+            return this;
+        }
+
+        public RankingPipeline<Q, C> build() {
+            for (ScoreTerm<Q> term : scoreTerms) {
+                requireFeature(term.feature);
+            }
+            if (tieBreakFeature != null) {
+                requireFeature(tieBreakFeature);
+            }
+            return new RankingPipeline<>(this);
+        }
+
+        private void requireFeature(String feature) {
+            if (!features.containsKey(feature)) {
+                throw new IllegalArgumentException("[" + name + "] 등록되지 않은 feature 입니다: " + feature);
+            }
+        }
+    }
+}
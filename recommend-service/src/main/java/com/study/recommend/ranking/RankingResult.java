@@ -0,0 +1,28 @@
+package com.study.recommend.ranking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파이프라인 실행 결과 + 단계별 소요 시간
+ */
+@Getter
+@AllArgsConstructor
+public class RankingResult<C> {
+
+    private final List<RankedCandidate<C>> ranked;
+
+    // 생성된 후보 수 / 필터 통과 후보 수
+    private final int generatedCount;
+    private final int filteredCount;
+
+    // 단계명 → 나노초 (generate, filter:xxx, feature:xxx, score, select)
+    private final Map<String, Long> stageNanos;
+
+    public boolean isEmpty() {
+        return ranked.isEmpty();
+    }
+}
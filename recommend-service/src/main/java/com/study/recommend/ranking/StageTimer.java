@@ -0,0 +1,37 @@
+package com.study.recommend.ranking;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 단계별 소요 시간 (나노초, 같은 단계는 누적)
+ *
+ * 필터 안에서 feature 가 계산되는 것처럼 단계가 중첩되면
+ * 바깥 단계에서는 안쪽 단계 시간을 빼고 기록 → 합계 = 전체 시간
+ */
+class StageTimer {
+
+    private final Map<String, Long> nanos = new LinkedHashMap<>();
+
+    // 현재 단계 안에서 실행된 하위 단계 시간
+    private long nestedNanos;
+
+    void time(String stage, Runnable body) {
+        long outerNested = nestedNanos;
+        nestedNanos = 0;
+
+        long start = System.nanoTime();
+        try {
+            body.run();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            nanos.merge(stage, elapsed - nestedNanos, Long::sum);
+            nestedNanos = outerNested + elapsed;
+        }
+    }
+
+    Map<String, Long> snapshot() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(nanos));
+    }
+}
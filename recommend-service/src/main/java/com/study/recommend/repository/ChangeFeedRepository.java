@@ -0,0 +1,65 @@
+package com.study.recommend.repository;
+
+import com.study.recommend.domain.StudyGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 변경 피드(JdbcPollingChangeFeed)용 updated_at 워터마크 조회
+ *
+ * 인스턴스마다 몇 초 주기로 실행되므로 (updated_at, PK) 인덱스 range scan 이 전제
+ * - Study_groups : idx_study_groups_updated_group (study-service V6)
+ * - Users        : idx_users_updated_user (user-service V1)
+ */
+@Repository
+public interface ChangeFeedRepository extends JpaRepository<StudyGroup, Long> {
+
+    // 그룹 정보 + 멤버 구성 변경 (study-service 가 멤버 승인/거절/강퇴 시에도 updated_at 갱신)
+    @Query(value = """
+        SELECT
+            sg.group_id   AS groupId,
+            sg.updated_at AS updatedAt
+        FROM Study_groups sg
+        WHERE sg.updated_at >= :since
+        ORDER BY sg.updated_at ASC, sg.group_id ASC
+        """, nativeQuery = true)
+    List<GroupVersionProjection> findGroupsChangedSince(@Param("since") LocalDateTime since);
+
+    @Query(value = """
+        SELECT
+            sg.group_id   AS groupId,
+            sg.updated_at AS updatedAt
+        FROM Study_groups sg
+        WHERE sg.updated_at IS NOT NULL
+        ORDER BY sg.updated_at DESC
+        LIMIT 1
+        """, nativeQuery = true)
+    GroupVersionProjection findLatestGroupVersion();
+
+    // 사용자 정보 + 관심 태그 변경 (user-service 가 태그 교체 시에도 updated_at 갱신)
+    @Query(value = """
+        SELECT
+            u.user_id    AS userId,
+            u.updated_at AS updatedAt
+        FROM Users u
+        WHERE u.updated_at >= :since
+        ORDER BY u.updated_at ASC, u.user_id ASC
+        """, nativeQuery = true)
+    List<UserVersionProjection> findUsersChangedSince(@Param("since") LocalDateTime since);
+
+    @Query(value = """
+        SELECT
+            u.user_id    AS userId,
+            u.updated_at AS updatedAt
+        FROM Users u
+        WHERE u.updated_at IS NOT NULL
+        ORDER BY u.updated_at DESC
+        LIMIT 1
+        """, nativeQuery = true)
+    UserVersionProjection findLatestUserVersion();
+}
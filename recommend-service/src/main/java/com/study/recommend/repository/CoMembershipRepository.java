@@ -0,0 +1,47 @@
+package com.study.recommend.repository;
+
+import com.study.recommend.domain.StudyGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 공동 멤버십(CoMembershipMatrix) 적재/갱신용 조회
+ */
+@Repository
+public interface CoMembershipRepository extends JpaRepository<StudyGroup, Long> {
+
+    // 전체 적재: member_id 기준 keyset 페이지 (수백만 행도 일정한 메모리로)
+    @Query(value = """
+        SELECT
+            gm.member_id AS memberId,
+            gm.group_id  AS groupId,
+            gm.user_id   AS userId
+        FROM Group_members gm
+        WHERE
+            gm.status = 'APPROVED'
+            AND gm.member_id > :afterMemberId
+        ORDER BY gm.member_id ASC
+        LIMIT :pageSize
+        """, nativeQuery = true)
+    List<MembershipProjection> findApprovedMembershipsAfter(
+            @Param("afterMemberId") long afterMemberId,
+            @Param("pageSize") int pageSize
+    );
+
+    @Query(value = """
+        SELECT
+            gm.member_id AS memberId,
+            gm.group_id  AS groupId,
+            gm.user_id   AS userId
+        FROM Group_members gm
+        WHERE
+            gm.group_id IN (:groupIds)
+            AND gm.status = 'APPROVED'
+        """, nativeQuery = true)
+    List<MembershipProjection> findApprovedMembersOfGroups(@Param("groupIds") Collection<Long> groupIds);
+}
@@ -0,0 +1,16 @@
+package com.study.recommend.repository;
+
+import java.time.LocalDateTime;
+
+public interface GroupIndexProjection {
+
+    Long getGroupId();
+    String getTitle();
+    String getDescription();
+    String getCategory();
+    Integer getMaxMembers();
+    String getStatus();
+    Double getLatitude();
+    Double getLongitude();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,64 @@
+package com.study.recommend.repository;
+
+import com.study.recommend.domain.StudyGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인메모리 공간 인덱스(GeoGridIndex) 적재/갱신용 조회
+ */
+@Repository
+public interface GroupIndexRepository extends JpaRepository<StudyGroup, Long> {
+
+    // 전체 적재: 좌표가 있는 ACTIVE 그룹
+    @Query(value = """
+        SELECT
+            sg.group_id    AS groupId,
+            sg.title       AS title,
+            sg.description AS description,
+            sg.category    AS category,
+            sg.max_members AS maxMembers,
+            sg.status      AS status,
+            sg.latitude    AS latitude,
+            sg.longitude   AS longitude,
+            sg.updated_at  AS updatedAt
+        FROM Study_groups sg
+        WHERE
+            sg.status = 'ACTIVE'
+            AND sg.latitude IS NOT NULL
+            AND sg.longitude IS NOT NULL
+        """, nativeQuery = true)
+    List<GroupIndexProjection> findAllIndexable();
+
+    @Query(value = """
+        SELECT
+            sg.group_id    AS groupId,
+            sg.title       AS title,
+            sg.description AS description,
+            sg.category    AS category,
+            sg.max_members AS maxMembers,
+            sg.status      AS status,
+            sg.latitude    AS latitude,
+            sg.longitude   AS longitude,
+            sg.updated_at  AS updatedAt
+        FROM Study_groups sg
+        WHERE sg.group_id IN (:groupIds)
+        """, nativeQuery = true)
+    List<GroupIndexProjection> findByGroupIds(@Param("groupIds") Collection<Long> groupIds);
+
+    // 삭제 감지용: 현재 인덱스 대상인 그룹 id 만 조회
+    @Query(value = """
+        SELECT sg.group_id
+        FROM Study_groups sg
+        WHERE
+            sg.status = 'ACTIVE'
+            AND sg.latitude IS NOT NULL
+            AND sg.longitude IS NOT NULL
+        """, nativeQuery = true)
+    List<Long> findIndexableGroupIds();
+}
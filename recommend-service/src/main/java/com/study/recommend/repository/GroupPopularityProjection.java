@@ -0,0 +1,14 @@
+package com.study.recommend.repository;
+
+import java.time.LocalDateTime;
+
+// Group_popularity 롤업 한 행 (없는 그룹은 조회되지 않음 → 0 으로 취급)
+public interface GroupPopularityProjection {
+
+    Long getGroupId();
+    Long getMemberCount();
+
+    // velocityUpdatedAt 기준 가입 속도 (읽는 쪽에서 현재 시각까지 감쇠)
+    Double getJoinVelocity();
+    LocalDateTime getVelocityUpdatedAt();
+}
@@ -0,0 +1,8 @@
+package com.study.recommend.repository;
+
+public interface MembershipProjection {
+
+    Long getMemberId();
+    Long getGroupId();
+    Long getUserId();
+}
@@ -1,5 +1,7 @@
 package com.study.recommend.repository;
 
+import java.time.LocalDateTime;
+
 public interface PopularLocationProjection {
 
     Long getGroupId();
@@ -11,4 +13,8 @@ public interface PopularLocationProjection {
     Double getLatitude();
     Double getLongitude();
     Double getDistanceKm();
+
+    // Group_popularity 가입 속도 (롤업 행이 없으면 null)
+    Double getJoinVelocity();
+    LocalDateTime getVelocityUpdatedAt();
 }
@@ -6,41 +6,47 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PopularLocationRepository extends JpaRepository<StudyGroup, Long> {
 
+    /**
+     * 위도/경도 바운딩 박스(minLat ~ maxLng)로 먼저 거르고 정확한 거리는 HAVING 에서 확인
+     * → Study_groups (status, latitude, longitude) 인덱스를 range scan 으로 탈 수 있음
+     * 멤버 수 / 가입 속도는 Group_popularity 롤업에서 PK 로 읽음 (Group_members 집계 없음)
+     */
     @Query(value = """
         SELECT
-            sg.group_id       AS groupId,
-            sg.title          AS title,
-            sg.description    AS description,
-            COUNT(gm.user_id) AS memberCount,
-            sg.max_members    AS maxMembers,
-            sg.status         AS status,
-            sg.latitude       AS latitude,
-            sg.longitude      AS longitude,
+            sg.group_id                    AS groupId,
+            sg.title                       AS title,
+            sg.description                 AS description,
+            COALESCE(gp.member_count, 0)   AS memberCount,
+            sg.max_members                 AS maxMembers,
+            sg.status                      AS status,
+            sg.latitude                    AS latitude,
+            sg.longitude                   AS longitude,
+            gp.join_velocity               AS joinVelocity,
+            gp.velocity_updated_at         AS velocityUpdatedAt,
             (
-                6371 * ACOS(
+                6371 * ACOS(LEAST(1.0, GREATEST(-1.0,
                     COS(RADIANS(:userLat))
                     * COS(RADIANS(sg.latitude))
                     * COS(RADIANS(sg.longitude) - RADIANS(:userLng))
                     + SIN(RADIANS(:userLat))
                     * SIN(RADIANS(sg.latitude))
-                )
+                )))
             ) AS distanceKm
         FROM Study_groups sg
-        LEFT JOIN Group_members gm
-            ON sg.group_id = gm.group_id
-            AND gm.status = 'APPROVED'
+        LEFT JOIN Group_popularity gp
+            ON gp.group_id = sg.group_id
         WHERE
             sg.status = 'ACTIVE'
             AND sg.latitude IS NOT NULL
             AND sg.longitude IS NOT NULL
-        GROUP BY
-            sg.group_id, sg.title, sg.description, sg.max_members,
-            sg.status, sg.latitude, sg.longitude
+            AND sg.latitude BETWEEN :minLat AND :maxLat
+            AND sg.longitude BETWEEN :minLng AND :maxLng
         HAVING
             distanceKm <= :radiusKm
         ORDER BY
@@ -52,6 +58,22 @@ public interface PopularLocationRepository extends JpaRepository<StudyGroup, Lon
             @Param("userLat") double userLat,
             @Param("userLng") double userLng,
             @Param("radiusKm") double radiusKm,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng,
             @Param("limit") int limit
     );
+
+    // 인덱스 경로: 반경 내 후보 그룹의 인기도 롤업만 PK 로 조회
+    @Query(value = """
+        SELECT
+            gp.group_id            AS groupId,
+            gp.member_count        AS memberCount,
+            gp.join_velocity       AS joinVelocity,
+            gp.velocity_updated_at AS velocityUpdatedAt
+        FROM Group_popularity gp
+        WHERE gp.group_id IN (:groupIds)
+        """, nativeQuery = true)
+    List<GroupPopularityProjection> findPopularity(@Param("groupIds") Collection<Long> groupIds);
 }
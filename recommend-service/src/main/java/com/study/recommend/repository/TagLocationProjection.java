@@ -1,5 +1,7 @@
 package com.study.recommend.repository;
 
+import java.time.LocalDateTime;
+
 public interface TagLocationProjection {
 
     Long getGroupId();
@@ -8,4 +10,5 @@ public interface TagLocationProjection {
     Double getLatitude();
     Double getLongitude();
     Double getDistanceKm();
+    LocalDateTime getUpdatedAt();
 }
@@ -11,6 +11,10 @@ import java.util.List;
 @Repository
 public interface TagLocationRepository extends JpaRepository<StudyGroup, Long> {
 
+    /**
+     * 위도/경도 바운딩 박스(minLat ~ maxLng)로 먼저 거르고 정확한 거리는 HAVING 에서 확인
+     * → Study_groups (status, latitude, longitude) 인덱스를 range scan 으로 탈 수 있음
+     */
     @Query(value = """
         SELECT
             sg.group_id    AS groupId,
@@ -18,20 +22,23 @@ public interface TagLocationRepository extends JpaRepository<StudyGroup, Long> {
             sg.category    AS category,
             sg.latitude    AS latitude,
             sg.longitude   AS longitude,
+            sg.updated_at  AS updatedAt,
             (
-                6371 * ACOS(
+                6371 * ACOS(LEAST(1.0, GREATEST(-1.0,
                     COS(RADIANS(:userLat))
                     * COS(RADIANS(sg.latitude))
                     * COS(RADIANS(sg.longitude) - RADIANS(:userLng))
                     + SIN(RADIANS(:userLat))
                     * SIN(RADIANS(sg.latitude))
-                )
+                )))
             ) AS distanceKm
         FROM Study_groups sg
         WHERE
             sg.status = 'ACTIVE'
             AND sg.latitude IS NOT NULL
             AND sg.longitude IS NOT NULL
+            AND sg.latitude BETWEEN :minLat AND :maxLat
+            AND sg.longitude BETWEEN :minLng AND :maxLng
         HAVING
             distanceKm <= :radiusKm
         ORDER BY
@@ -42,6 +49,10 @@ public interface TagLocationRepository extends JpaRepository<StudyGroup, Long> {
             @Param("userLat") double userLat,
             @Param("userLng") double userLng,
             @Param("radiusKm") double radiusKm,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng,
             @Param("limit") int limit
     );
 }
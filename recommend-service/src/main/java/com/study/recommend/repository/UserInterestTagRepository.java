@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserInterestTagRepository
@@ -13,4 +14,7 @@ public interface UserInterestTagRepository
 
     @Query("SELECT uit.tag FROM UserInterestTag uit WHERE uit.userId = :userId")
     List<String> findTagsByUserId(@Param("userId") Long userId);
+
+    // 배치 추천: 여러 사용자의 태그를 한 번에
+    List<UserInterestTag> findAllByUserIdIn(Collection<Long> userIds);
 }
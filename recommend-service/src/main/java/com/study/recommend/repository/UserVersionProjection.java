@@ -0,0 +1,9 @@
+package com.study.recommend.repository;
+
+import java.time.LocalDateTime;
+
+public interface UserVersionProjection {
+
+    Long getUserId();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,28 @@
+package com.study.recommend.scoring;
+
+/**
+ * GeoScoringEngine 의 배열 루프 구현 (스칼라 / Vector API)
+ */
+interface GeoKernel {
+
+    String name();
+
+    /**
+     * 기준점과 각 점 사이의 haversine 값 hav = sin²(Δφ/2) + cosφ₁·cosφ₂·sin²(Δλ/2)
+     * (sin²(x/2) = (1 - cos x) / 2 와 cos 합 공식으로 삼각함수 없이 계산)
+     */
+    void haversine(double sinLat0, double cosLat0, double sinLng0, double cosLng0,
+                   GeoPoints points, double[] out);
+
+    /** out[i] = max(0, 1 - distanceKm[i] / radiusKm) */
+    void linearDistanceScores(double[] distanceKm, int n, double radiusKm, double[] out);
+
+    /** out[i] = 1 / (1 + distanceKm[i]) (음수 거리는 0) */
+    void inverseDistanceScores(double[] distanceKm, int n, double[] out);
+
+    /** out[i] = sqrt(values[i] / max) (max <= 0 이면 0) */
+    void sqrtRatio(double[] values, int n, double max, double[] out);
+
+    /** out[i] = a[i] * wa + b[i] * wb */
+    void weightedSum(double[] a, double wa, double[] b, double wb, int n, double[] out);
+}
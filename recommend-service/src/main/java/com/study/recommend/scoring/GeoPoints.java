@@ -0,0 +1,48 @@
+package com.study.recommend.scoring;
+
+/**
+ * 좌표 묶음 (structure-of-arrays)
+ *
+ * 위도/경도 대신 sin/cos 을 미리 계산해서 들고 있으면
+ * 거리 계산 루프 안에 삼각함수가 없어져 곱셈/덧셈만 남는다 (→ 벡터화 가능).
+ */
+public class GeoPoints {
+
+    final double[] sinLat;
+    final double[] cosLat;
+    final double[] sinLng;
+    final double[] cosLng;
+
+    private int size;
+
+    public GeoPoints(int capacity) {
+        this.sinLat = new double[capacity];
+        this.cosLat = new double[capacity];
+        this.sinLng = new double[capacity];
+        this.cosLng = new double[capacity];
+    }
+
+    /**
+     * 미리 계산된 sin/cos 로 추가 (IndexedGroup 처럼 적재 시점에 한 번 계산해 둔 경우)
+     */
+    public void add(double sinLatValue, double cosLatValue, double sinLngValue, double cosLngValue) {
+        sinLat[size] = sinLatValue;
+        cosLat[size] = cosLatValue;
+        sinLng[size] = sinLngValue;
+        cosLng[size] = cosLngValue;
+        size++;
+    }
+
+    /**
+     * 위도/경도(도)로 추가
+     */
+    public void addDegrees(double latitude, double longitude) {
+        double lat = Math.toRadians(latitude);
+        double lng = Math.toRadians(longitude);
+        add(Math.sin(lat), Math.cos(lat), Math.sin(lng), Math.cos(lng));
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,163 @@
+package com.study.recommend.scoring;
+
+import com.study.recommend.util.GeoDistanceUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 후보 수천 개의 거리 / 거리 점수 / 결합 점수를 primitive double 배열로 한 번에 계산
+ *
+ * - 좌표는 GeoPoints(SoA, sin/cos 미리 계산)로 받아서 루프 안에 삼각함수가 없음
+ * - 반경 필터는 hav ≤ sin²(r / 2R) 로 비교 → asin 은 반경 안에 든 점만 계산
+ * - Vector API 구현은 -Pvector 빌드에만 포함되고, JVM 에 jdk.incubator.vector 모듈도 있을 때만 사용
+ *   그 외에는 스칼라 구현 (-Drecommend.scoring.vector=false 로 강제로 끌 수 있음)
+ */
+@Slf4j
+public class GeoScoringEngine {
+
+    private static final String VECTOR_KERNEL = "com.study.recommend.scoring.VectorGeoKernel";
+
+    private static final GeoScoringEngine DEFAULT = new GeoScoringEngine(detectKernel());
+
+    private final GeoKernel kernel;
+
+    private GeoScoringEngine(GeoKernel kernel) {
+        this.kernel = kernel;
+    }
+
+    /**
+     * 사용 가능한 가장 빠른 구현
+     */
+    public static GeoScoringEngine getInstance() {
+        return DEFAULT;
+    }
+
+    public static GeoScoringEngine scalar() {
+        return new GeoScoringEngine(new ScalarGeoKernel());
+    }
+
+    /**
+     * Vector API 구현 (모듈이 없으면 IllegalStateException)
+     */
+    public static GeoScoringEngine vector() {
+        GeoKernel kernel = loadVectorKernel();
+        if (kernel == null) {
+            throw new IllegalStateException("jdk.incubator.vector 모듈이 없습니다. --add-modules jdk.incubator.vector 로 실행하세요.");
+        }
+        return new GeoScoringEngine(kernel);
+    }
+
+    public String kernelName() {
+        return kernel.name();
+    }
+
+    // ===========================
+    // 거리
+    // ===========================
+
+    /**
+     * 기준점에서 각 점까지 거리(km)
+     */
+    public void distancesKm(double latitude, double longitude, GeoPoints points, double[] out) {
+        haversine(latitude, longitude, points, out);
+
+        for (int i = 0; i < points.size(); i++) {
+            out[i] = toKm(out[i]);
+        }
+    }
+
+    /**
+     * 반경 안에 드는 점만 골라서 (원래 인덱스, 거리) 를 앞에서부터 채움
+     * @return 반경 안에 든 점 개수
+     */
+    public int withinRadius(double latitude, double longitude, GeoPoints points, double radiusKm,
+                            int[] indexOut, double[] distanceOut) {
+        if (radiusKm < 0 || points.size() == 0) {
+            return 0;
+        }
+
+        double[] hav = new double[points.size()];
+        haversine(latitude, longitude, points, hav);
+
+        // 경계 근처는 실제 거리로 한 번 더 확인하도록 살짝 느슨하게 비교
+        double halfAngle = radiusKm / (2 * GeoDistanceUtil.EARTH_RADIUS_KM);
+        double threshold = halfAngle >= Math.PI / 2
+                ? Double.MAX_VALUE
+                : Math.pow(Math.sin(halfAngle), 2) * (1 + 1e-9) + 1e-15;
+
+        int count = 0;
+        for (int i = 0; i < hav.length; i++) {
+            if (hav[i] <= threshold) {
+                double distanceKm = toKm(hav[i]);
+                if (distanceKm <= radiusKm) {
+                    indexOut[count] = i;
+                    distanceOut[count] = distanceKm;
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    // ===========================
+    // 점수
+    // ===========================
+
+    /** 반경 끝에서 0 이 되는 선형 거리 점수: max(0, 1 - d / r) */
+    public void linearDistanceScores(double[] distanceKm, int n, double radiusKm, double[] out) {
+        kernel.linearDistanceScores(distanceKm, n, radiusKm, out);
+    }
+
+    /** DistanceScoreUtil 과 같은 거리 점수: 1 / (1 + d) */
+    public void inverseDistanceScores(double[] distanceKm, int n, double[] out) {
+        kernel.inverseDistanceScores(distanceKm, n, out);
+    }
+
+    /** 인기도 점수: sqrt(count / max) */
+    public void sqrtRatio(double[] values, int n, double max, double[] out) {
+        kernel.sqrtRatio(values, n, max, out);
+    }
+
+    /** 가중 합: a * wa + b * wb */
+    public void weightedSum(double[] a, double wa, double[] b, double wb, int n, double[] out) {
+        kernel.weightedSum(a, wa, b, wb, n, out);
+    }
+
+    // ===========================
+    // 내부 구현
+    // ===========================
+    private void haversine(double latitude, double longitude, GeoPoints points, double[] out) {
+        double lat = Math.toRadians(latitude);
+        double lng = Math.toRadians(longitude);
+        kernel.haversine(Math.sin(lat), Math.cos(lat), Math.sin(lng), Math.cos(lng), points, out);
+    }
+
+    private static double toKm(double hav) {
+        return 2 * GeoDistanceUtil.EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1.0, Math.max(0.0, hav))));
+    }
+
+    private static GeoKernel detectKernel() {
+        if (!Boolean.parseBoolean(System.getProperty("recommend.scoring.vector", "true"))) {
+            return new ScalarGeoKernel();
+        }
+
+        GeoKernel kernel = loadVectorKernel();
+        if (kernel == null) {
+            return new ScalarGeoKernel();
+        }
+
+        log.info("[GeoScoringEngine] Vector API 사용: {}", kernel.name());
+        return kernel;
+    }
+
+    private static GeoKernel loadVectorKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return (GeoKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("[GeoScoringEngine] Vector API 로드 실패 → 스칼라 사용: {}", e.getMessage());
+            return null;
+        }
+    }
+}
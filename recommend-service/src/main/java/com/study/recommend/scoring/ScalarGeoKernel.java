@@ -0,0 +1,64 @@
+package com.study.recommend.scoring;
+
+import java.util.Arrays;
+
+/**
+ * 기본 구현: 단순 for 루프 (C2 가 곱셈/덧셈 루프는 자동 벡터화함)
+ */
+class ScalarGeoKernel implements GeoKernel {
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void haversine(double sinLat0, double cosLat0, double sinLng0, double cosLng0,
+                          GeoPoints points, double[] out) {
+        double[] sinLat = points.sinLat;
+        double[] cosLat = points.cosLat;
+        double[] sinLng = points.sinLng;
+        double[] cosLng = points.cosLng;
+
+        for (int i = 0; i < points.size(); i++) {
+            double cosDLat = cosLat0 * cosLat[i] + sinLat0 * sinLat[i];
+            double cosDLng = cosLng0 * cosLng[i] + sinLng0 * sinLng[i];
+            out[i] = 0.5 * (1.0 - cosDLat) + 0.5 * cosLat0 * cosLat[i] * (1.0 - cosDLng);
+        }
+    }
+
+    @Override
+    public void linearDistanceScores(double[] distanceKm, int n, double radiusKm, double[] out) {
+        double inv = 1.0 / radiusKm;
+        for (int i = 0; i < n; i++) {
+            out[i] = Math.max(0.0, 1.0 - distanceKm[i] * inv);
+        }
+    }
+
+    @Override
+    public void inverseDistanceScores(double[] distanceKm, int n, double[] out) {
+        for (int i = 0; i < n; i++) {
+            double d = distanceKm[i];
+            out[i] = d < 0 ? 0.0 : 1.0 / (1.0 + d);
+        }
+    }
+
+    @Override
+    public void sqrtRatio(double[] values, int n, double max, double[] out) {
+        if (max <= 0) {
+            Arrays.fill(out, 0, n, 0.0);
+            return;
+        }
+        double inv = 1.0 / max;
+        for (int i = 0; i < n; i++) {
+            out[i] = Math.sqrt(values[i] * inv);
+        }
+    }
+
+    @Override
+    public void weightedSum(double[] a, double wa, double[] b, double wb, int n, double[] out) {
+        for (int i = 0; i < n; i++) {
+            out[i] = a[i] * wa + b[i] * wb;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.study.recommend.scoring;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * JDK Vector API 구현 (jdk.incubator.vector)
+ *
+ * JDK 17 에서는 인큐베이터 모듈이라 --add-modules jdk.incubator.vector 로 띄운 경우에만
+ * GeoScoringEngine 이 리플렉션으로 로드한다. (모듈이 없으면 이 클래스는 아예 링크되지 않음)
+ * 벡터 폭에 못 미치는 꼬리 구간은 스칼라로 처리.
+ */
+class VectorGeoKernel implements GeoKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final ScalarGeoKernel tail = new ScalarGeoKernel();
+
+    @Override
+    public String name() {
+        return "vector(" + SPECIES.length() + ")";
+    }
+
+    @Override
+    public void haversine(double sinLat0, double cosLat0, double sinLng0, double cosLng0,
+                          GeoPoints points, double[] out) {
+        int n = points.size();
+        int bound = SPECIES.loopBound(n);
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector sinLat = DoubleVector.fromArray(SPECIES, points.sinLat, i);
+            DoubleVector cosLat = DoubleVector.fromArray(SPECIES, points.cosLat, i);
+            DoubleVector sinLng = DoubleVector.fromArray(SPECIES, points.sinLng, i);
+            DoubleVector cosLng = DoubleVector.fromArray(SPECIES, points.cosLng, i);
+
+            DoubleVector cosDLat = cosLat.mul(cosLat0).add(sinLat.mul(sinLat0));
+            DoubleVector cosDLng = cosLng.mul(cosLng0).add(sinLng.mul(sinLng0));
+
+            DoubleVector hav = cosDLat.neg().add(1.0).mul(0.5)
+                    .add(cosLat.mul(0.5 * cosLat0).mul(cosDLng.neg().add(1.0)));
+            hav.intoArray(out, i);
+        }
+
+        for (; i < n; i++) {
+            double cosDLat = cosLat0 * points.cosLat[i] + sinLat0 * points.sinLat[i];
+            double cosDLng = cosLng0 * points.cosLng[i] + sinLng0 * points.sinLng[i];
+            out[i] = 0.5 * (1.0 - cosDLat) + 0.5 * cosLat0 * points.cosLat[i] * (1.0 - cosDLng);
+        }
+    }
+
+    @Override
+    public void linearDistanceScores(double[] distanceKm, int n, double radiusKm, double[] out) {
+        int bound = SPECIES.loopBound(n);
+        double inv = 1.0 / radiusKm;
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector d = DoubleVector.fromArray(SPECIES, distanceKm, i);
+            d.mul(-inv).add(1.0).max(0.0).intoArray(out, i);
+        }
+        for (; i < n; i++) {
+            out[i] = Math.max(0.0, 1.0 - distanceKm[i] * inv);
+        }
+    }
+
+    @Override
+    public void inverseDistanceScores(double[] distanceKm, int n, double[] out) {
+        int bound = SPECIES.loopBound(n);
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector d = DoubleVector.fromArray(SPECIES, distanceKm, i);
+            VectorMask<Double> negative = d.compare(VectorOperators.LT, 0.0);
+            DoubleVector.broadcast(SPECIES, 1.0).div(d.add(1.0))
+                    .blend(0.0, negative)
+                    .intoArray(out, i);
+        }
+        for (; i < n; i++) {
+            double d = distanceKm[i];
+            out[i] = d < 0 ? 0.0 : 1.0 / (1.0 + d);
+        }
+    }
+
+    @Override
+    public void sqrtRatio(double[] values, int n, double max, double[] out) {
+        if (max <= 0) {
+            tail.sqrtRatio(values, n, max, out);
+            return;
+        }
+
+        int bound = SPECIES.loopBound(n);
+        double inv = 1.0 / max;
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, values, i)
+                    .mul(inv)
+                    .lanewise(VectorOperators.SQRT)
+                    .intoArray(out, i);
+        }
+        for (; i < n; i++) {
+            out[i] = Math.sqrt(values[i] * inv);
+        }
+    }
+
+    @Override
+    public void weightedSum(double[] a, double wa, double[] b, double wb, int n, double[] out) {
+        int bound = SPECIES.loopBound(n);
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+            va.mul(wa).add(vb.mul(wb)).intoArray(out, i);
+        }
+        for (; i < n; i++) {
+            out[i] = a[i] * wa + b[i] * wb;
+        }
+    }
+}
@@ -0,0 +1,509 @@
+package com.study.recommend.semantic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 코사인 유사도 근사 최근접 이웃 인덱스 (HNSW, Malkov & Yashunin)
+ *
+ * - 벡터는 단위 벡터로 OffHeapVectors 에 (유사도 = 내적)
+ * - 층마다 이웃 목록: 0층은 최대 2M 개, 위층은 M 개
+ * - 위층에서 탐욕 탐색으로 진입점을 좁히고, 0층에서 ef 개 후보를 유지하며 탐색
+ * - 새 노드의 이웃은 휴리스틱 (이미 고른 이웃보다 나에게 더 가까운 후보만) → 군집 사이 연결 유지,
+ *   기존 노드 쪽 목록이 꽉 차면 가장 먼 이웃과 교체
+ * - 삭제/수정은 tombstone (탐색 경로로는 쓰되 결과에서 제외), 비율이 커지면 호출한 쪽이 재구성
+ *
+ * 추가는 쓰기 락, 검색은 읽기 락 (검색끼리는 동시에)
+ */
+final class HnswIndex {
+
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private final OffHeapVectors vectors;
+
+    // 노드 → 키(groupId) / 최고 층 / 층별 이웃 ([0] = 개수, [1..] = 이웃 노드) / 이웃과의 유사도
+    private long[] keys;
+    private int[] levels;
+    private int[][][] links;
+    private float[][][] linkScores;
+    private boolean[] deleted;
+    private int size;
+    private int deletedCount;
+
+    // 키 → 살아 있는 노드
+    private final Map<Long, Integer> nodeOf = new HashMap<>();
+
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 탐색 중 방문 표시 (스레드별, 세대 번호로 초기화 생략)
+    private final ThreadLocal<Visited> visited = ThreadLocal.withInitial(Visited::new);
+
+    HnswIndex(int dimension, int m, int efConstruction, int initialCapacity) {
+        this.dimension = dimension;
+        this.m = Math.max(2, m);
+        this.maxM0 = this.m * 2;
+        this.efConstruction = Math.max(efConstruction, this.m);
+        this.levelMultiplier = 1.0 / Math.log(this.m);
+
+        int capacity = Math.max(initialCapacity, 16);
+        this.vectors = new OffHeapVectors(dimension, capacity);
+        this.keys = new long[capacity];
+        this.levels = new int[capacity];
+        this.links = new int[capacity][][];
+        this.linkScores = new float[capacity][][];
+        this.deleted = new boolean[capacity];
+    }
+
+    // ===========================
+    // 상태
+    // ===========================
+    int dimension() {
+        return dimension;
+    }
+
+    int liveSize() {
+        lock.readLock().lock();
+        try {
+            return size - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return size == 0 ? 0.0 : (double) deletedCount / size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===========================
+    // 갱신
+    // ===========================
+
+    /**
+     * 추가 (같은 키가 있으면 이전 노드는 tombstone), vector 는 단위 벡터
+     */
+    void add(long key, float[] vector) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(key);
+            insert(key, vector);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markDeleted(long key) {
+        Integer previous = nodeOf.remove(key);
+        if (previous != null) {
+            deleted[previous] = true;
+            deletedCount++;
+        }
+    }
+
+    private void insert(long key, float[] vector) {
+        int node = size;
+        ensureCapacity(node + 1);
+        size++;
+
+        int level = randomLevel();
+        vectors.set(node, vector);
+        keys[node] = key;
+        levels[node] = level;
+        links[node] = new int[level + 1][];
+        linkScores[node] = new float[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            int maxConnections = (l == 0 ? maxM0 : m);
+            links[node][l] = new int[maxConnections + 1];
+            linkScores[node][l] = new float[maxConnections + 1];
+        }
+        nodeOf.put(key, node);
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        // 1. 새 노드보다 위층은 탐욕 탐색으로 진입점만 내려옴
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+
+        // 2. 새 노드 층부터 0층까지 후보 ef 개 → 휴리스틱으로 M 개 연결
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            Candidates found = searchLayer(vector, current, efConstruction, l);
+            Candidates selected = selectNeighbors(found, m);
+
+            for (int i = 0; i < selected.size; i++) {
+                int neighbor = selected.nodes[i];
+                float score = selected.scores[i];
+                link(node, neighbor, score, l);
+                link(neighbor, node, score, l);
+            }
+            current = found.best();
+        }
+
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+    }
+
+    /**
+     * from 의 l 층 이웃에 to 추가
+     * 꽉 찼으면 가장 먼 이웃과 교체 (새 노드 쪽 이웃은 휴리스틱으로 골랐으므로
+     * 기존 노드 쪽은 유사도만 비교 → 추가 한 번에 내적 O(M²) 재계산을 피함)
+     */
+    private void link(int from, int to, float score, int level) {
+        int[] list = links[from][level];
+        float[] scores = linkScores[from][level];
+        int count = list[0];
+
+        if (count < list.length - 1) {
+            list[++count] = to;
+            scores[count] = score;
+            list[0] = count;
+            return;
+        }
+
+        int weakest = 1;
+        for (int i = 2; i <= count; i++) {
+            if (scores[i] < scores[weakest]) weakest = i;
+        }
+        if (score > scores[weakest]) {
+            list[weakest] = to;
+            scores[weakest] = score;
+        }
+    }
+
+    /**
+     * 휴리스틱 이웃 선택: 후보(유사도 내림차순)를 보면서
+     * 이미 고른 이웃 누구보다도 기준점에 더 가까운 후보만 채택, 모자라면 버린 후보로 채움
+     */
+    private Candidates selectNeighbors(Candidates candidates, int max) {
+        candidates.sortDescending();
+        int n = candidates.size;
+        if (n <= max) {
+            return candidates;
+        }
+
+        Candidates selected = new Candidates(max);
+        Candidates skipped = new Candidates(n);
+
+        for (int i = 0; i < n && selected.size < max; i++) {
+            int candidate = candidates.nodes[i];
+            float toBase = candidates.scores[i];
+
+            boolean diverse = true;
+            for (int j = 0; j < selected.size; j++) {
+                if (vectors.dot(candidate, selected.nodes[j]) > toBase) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate, toBase);
+            } else {
+                skipped.add(candidate, toBase);
+            }
+        }
+
+        for (int i = 0; i < skipped.size && selected.size < max; i++) {
+            selected.add(skipped.nodes[i], skipped.scores[i]);
+        }
+        return selected;
+    }
+
+    private int randomLevel() {
+        double r = 1.0 - random.nextDouble();
+        return (int) (-Math.log(r) * levelMultiplier);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= keys.length) {
+            return;
+        }
+        int capacity = Math.max(required, keys.length * 2);
+        keys = Arrays.copyOf(keys, capacity);
+        levels = Arrays.copyOf(levels, capacity);
+        links = Arrays.copyOf(links, capacity);
+        linkScores = Arrays.copyOf(linkScores, capacity);
+        deleted = Arrays.copyOf(deleted, capacity);
+    }
+
+    // ===========================
+    // 검색
+    // ===========================
+
+    /**
+     * query(단위 벡터)와 코사인 유사도가 높은 순 k 개 (삭제된 노드 제외)
+     */
+    List<Neighbor> search(float[] query, int k, int ef) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return List.of();
+            }
+
+            int current = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                current = greedyClosest(query, current, l);
+            }
+
+            Candidates found = searchLayer(query, current, Math.max(ef, k), 0);
+            found.sortDescending();
+
+            List<Neighbor> result = new ArrayList<>(Math.min(k, found.size));
+            for (int i = 0; i < found.size && result.size() < k; i++) {
+                int node = found.nodes[i];
+                if (!deleted[node]) {
+                    result.add(new Neighbor(keys[node], found.scores[i]));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 한 층에서 더 가까운 이웃이 없을 때까지 이동
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float best = vectors.dot(query, current);
+
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            int[] list = links[current][level];
+            for (int i = 1; i <= list[0]; i++) {
+                int neighbor = list[i];
+                float score = vectors.dot(query, neighbor);
+                if (score > best) {
+                    best = score;
+                    current = neighbor;
+                    moved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 층 beam search: 탐색 후보(유사도 높은 것부터) + 결과 ef 개(가장 낮은 것을 꺼낼 수 있게)
+     */
+    private Candidates searchLayer(float[] query, int start, int ef, int level) {
+        Visited seen = visited.get();
+        seen.reset(size);
+
+        Heap toVisit = new Heap(ef * 2, true);
+        Heap results = new Heap(ef + 1, false);
+
+        float startScore = vectors.dot(query, start);
+        seen.mark(start);
+        toVisit.push(start, startScore);
+        results.push(start, startScore);
+
+        while (toVisit.size > 0) {
+            float score = toVisit.topScore();
+            int node = toVisit.pop();
+
+            // 남은 후보 중 가장 가까운 것도 결과의 가장 먼 것보다 멀면 종료
+            if (results.size >= ef && score < results.topScore()) {
+                break;
+            }
+
+            int[] list = links[node][level];
+            for (int i = 1; i <= list[0]; i++) {
+                int neighbor = list[i];
+                if (!seen.mark(neighbor)) continue;
+
+                float neighborScore = vectors.dot(query, neighbor);
+                if (results.size < ef || neighborScore > results.topScore()) {
+                    toVisit.push(neighbor, neighborScore);
+                    results.push(neighbor, neighborScore);
+                    if (results.size > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+
+        Candidates out = new Candidates(results.size);
+        for (int i = 0; i < results.size; i++) {
+            out.add(results.nodes[i], results.scores[i]);
+        }
+        return out;
+    }
+
+    // ===========================
+    // 내부 자료구조
+    // ===========================
+    static final class Neighbor {
+        final long key;
+        final float similarity;
+
+        Neighbor(long key, float similarity) {
+            this.key = key;
+            this.similarity = similarity;
+        }
+    }
+
+    // 노드 + 유사도 목록
+    private static final class Candidates {
+        private int[] nodes;
+        private float[] scores;
+        private int size;
+
+        private Candidates(int capacity) {
+            this.nodes = new int[Math.max(capacity, 1)];
+            this.scores = new float[Math.max(capacity, 1)];
+        }
+
+        private void add(int node, float score) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            nodes[size] = node;
+            scores[size] = score;
+            size++;
+        }
+
+        // 유사도 내림차순 (삽입 정렬, 후보는 많아야 ef 개)
+        private void sortDescending() {
+            for (int i = 1; i < size; i++) {
+                int node = nodes[i];
+                float score = scores[i];
+                int j = i - 1;
+                while (j >= 0 && scores[j] < score) {
+                    nodes[j + 1] = nodes[j];
+                    scores[j + 1] = scores[j];
+                    j--;
+                }
+                nodes[j + 1] = node;
+                scores[j + 1] = score;
+            }
+        }
+
+        private int best() {
+            int bestIndex = 0;
+            for (int i = 1; i < size; i++) {
+                if (scores[i] > scores[bestIndex]) bestIndex = i;
+            }
+            return nodes[bestIndex];
+        }
+    }
+
+    // 이진 힙 (max = 유사도 높은 것이 top, min = 낮은 것이 top)
+    private static final class Heap {
+        private int[] nodes;
+        private float[] scores;
+        private int size;
+        private final boolean max;
+
+        private Heap(int capacity, boolean max) {
+            this.nodes = new int[Math.max(capacity, 2)];
+            this.scores = new float[Math.max(capacity, 2)];
+            this.max = max;
+        }
+
+        private float topScore() {
+            return scores[0];
+        }
+
+        private void push(int node, float score) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(score, scores[parent])) break;
+                nodes[i] = nodes[parent];
+                scores[i] = scores[parent];
+                i = parent;
+            }
+            nodes[i] = node;
+            scores[i] = score;
+        }
+
+        private int pop() {
+            int top = nodes[0];
+            size--;
+            if (size > 0) {
+                int node = nodes[size];
+                float score = scores[size];
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) break;
+                    if (child + 1 < size && before(scores[child + 1], scores[child])) child++;
+                    if (!before(scores[child], score)) break;
+                    nodes[i] = nodes[child];
+                    scores[i] = scores[child];
+                    i = child;
+                }
+                nodes[i] = node;
+                scores[i] = score;
+            }
+            return top;
+        }
+
+        private boolean before(float a, float b) {
+            return max ? a > b : a < b;
+        }
+    }
+
+    // 방문 표시: 세대 번호가 같으면 방문한 노드 (매 탐색마다 배열을 비우지 않음)
+    private static final class Visited {
+        private int[] stamps = new int[0];
+        private int generation;
+
+        private void reset(int size) {
+            if (stamps.length < size) {
+                stamps = new int[Math.max(size, stamps.length * 2)];
+                generation = 0;
+            }
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamps, 0);
+                generation = 1;
+            }
+        }
+
+        // 처음 방문이면 true
+        private boolean mark(int node) {
+            if (stamps[node] == generation) return false;
+            stamps[node] = generation;
+            return true;
+        }
+    }
+}
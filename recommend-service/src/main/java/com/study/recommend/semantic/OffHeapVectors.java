@@ -0,0 +1,141 @@
+package com.study.recommend.semantic;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * 고정 차원 float 벡터 배열 (direct buffer, 힙 밖)
+ *
+ * 그룹 10만 개 × 32차원 = 12.8MB 가 GC 대상에서 빠지고,
+ * 벡터가 연속된 메모리에 있어서 내적 루프가 캐시를 잘 탄다.
+ *
+ * 스레드 안전하지 않음 (HnswIndex / TagEmbeddings 가 감쌈)
+ */
+final class OffHeapVectors {
+
+    private final int dimension;
+    private FloatBuffer buffer;
+    private int capacity;
+
+    // 내적용 복사 공간 (스레드별)
+    private final ThreadLocal<Scratch> scratch;
+
+    OffHeapVectors(int dimension, int initialCapacity) {
+        this.dimension = dimension;
+        this.capacity = Math.max(initialCapacity, 16);
+        this.buffer = allocate(capacity * dimension);
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(dimension));
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    void set(int index, float[] vector) {
+        ensureCapacity(index + 1);
+        int base = index * dimension;
+        for (int i = 0; i < dimension; i++) {
+            buffer.put(base + i, vector[i]);
+        }
+    }
+
+    float[] get(int index) {
+        float[] out = new float[dimension];
+        int base = index * dimension;
+        for (int i = 0; i < dimension; i++) {
+            out[i] = buffer.get(base + i);
+        }
+        return out;
+    }
+
+    // out += weight * vectors[index]
+    void addTo(int index, float weight, float[] out) {
+        int base = index * dimension;
+        for (int i = 0; i < dimension; i++) {
+            out[i] += weight * buffer.get(base + i);
+        }
+    }
+
+    /**
+     * 내적 (HNSW 구성/검색 시간 대부분)
+     * direct buffer 를 원소마다 get 하면 매번 범위 검사가 붙으므로,
+     * 한 벡터씩 스레드별 힙 배열로 한 번에 복사한 뒤 누적 변수 4개로 계산
+     */
+    float dot(float[] query, int index) {
+        float[] stored = scratch.get().a;
+        buffer.get(index * dimension, stored, 0, dimension);
+        return dot(query, stored, dimension);
+    }
+
+    float dot(int a, int b) {
+        Scratch s = scratch.get();
+        buffer.get(a * dimension, s.a, 0, dimension);
+        buffer.get(b * dimension, s.b, 0, dimension);
+        return dot(s.a, s.b, dimension);
+    }
+
+    private static float dot(float[] x, float[] y, int dimension) {
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int i = 0;
+        for (; i + 3 < dimension; i += 4) {
+            s0 += x[i] * y[i];
+            s1 += x[i + 1] * y[i + 1];
+            s2 += x[i + 2] * y[i + 2];
+            s3 += x[i + 3] * y[i + 3];
+        }
+        for (; i < dimension; i++) {
+            s0 += x[i] * y[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(required, capacity * 2);
+        FloatBuffer grown = allocate(newCapacity * dimension);
+        FloatBuffer old = buffer.duplicate();
+        old.clear();
+        grown.put(old);
+        grown.clear();
+
+        buffer = grown;
+        capacity = newCapacity;
+    }
+
+    private static FloatBuffer allocate(int floats) {
+        return ByteBuffer.allocateDirect(floats * Float.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asFloatBuffer();
+    }
+
+    /**
+     * 단위 벡터로 (길이 0 이면 false → 쓸 수 없는 벡터)
+     */
+    static boolean normalize(float[] vector) {
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        if (norm == 0) {
+            return false;
+        }
+        float inv = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inv;
+        }
+        return true;
+    }
+
+    private static final class Scratch {
+        private final float[] a;
+        private final float[] b;
+
+        private Scratch(int dimension) {
+            this.a = new float[dimension];
+            this.b = new float[dimension];
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.study.recommend.semantic;
+
+import com.study.recommend.index.GeoGridIndex;
+import com.study.recommend.index.GroupChangedEvent;
+import com.study.recommend.index.IndexedGroup;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그룹 임베딩(태그 평균 벡터) HNSW 인덱스
+ *
+ * 1) GeoGridIndex 가 준비되면 전체 구성 (새 인덱스를 만든 뒤 참조만 교체)
+ * 2) GroupChangedEvent 로 태그가 바뀐 그룹만 다시 넣고, 사라진 그룹은 tombstone
+ * 3) tombstone 비율이 max-deleted-ratio 를 넘으면 다시 전체 구성
+ *
+ * 구성 중에 들어온 변경은 모아 뒀다가 교체 직후 새 인덱스에 반영한다.
+ */
+@Slf4j
+@Component
+public class SemanticGroupIndex {
+
+    private final GeoGridIndex geoGridIndex;
+    private final TagEmbeddings embeddings;
+
+    private final boolean enabled;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double maxDeletedRatio;
+
+    private volatile HnswIndex current;
+
+    // 인덱스에 들어간 그룹의 category (태그가 안 바뀐 변경은 건너뜀)
+    private final Map<Long, String> indexedCategories = new ConcurrentHashMap<>();
+
+    // 전체 구성 중에 바뀐 그룹
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean building = false;
+
+    public SemanticGroupIndex(GeoGridIndex geoGridIndex,
+                              TagEmbeddings embeddings,
+                              @Value("${recommend.semantic.enabled:true}") boolean enabled,
+                              @Value("${recommend.semantic.m:16}") int m,
+                              @Value("${recommend.semantic.ef-construction:100}") int efConstruction,
+                              @Value("${recommend.semantic.ef-search:128}") int efSearch,
+                              @Value("${recommend.semantic.max-deleted-ratio:0.2}") double maxDeletedRatio) {
+        this.geoGridIndex = geoGridIndex;
+        this.embeddings = embeddings;
+        this.enabled = enabled;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.maxDeletedRatio = maxDeletedRatio;
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    public int size() {
+        HnswIndex index = current;
+        return index == null ? 0 : index.liveSize();
+    }
+
+    // ===========================
+    // 검색
+    // ===========================
+
+    /**
+     * query(TagEmbeddings.average 결과)와 가장 가까운 그룹 k 개 (유사도 내림차순)
+     */
+    public List<SemanticMatch> search(float[] query, int k) {
+        HnswIndex index = current;
+        if (index == null || query == null || query.length != index.dimension()) {
+            return List.of();
+        }
+
+        List<HnswIndex.Neighbor> neighbors = index.search(query, k, efSearch);
+        List<SemanticMatch> result = new ArrayList<>(neighbors.size());
+        for (HnswIndex.Neighbor n : neighbors) {
+            result.add(new SemanticMatch(n.key, n.similarity));
+        }
+        return result;
+    }
+
+    // ===========================
+    // 전체 구성
+    // ===========================
+    @Scheduled(
+            fixedDelayString = "${recommend.semantic.check-interval-ms:10000}",
+            initialDelayString = "${recommend.semantic.check-interval-ms:10000}"
+    )
+    public void rebuildIfNeeded() {
+        if (!enabled || embeddings.isEmpty() || !geoGridIndex.isReady()) {
+            return;
+        }
+
+        HnswIndex index = current;
+        if (index == null || index.deletedRatio() > maxDeletedRatio) {
+            rebuild(geoGridIndex.all());
+        }
+    }
+
+    public void rebuild(Collection<IndexedGroup> groups) {
+        building = true;
+        changedDuringBuild.clear();
+        try {
+            long start = System.currentTimeMillis();
+
+            HnswIndex index = new HnswIndex(embeddings.dimension(), m, efConstruction, groups.size());
+            Map<Long, String> categories = new ConcurrentHashMap<>();
+            for (IndexedGroup group : groups) {
+                float[] vector = embeddings.average(group.getTags());
+                if (vector != null) {
+                    index.add(group.getGroupId(), vector);
+                    categories.put(group.getGroupId(), Objects.toString(group.getCategory(), ""));
+                }
+            }
+
+            current = index;
+            indexedCategories.clear();
+            indexedCategories.putAll(categories);
+
+            log.info("[SemanticGroupIndex] 구성 완료 groups={} ({}ms)",
+                    index.liveSize(), System.currentTimeMillis() - start);
+        } finally {
+            building = false;
+        }
+
+        // 구성하는 동안 바뀐 그룹을 새 인덱스에 반영
+        List<Long> changed = new ArrayList<>(changedDuringBuild);
+        changedDuringBuild.clear();
+        changed.forEach(this::apply);
+    }
+
+    // ===========================
+    // 증분 갱신
+    // ===========================
+    @EventListener
+    public void onGroupChanged(GroupChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (building) {
+            changedDuringBuild.add(event.getGroupId());
+        }
+        if (current != null) {
+            apply(event.getGroupId());
+        }
+    }
+
+    private void apply(Long groupId) {
+        HnswIndex index = current;
+        if (index == null) {
+            return;
+        }
+
+        IndexedGroup group = geoGridIndex.get(groupId);
+        if (group == null) {
+            if (indexedCategories.remove(groupId) != null) {
+                index.remove(groupId);
+            }
+            return;
+        }
+
+        // 멤버 수 / 위치만 바뀐 경우는 벡터가 같음
+        String category = Objects.toString(group.getCategory(), "");
+        if (category.equals(indexedCategories.get(groupId))) {
+            return;
+        }
+
+        float[] vector = embeddings.average(group.getTags());
+        if (vector == null) {
+            indexedCategories.remove(groupId);
+            index.remove(groupId);
+            return;
+        }
+        index.add(groupId, vector);
+        indexedCategories.put(groupId, category);
+    }
+}
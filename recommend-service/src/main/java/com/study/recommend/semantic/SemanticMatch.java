@@ -0,0 +1,15 @@
+package com.study.recommend.semantic;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 의미 기반 근사 최근접 이웃 결과 한 건 (코사인 유사도)
+ */
+@Getter
+@AllArgsConstructor
+public class SemanticMatch {
+
+    private final long groupId;
+    private final double similarity;
+}
@@ -0,0 +1,139 @@
+package com.study.recommend.semantic;
+
+import com.study.recommend.tag.FuzzyTagIndex;
+import com.study.recommend.util.TagSimilarityUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태그 임베딩 테이블 (word2vec 텍스트 형식 파일, 기본은 resources/embeddings/tag-embeddings.txt)
+ *
+ *   첫 줄: <태그 수> <차원>
+ *   이후 : <태그> <v1> ... <vd>
+ *
+ * - 태그는 TagSimilarityUtil.normalizeFull 로 정규화해서 보관 (동의어도 같은 벡터로)
+ * - 벡터는 단위 벡터로 바꿔서 힙 밖에 (OffHeapVectors)
+ * - 테이블에 없는 태그는 오타/부분 태그 근사 매칭(FuzzyTagIndex)으로 찾고 매칭 가중치만큼 반영
+ *
+ * 태그 목록 → 평균 벡터 (사용자 / 그룹 표현), 하나도 못 찾으면 null
+ */
+@Slf4j
+@Component
+public class TagEmbeddings {
+
+    private final Map<String, Integer> rows = new HashMap<>();
+    private final FuzzyTagIndex fuzzyIndex = new FuzzyTagIndex();
+    private OffHeapVectors vectors;
+    private int dimension;
+
+    public TagEmbeddings(@Value("${recommend.semantic.embeddings-path:classpath:embeddings/tag-embeddings.txt}")
+                         Resource resource) {
+        try {
+            load(resource);
+            log.info("[TagEmbeddings] 적재 완료 tags={} dim={}", rows.size(), dimension);
+        } catch (Exception e) {
+            // 임베딩이 없으면 의미 기반 추천만 빈 결과 (다른 추천은 영향 없음)
+            log.warn("[TagEmbeddings] 적재 실패 → 의미 기반 추천 비활성: {}", e.getMessage());
+            rows.clear();
+            vectors = null;
+            dimension = 0;
+        }
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * 태그 목록의 평균 벡터 (단위 벡터), 아는 태그가 하나도 없으면 null
+     */
+    public float[] average(List<String> rawTags) {
+        if (vectors == null || rawTags == null || rawTags.isEmpty()) {
+            return null;
+        }
+
+        float[] sum = new float[dimension];
+        boolean found = false;
+        for (String raw : rawTags) {
+            String normalized = TagSimilarityUtil.normalizeFull(raw);
+            if (normalized.isBlank()) continue;
+
+            Integer row = rows.get(normalized);
+            if (row != null) {
+                vectors.addTo(row, 1f, sum);
+                found = true;
+                continue;
+            }
+
+            FuzzyTagIndex.Match match = fuzzyIndex.bestMatch(normalized);
+            if (match != null) {
+                vectors.addTo(match.getId(), (float) match.getWeight(), sum);
+                found = true;
+            }
+        }
+
+        return found && OffHeapVectors.normalize(sum) ? sum : null;
+    }
+
+    // ===========================
+    // 적재
+    // ===========================
+    private void load(Resource resource) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IOException("빈 임베딩 파일입니다.");
+            }
+            String[] counts = header.trim().split("\\s+");
+            int expected = Integer.parseInt(counts[0]);
+            dimension = Integer.parseInt(counts[1]);
+            vectors = new OffHeapVectors(dimension, expected);
+
+            String line;
+            int lineNo = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) continue;
+
+                String[] parts = line.trim().split("\\s+");
+                if (parts.length != dimension + 1) {
+                    throw new IOException(lineNo + "번째 줄 차원이 " + (parts.length - 1) + " 입니다 (기대값 " + dimension + ")");
+                }
+
+                String tag = TagSimilarityUtil.normalizeFull(parts[0]);
+                if (tag.isBlank() || rows.containsKey(tag)) continue;
+
+                float[] vector = new float[dimension];
+                for (int i = 0; i < dimension; i++) {
+                    vector[i] = Float.parseFloat(parts[i + 1]);
+                }
+                if (!OffHeapVectors.normalize(vector)) continue;
+
+                int row = rows.size();
+                vectors.set(row, vector);
+                rows.put(tag, row);
+                fuzzyIndex.addVocabulary(tag, row);
+            }
+        }
+    }
+}
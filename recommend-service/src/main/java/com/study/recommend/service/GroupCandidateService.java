@@ -0,0 +1,102 @@
+package com.study.recommend.service;
+
+import com.study.recommend.index.GeoCandidate;
+import com.study.recommend.index.GeoGridIndex;
+import com.study.recommend.metrics.RecommendMetrics;
+import com.study.recommend.repository.GroupPopularityProjection;
+import com.study.recommend.repository.PopularLocationProjection;
+import com.study.recommend.repository.PopularLocationRepository;
+import com.study.recommend.repository.TagLocationProjection;
+import com.study.recommend.repository.TagLocationRepository;
+import com.study.recommend.util.GeoBoundingBox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 반경 내 후보 그룹 조회
+ *
+ * 인메모리 공간 인덱스(GeoGridIndex)가 준비돼 있으면 인덱스에서 찾고,
+ * 아직 적재 전이거나 적재에 실패했으면 기존 네이티브 쿼리로 대체한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class GroupCandidateService {
+
+    private static final int GROUP_CHUNK_SIZE = 500;
+
+    private final GeoGridIndex geoGridIndex;
+    private final TagLocationRepository tagLocationRepository;
+    private final PopularLocationRepository popularLocationRepository;
+    private final RecommendMetrics metrics;
+
+    // ===========================
+    // 태그 추천 후보 (가까운 순)
+    // ===========================
+    public List<TagLocationProjection> findTagCandidates(double latitude, double longitude,
+                                                         double radiusKm, int limit) {
+        if (!geoGridIndex.isReady()) {
+            GeoBoundingBox box = GeoBoundingBox.of(latitude, longitude, radiusKm);
+            return metrics.timeCandidateFetch("tag", "db",
+                    () -> tagLocationRepository.findGroupsByLocation(
+                            latitude, longitude, radiusKm,
+                            box.getMinLat(), box.getMaxLat(), box.getMinLng(), box.getMaxLng(),
+                            limit));
+        }
+
+        return metrics.timeCandidateFetch("tag", "index", () -> {
+            List<GeoCandidate> candidates = geoGridIndex.findWithinRadius(latitude, longitude, radiusKm);
+            return new ArrayList<>(candidates.subList(0, Math.min(limit, candidates.size())));
+        });
+    }
+
+    // ===========================
+    // 인기 추천 후보 (멤버 수 많은 순 → 가까운 순)
+    // ===========================
+    public List<PopularLocationProjection> findPopularCandidates(double latitude, double longitude,
+                                                                 double radiusKm, int limit) {
+        if (!geoGridIndex.isReady()) {
+            GeoBoundingBox box = GeoBoundingBox.of(latitude, longitude, radiusKm);
+            return metrics.timeCandidateFetch("popular", "db",
+                    () -> popularLocationRepository.findPopularGroupsByLocation(
+                            latitude, longitude, radiusKm,
+                            box.getMinLat(), box.getMaxLat(), box.getMinLng(), box.getMaxLng(),
+                            limit));
+        }
+
+        List<GeoCandidate> candidates = metrics.timeCandidateFetch("popular", "index",
+                () -> geoGridIndex.findWithinRadius(latitude, longitude, radiusKm));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        // 반경 내 그룹의 인기도 롤업만 PK 로 조회 (넓은 반경이면 IN 절이 커지므로 GROUP_CHUNK_SIZE 단위로)
+        List<Long> groupIds = candidates.stream().map(GeoCandidate::getGroupId).toList();
+        Map<Long, GroupPopularityProjection> popularity = metrics.timeCandidateFetch("popular", "db",
+                () -> findPopularity(groupIds));
+
+        return candidates.stream()
+                .map(c -> c.withPopularity(popularity.get(c.getGroupId())))
+                .sorted(Comparator.comparingLong(GeoCandidate::getMemberCount).reversed()
+                        .thenComparingDouble(GeoCandidate::getDistanceKm))
+                .limit(limit)
+                .map(c -> (PopularLocationProjection) c)
+                .toList();
+    }
+
+    private Map<Long, GroupPopularityProjection> findPopularity(List<Long> groupIds) {
+        Map<Long, GroupPopularityProjection> popularity = new HashMap<>(groupIds.size() * 2);
+        for (int from = 0; from < groupIds.size(); from += GROUP_CHUNK_SIZE) {
+            List<Long> chunk = groupIds.subList(from, Math.min(from + GROUP_CHUNK_SIZE, groupIds.size()));
+            for (GroupPopularityProjection row : popularLocationRepository.findPopularity(chunk)) {
+                popularity.put(row.getGroupId(), row);
+            }
+        }
+        return popularity;
+    }
+}
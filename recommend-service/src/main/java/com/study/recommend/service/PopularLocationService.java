@@ -1,21 +1,125 @@
 package com.study.recommend.service;
 
+import com.study.recommend.cache.PopularCacheKey;
+import com.study.recommend.cache.PopularCandidate;
+import com.study.recommend.cache.PopularCandidateCache;
 import com.study.recommend.dto.PopularLocationGroupDto;
 import com.study.recommend.dto.PopularLocationResponse;
 import com.study.recommend.dto.RecommendCriteria;
+import com.study.recommend.metrics.RecommendMetrics;
+import com.study.recommend.pagination.RankedPage;
+import com.study.recommend.pagination.RecommendCursor;
+import com.study.recommend.ranking.RankedCandidate;
+import com.study.recommend.ranking.RankingPipeline;
+import com.study.recommend.ranking.RankingResult;
 import com.study.recommend.repository.PopularLocationProjection;
-import com.study.recommend.repository.PopularLocationRepository;
-import lombok.RequiredArgsConstructor;
+import com.study.recommend.scoring.GeoScoringEngine;
+import com.study.recommend.util.GeoDistanceUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class PopularLocationService {
 
-    private final PopularLocationRepository popularLocationRepository;
+    // feature 이름
+    private static final String MEMBER_COUNT = "memberCount";
+    private static final String DISTANCE_KM = "distanceKm";
+    private static final String POP_SCORE = "popScore";
+    private static final String DISTANCE_SCORE = "distanceScore";
+    private static final String JOIN_VELOCITY = "joinVelocity";
+    private static final String TREND_SCORE = "trendScore";
+
+    private final GroupCandidateService groupCandidateService;
+    private final PopularCandidateCache popularCandidateCache;
+    private final RecommendMetrics metrics;
+
+    // 최근 가입 속도(트렌드) 비중: 인기도/거리 가중치는 (1 - trendWeight) 안에서 나눔
+    // 기본 0 → 켜지 않으면 popWeight / distanceWeight 요청 결과가 예전과 같음
+    @Value("${recommend.popular.trend-weight:0}")
+    private double trendWeight;
+
+    // 가입 속도 반감기 (study.popularity.velocity-half-life-hours 와 같게)
+    @Value("${recommend.popular.velocity-half-life-hours:72}")
+    private double velocityHalfLifeHours;
+
+    // 후보 풀 = limit × oversampling (상한 maxCandidatePool) → 멤버 수는 적어도 요즘 뜨는 그룹이 들어올 자리
+    @Value("${recommend.popular.oversampling-factor:3}")
+    private int oversamplingFactor;
+
+    @Value("${recommend.popular.max-candidate-pool:500}")
+    private int maxCandidatePool;
+
+    // 반경 필터 → 인기도 * popWeight + 거리 * distanceWeight + 트렌드 * trendWeight
+    // → 점수 같으면 후보 순서 (멤버 수 → 거리)
+    private final RankingPipeline<PopularQuery, PopularLocationProjection> pipeline;
+
+    public PopularLocationService(GroupCandidateService groupCandidateService,
+                                  PopularCandidateCache popularCandidateCache,
+                                  RecommendMetrics metrics) {
+        this.groupCandidateService = groupCandidateService;
+        this.popularCandidateCache = popularCandidateCache;
+        this.metrics = metrics;
+
+        GeoScoringEngine engine = GeoScoringEngine.getInstance();
+        this.pipeline = RankingPipeline.<PopularQuery, PopularLocationProjection>builder("popular")
+                // 반경 내 + 멤버 수 기준 정렬 (셀 후보 캐시 → 인메모리 인덱스 → DB)
+                .generator(this::findCandidates)
+                // 박싱된 getter 는 한 번씩만 읽어서 primitive 배열로 (SoA)
+                .feature(MEMBER_COUNT, (table, out) -> {
+                    for (int i = 0; i < table.size(); i++) {
+                        Long count = table.candidate(i).getMemberCount();
+                        out[i] = count == null ? 0L : count;
+                    }
+                })
+                .feature(DISTANCE_KM, (table, out) -> {
+                    for (int i = 0; i < table.size(); i++) {
+                        Double d = table.candidate(i).getDistanceKm();
+                        out[i] = d == null ? 0.0 : d;
+                    }
+                })
+                // 인기도 = sqrt(멤버 수 / 후보 전체 최대 멤버 수)
+                .poolFeature(POP_SCORE, (table, out) -> {
+                    double[] memberCounts = table.column(MEMBER_COUNT);
+                    double max = 0;
+                    for (double count : memberCounts) {
+                        max = Math.max(max, count);
+                    }
+                    engine.sqrtRatio(memberCounts, table.size(), max, out);
+                })
+                // 거리 = 1 - d / r (반경 끝이면 0)
+                .feature(DISTANCE_SCORE, (table, out) -> engine.linearDistanceScores(
+                        table.column(DISTANCE_KM), table.size(), table.query().getRadiusKm(), out))
+                // 가입 속도를 현재 시각까지 감쇠 (롤업에 저장된 값은 마지막 승인 시점 기준)
+                .feature(JOIN_VELOCITY, (table, out) -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    for (int i = 0; i < table.size(); i++) {
+                        PopularLocationProjection p = table.candidate(i);
+                        out[i] = decayVelocity(p.getJoinVelocity(), p.getVelocityUpdatedAt(), now);
+                    }
+                })
+                // 트렌드 = sqrt(가입 속도 / 후보 전체 최대 가입 속도)
+                .poolFeature(TREND_SCORE, (table, out) -> {
+                    double[] velocities = table.column(JOIN_VELOCITY);
+                    double max = 0;
+                    for (double velocity : velocities) {
+                        max = Math.max(max, velocity);
+                    }
+                    engine.sqrtRatio(velocities, table.size(), max, out);
+                })
+                .filter("withinRadius", (table, i) -> table.value(DISTANCE_KM, i) <= table.query().getRadiusKm())
+                .score(POP_SCORE, PopularQuery::getPopWeight)
+                .score(DISTANCE_SCORE, PopularQuery::getDistanceWeight)
+                .score(TREND_SCORE, PopularQuery::getTrendWeight)
+                .build();
+    }
 
     public PopularLocationResponse getPopularGroupsByLocation(
             double latitude,
@@ -24,6 +128,22 @@ public class PopularLocationService {
             Integer limitParam,
             Double popWeightParam,
             Double distanceWeightParam
+    ) {
+        return getPopularGroupsByLocation(
+                latitude, longitude, radiusKmParam, limitParam, popWeightParam, distanceWeightParam, null);
+    }
+
+    /**
+     * cursor 가 있으면 이전 페이지의 다음부터 (같은 셀의 후보는 후보 캐시에서 재사용)
+     */
+    public PopularLocationResponse getPopularGroupsByLocation(
+            double latitude,
+            double longitude,
+            Double radiusKmParam,
+            Integer limitParam,
+            Double popWeightParam,
+            Double distanceWeightParam,
+            String cursor
     ) {
         // 기본값
         double radiusKm = (radiusKmParam == null ? 2.0 : radiusKmParam);
@@ -42,76 +162,166 @@ public class PopularLocationService {
             distanceWeight /= sum;
         }
 
-        // 람다에서 사용할 final 사본
-        final double finalPopWeight = popWeight;
-        final double finalDistanceWeight = distanceWeight;
-
-        // DB 조회 (반경 내 + 멤버 수 기준 정렬)
-        List<PopularLocationProjection> projections =
-                popularLocationRepository.findPopularGroupsByLocation(latitude, longitude, radiusKm, limit);
-
-        if (projections.isEmpty()) {
-            return new PopularLocationResponse(
-                    RecommendCriteria.POPULARITY_LOCATION,
-                    radiusKm,
-                    limit,
-                    List.of()
-            );
-        }
+        RecommendCursor after = (cursor == null ? null : RecommendCursor.decode(cursor));
 
-        // 최대 멤버 수 (popScore 정규화용)
-        long maxMemberCount = projections.stream()
-                .mapToLong(p -> p.getMemberCount() == null ? 0L : p.getMemberCount())
-                .max()
-                .orElse(1L);
-
-        List<PopularLocationGroupDto> groups = projections.stream()
-                .map(p -> {
-                    long memberCount = p.getMemberCount() == null ? 0L : p.getMemberCount();
-                    double distanceKm = p.getDistanceKm() == null ? 0.0 : p.getDistanceKm();
-
-                    // 인기도 점수 (멤버 수 비율)
-                    double popScoreRaw = maxMemberCount > 0
-                            ? (double) memberCount / maxMemberCount
-                            : 0.0;
-
-                    // 🔥 제곱근 스케일링 적용
-                    double popScore = Math.sqrt(popScoreRaw);
-
-                    // 거리 점수 (가까울수록 1, 반경 끝이면 0)
-                    double distanceScore = 1.0 - (distanceKm / radiusKm);
-                    if (distanceScore < 0) distanceScore = 0;
-
-                    // 최종 점수 = 인기도 * 가중치 + 거리 * 가중치
-                    double finalScore = finalPopWeight * popScore + finalDistanceWeight * distanceScore;
-
-                    return new PopularLocationGroupDto(
-                            p.getGroupId(),
-                            p.getTitle(),
-                            p.getDescription(),
-                            memberCount,
-                            p.getMaxMembers(),
-                            p.getStatus(),
-                            p.getLatitude(),
-                            p.getLongitude(),
-                            round(distanceKm),
-                            round(popScore),
-                            round(distanceScore),
-                            round(finalScore)
-                    );
-                })
-                .sorted(Comparator.comparing(PopularLocationGroupDto::getFinalScore).reversed())
-                .toList();
+        // 후보 풀은 요청 limit 로만 정함 → 같은 limit 의 다음 페이지도 같은 풀에서 같은 순서로 정렬
+        // 첫 페이지는 limit + 1 개만 선택 (다음 페이지 여부 확인용), 커서 페이지만 풀 전체를 정렬해서 커서 다음부터 자름
+        // (커서는 반올림 전 점수로 → 응답의 finalScore 가 같은 그룹끼리도 위치를 정확히 찾음)
+        int poolSize = candidatePoolSize(limit);
+        int depth = (after == null ? Math.min(limit + 1, poolSize) : poolSize);
+        List<RankedCandidate<PopularLocationProjection>> ranked =
+                compute(latitude, longitude, radiusKm, poolSize, depth, popWeight, distanceWeight);
+
+        RankedPage<RankedCandidate<PopularLocationProjection>> page = RankedPage.of(
+                ranked, after, limit,
+                RankedCandidate::getScore, r -> r.getCandidate().getGroupId());
+        metrics.recordResponse("popular", page.getItems().isEmpty());
+
+        // DTO 는 마지막에 페이지 항목만 생성
+        List<PopularLocationGroupDto> groups = new ArrayList<>(page.getItems().size());
+        for (RankedCandidate<PopularLocationProjection> r : page.getItems()) {
+            groups.add(toDto(r));
+        }
 
         return new PopularLocationResponse(
                 RecommendCriteria.POPULARITY_LOCATION,
                 radiusKm,
                 limit,
-                groups
+                groups,
+                page.getNextCursor()
         );
     }
 
+    // ===========================
+    // 후보 조회
+    // ===========================
+
+    /**
+     * 요청 좌표 기준 반경 내 후보 (멤버 수 → 거리 순, poolSize 개)
+     *
+     * 캐시는 셀 중심에서 요청 원을 덮는 반경의 후보만 공유하고,
+     * 거리 / 반경 필터는 여기서 실제 요청 좌표·반경으로 다시 계산한다.
+     *
+     * 셀 후보는 maxCandidatePool + 1 개까지만 담는다. 넘쳐서 잘린 셀이면 빠진 그룹의 멤버 수는
+     * 마지막 항목 이하이므로, 요청 풀이 그보다 멤버 수가 많은 그룹으로만 채워질 때만 셀 후보를 쓰고
+     * 아니면 요청 좌표·반경으로 직접 조회한다.
+     */
+    private List<PopularLocationProjection> findCandidates(PopularQuery q) {
+        if (!popularCandidateCache.isEnabled()) {
+            return groupCandidateService.findPopularCandidates(
+                    q.getLatitude(), q.getLongitude(), q.getRadiusKm(), q.getPoolSize());
+        }
+
+        PopularCacheKey key = popularCandidateCache.keyOf(q.getLatitude(), q.getLongitude(), q.getRadiusKm());
+        List<PopularCandidate> cell = popularCandidateCache.get(key, k ->
+                groupCandidateService.findPopularCandidates(
+                                k.getCenterLatitude(), k.getCenterLongitude(), k.getRadiusKm(), maxCandidatePool + 1)
+                        .stream()
+                        .map(PopularCandidate::of)
+                        .toList());
+
+        List<PopularLocationProjection> candidates = new ArrayList<>();
+        for (PopularCandidate c : cell) {
+            if (c.getLatitude() == null || c.getLongitude() == null) {
+                continue;
+            }
+            double distanceKm = GeoDistanceUtil.haversineKm(
+                    q.getLatitude(), q.getLongitude(), c.getLatitude(), c.getLongitude());
+            if (distanceKm <= q.getRadiusKm()) {
+                candidates.add(c.at(distanceKm));
+            }
+        }
+
+        candidates.sort(Comparator
+                .comparingLong(PopularLocationService::memberCountOf)
+                .reversed()
+                .thenComparingDouble(PopularLocationProjection::getDistanceKm));
+        List<PopularLocationProjection> pool =
+                candidates.size() > q.getPoolSize() ? candidates.subList(0, q.getPoolSize()) : candidates;
+
+        // 잘린 셀: 풀이 덜 찼거나 풀의 마지막이 잘린 경계(멤버 수) 이하면 빠진 그룹이 들어갈 수 있음 → 직접 조회
+        if (cell.size() > maxCandidatePool) {
+            PopularCandidate last = cell.get(cell.size() - 1);
+            long floor = last.getMemberCount() == null ? 0L : last.getMemberCount();
+            if (pool.size() < q.getPoolSize()
+                    || (!pool.isEmpty() && memberCountOf(pool.get(pool.size() - 1)) <= floor)) {
+                return groupCandidateService.findPopularCandidates(
+                        q.getLatitude(), q.getLongitude(), q.getRadiusKm(), q.getPoolSize());
+            }
+        }
+
+        // 캐시 없이 조회한 것과 같은 순서 / 개수
+        return pool;
+    }
+
+    private static long memberCountOf(PopularLocationProjection p) {
+        return p.getMemberCount() == null ? 0L : p.getMemberCount();
+    }
+
+    private List<RankedCandidate<PopularLocationProjection>> compute(double latitude, double longitude,
+                                                                    double radiusKm, int poolSize, int depth,
+                                                                    double popWeight, double distanceWeight) {
+        double trend = Math.min(1.0, Math.max(0.0, trendWeight));
+        PopularQuery query = new PopularQuery(latitude, longitude, radiusKm, poolSize,
+                popWeight * (1 - trend), distanceWeight * (1 - trend), trend);
+        RankingResult<PopularLocationProjection> result = pipeline.rank(query, depth);
+        metrics.recordRanking("popular", result);
+
+        // 이미 최종 점수 순
+        return result.getRanked();
+    }
+
+    private PopularLocationGroupDto toDto(RankedCandidate<PopularLocationProjection> ranked) {
+        PopularLocationProjection p = ranked.getCandidate();
+        return new PopularLocationGroupDto(
+                p.getGroupId(),
+                p.getTitle(),
+                p.getDescription(),
+                (long) ranked.feature(MEMBER_COUNT),
+                p.getMaxMembers(),
+                p.getStatus(),
+                p.getLatitude(),
+                p.getLongitude(),
+                round(ranked.feature(DISTANCE_KM)),
+                round(ranked.feature(POP_SCORE)),
+                round(ranked.feature(DISTANCE_SCORE)),
+                round(ranked.feature(TREND_SCORE)),
+                round(ranked.getScore())
+        );
+    }
+
+    // 후보 풀 크기 = limit × oversampling (상한 maxCandidatePool, limit 보다 작아지지는 않음)
+    private int candidatePoolSize(int limit) {
+        long pool = (long) Math.max(limit, 0) * Math.max(oversamplingFactor, 1);
+        return (int) Math.max(limit, Math.min(pool, maxCandidatePool));
+    }
+
+    private double decayVelocity(Double velocity, LocalDateTime updatedAt, LocalDateTime now) {
+        if (velocity == null || velocity <= 0) {
+            return 0.0;
+        }
+        if (updatedAt == null || velocityHalfLifeHours <= 0) {
+            return velocity;
+        }
+        double hours = Math.max(0, Duration.between(updatedAt, now).getSeconds()) / 3600.0;
+        return velocity * Math.pow(0.5, hours / velocityHalfLifeHours);
+    }
+
     private double round(double value) {
         return Math.round(value * 100.0) / 100.0;
     }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PopularQuery {
+        private final double latitude;
+        private final double longitude;
+        private final double radiusKm;
+        private final int poolSize;
+
+        // 정규화된 가중치 (인기도 / 거리 / 트렌드, 합 1)
+        private final double popWeight;
+        private final double distanceWeight;
+        private final double trendWeight;
+    }
 }
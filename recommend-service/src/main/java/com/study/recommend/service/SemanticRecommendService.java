@@ -0,0 +1,86 @@
+package com.study.recommend.service;
+
+import com.study.recommend.cf.CoMembershipIndex;
+import com.study.recommend.dto.RecommendCriteria;
+import com.study.recommend.dto.SemanticGroupDto;
+import com.study.recommend.dto.SemanticRecommendResponse;
+import com.study.recommend.index.GeoGridIndex;
+import com.study.recommend.index.IndexedGroup;
+import com.study.recommend.metrics.RecommendMetrics;
+import com.study.recommend.semantic.SemanticGroupIndex;
+import com.study.recommend.semantic.SemanticMatch;
+import com.study.recommend.tag.UserTagCache;
+import com.study.recommend.tag.UserTags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 의미 기반 태그 추천 ("pytorch" 관심 사용자에게 "deeplearning" 그룹)
+ *
+ * 사용자 / 그룹을 태그 임베딩 평균 벡터로 표현하고,
+ * 그룹 벡터 HNSW 인덱스에서 코사인 유사도 상위 k 개를 찾는다.
+ * 이미 가입한 그룹은 제외 (그만큼 더 뽑음)
+ */
+@Service
+@RequiredArgsConstructor
+public class SemanticRecommendService {
+
+    private final UserTagCache userTagCache;
+    private final SemanticGroupIndex semanticGroupIndex;
+    private final GeoGridIndex geoGridIndex;
+    private final CoMembershipIndex coMembershipIndex;
+    private final RecommendMetrics metrics;
+
+    public SemanticRecommendResponse getSemanticGroups(Long userId, int limit) {
+        if (limit <= 0 || !semanticGroupIndex.isReady()) {
+            return response(limit, List.of());
+        }
+
+        // 1. 유저 관심 태그 → 평균 벡터 (임베딩 테이블에 없는 태그는 근사 매칭, 캐시 항목에 같이 보관)
+        UserTags userTags = metrics.time("semantic", "user_tags_fetch", () -> userTagCache.get(userId));
+        float[] userVector = metrics.time("semantic", "embed", () -> userTagCache.embedding(userTags));
+        if (userVector == null) {
+            return response(limit, List.of());
+        }
+
+        // 2. 가입한 그룹 수만큼 더 뽑아서 근사 최근접 이웃 검색
+        long[] joined = userId != null ? coMembershipIndex.current().groupsOf(userId) : new long[0];
+        List<SemanticMatch> matches = metrics.time("semantic", "ann_search",
+                () -> semanticGroupIndex.search(userVector, limit + joined.length));
+
+        // 3. 가입한 그룹 / 인덱스에서 빠진 그룹 제외하고 limit 개
+        List<SemanticGroupDto> groups = new ArrayList<>(limit);
+        for (SemanticMatch match : matches) {
+            if (groups.size() >= limit) break;
+            if (Arrays.binarySearch(joined, match.getGroupId()) >= 0) continue;
+
+            IndexedGroup group = geoGridIndex.get(match.getGroupId());
+            if (group == null) continue;
+
+            groups.add(SemanticGroupDto.builder()
+                    .studyGroupId(group.getGroupId())
+                    .name(group.getTitle())
+                    .description(group.getDescription())
+                    .category(group.getTags())
+                    .latitude(group.getLatitude())
+                    .longitude(group.getLongitude())
+                    .similarity(Math.round(match.getSimilarity() * 100.0) / 100.0)
+                    .build());
+        }
+
+        return response(limit, groups);
+    }
+
+    private SemanticRecommendResponse response(int limit, List<SemanticGroupDto> groups) {
+        metrics.recordResponse("semantic", groups.isEmpty());
+        return SemanticRecommendResponse.builder()
+                .criteria(RecommendCriteria.SEMANTIC_TAG)
+                .limit(limit)
+                .groups(groups)
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.study.recommend.service;
+
+import com.study.recommend.cf.CoMembershipIndex;
+import com.study.recommend.cf.CoMembershipMatrix;
+import com.study.recommend.cf.CoOccurrence;
+import com.study.recommend.dto.RecommendCriteria;
+import com.study.recommend.dto.SimilarGroupDto;
+import com.study.recommend.dto.SimilarGroupResponse;
+import com.study.recommend.index.GeoGridIndex;
+import com.study.recommend.index.IndexedGroup;
+import com.study.recommend.repository.GroupIndexProjection;
+import com.study.recommend.repository.GroupIndexRepository;
+import com.study.recommend.util.CategoryJsonUtil;
+import com.study.recommend.util.TopKSelector;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * "이 그룹에 가입한 사람들은 이런 그룹에도 가입했어요" (item-item 공동 멤버십)
+ *
+ * 유사도 = 공동 멤버 수 / sqrt(기준 그룹 멤버 수 × 후보 그룹 멤버 수)
+ * → 멤버가 많은 대형 그룹이 모든 추천을 독차지하지 않도록 코사인 정규화
+ */
+@Service
+@RequiredArgsConstructor
+public class SimilarMembersService {
+
+    // 비활성/삭제된 그룹이 걸러질 것을 감안해서 limit 보다 넉넉히 뽑음
+    private static final int DETAIL_OVERSAMPLING = 3;
+
+    // 유사도 내림차순 → 공동 멤버 수 내림차순 → groupId 오름차순
+    private static final Comparator<ScoredGroup> RANKING_ORDER =
+            Comparator.comparingDouble(ScoredGroup::getSimilarity).reversed()
+                    .thenComparing(Comparator.comparingInt(ScoredGroup::getCoMemberCount).reversed())
+                    .thenComparingLong(ScoredGroup::getGroupId);
+
+    private final CoMembershipIndex coMembershipIndex;
+    private final GeoGridIndex geoGridIndex;
+    private final GroupIndexRepository groupIndexRepository;
+
+    public SimilarGroupResponse getSimilarGroups(Long userId, Long groupId, int limit) {
+
+        CoMembershipMatrix matrix = coMembershipIndex.current();
+
+        // 1. 기준 그룹과 멤버를 공유하는 그룹들
+        List<CoOccurrence> neighbors = matrix.neighbors(groupId);
+        int sourceMemberCount = matrix.memberCount(groupId);
+
+        if (neighbors.isEmpty() || sourceMemberCount == 0 || limit <= 0) {
+            return response(groupId, limit, List.of());
+        }
+
+        // 2. 요청자가 이미 가입한 그룹은 제외
+        long[] joined = userId != null ? matrix.groupsOf(userId) : new long[0];
+
+        List<ScoredGroup> scored = new ArrayList<>(neighbors.size());
+        for (CoOccurrence n : neighbors) {
+            if (Arrays.binarySearch(joined, n.getGroupId()) >= 0) {
+                continue;
+            }
+            double similarity = n.getCoMemberCount()
+                    / Math.sqrt((double) sourceMemberCount * Math.max(1, n.getMemberCount()));
+            scored.add(new ScoredGroup(n.getGroupId(), n.getCoMemberCount(), n.getMemberCount(), similarity));
+        }
+
+        // 3. 상위 후보만 상세 조회
+        List<ScoredGroup> top = TopKSelector.select(scored, limit * DETAIL_OVERSAMPLING, RANKING_ORDER);
+        Map<Long, GroupDetail> details = loadActiveDetails(top);
+
+        List<SimilarGroupDto> groups = new ArrayList<>(limit);
+        for (ScoredGroup s : top) {
+            GroupDetail detail = details.get(s.getGroupId());
+            if (detail == null) {
+                continue;
+            }
+
+            groups.add(SimilarGroupDto.builder()
+                    .studyGroupId(s.getGroupId())
+                    .name(detail.getTitle())
+                    .description(detail.getDescription())
+                    .category(detail.getTags())
+                    .memberCount(s.getMemberCount())
+                    .maxMembers(detail.getMaxMembers())
+                    .coMemberCount(s.getCoMemberCount())
+                    .similarity(round(s.getSimilarity()))
+                    .build());
+
+            if (groups.size() == limit) {
+                break;
+            }
+        }
+
+        return response(groupId, limit, groups);
+    }
+
+    /**
+     * ACTIVE 그룹 상세 (인메모리 인덱스 우선, 없으면 DB 한 번)
+     */
+    private Map<Long, GroupDetail> loadActiveDetails(List<ScoredGroup> top) {
+        Map<Long, GroupDetail> details = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (ScoredGroup s : top) {
+            IndexedGroup g = geoGridIndex.isReady() ? geoGridIndex.get(s.getGroupId()) : null;
+            if (g != null) {
+                details.put(s.getGroupId(), new GroupDetail(g.getTitle(), g.getDescription(), g.getTags(), g.getMaxMembers()));
+            } else {
+                missing.add(s.getGroupId());
+            }
+        }
+
+        // 위치가 없는 그룹은 공간 인덱스에 없으므로 DB 에서 조회
+        if (!missing.isEmpty()) {
+            for (GroupIndexProjection row : groupIndexRepository.findByGroupIds(missing)) {
+                if ("ACTIVE".equals(row.getStatus())) {
+                    details.put(row.getGroupId(), new GroupDetail(
+                            row.getTitle(), row.getDescription(),
+                            CategoryJsonUtil.parse(row.getCategory()), row.getMaxMembers()));
+                }
+            }
+        }
+
+        return details;
+    }
+
+    private SimilarGroupResponse response(Long groupId, int limit, List<SimilarGroupDto> groups) {
+        return SimilarGroupResponse.builder()
+                .criteria(RecommendCriteria.CO_MEMBERSHIP)
+                .groupId(groupId)
+                .limit(limit)
+                .groups(groups)
+                .build();
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ScoredGroup {
+        private final long groupId;
+        private final int coMemberCount;
+        private final int memberCount;
+        private final double similarity;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class GroupDetail {
+        private final String title;
+        private final String description;
+        private final List<String> tags;
+        private final Integer maxMembers;
+    }
+}
@@ -0,0 +1,270 @@
+package com.study.recommend.service;
+
+import com.study.recommend.domain.UserInterestTag;
+import com.study.recommend.dto.TagBatchItem;
+import com.study.recommend.dto.TagBatchRequest;
+import com.study.recommend.dto.TagBatchResult;
+import com.study.recommend.index.GeoCandidate;
+import com.study.recommend.repository.TagLocationProjection;
+import com.study.recommend.repository.UserInterestTagRepository;
+import com.study.recommend.tag.TagDictionary;
+import com.study.recommend.tag.WeightedTagIds;
+import com.study.recommend.util.GeoDistanceUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 여러 사용자 태그 추천을 한 번에 (프론트 일괄 조회 / 야간 메일 배치)
+ *
+ * 1) 모든 사용자의 관심 태그를 IN 쿼리로 한 번에 조회
+ * 2) 같은 격자 셀에 있는 사용자끼리 후보 조회를 공유
+ *    (셀 중심에서 반경 + 셀 반 대각선으로 한 번 조회 → 사용자별로 거리 다시 계산)
+ * 3) 셀 단위로 제한된 스레드 풀에서 병렬 점수화, 끝나는 순서대로 sink 로 흘려보냄
+ *
+ * sink 는 호출한 스레드에서만 불리므로 스트림 쓰기에 동기화가 필요 없다.
+ *
+ * 스레드 풀은 스레드 수/대기열을 고정해서 큰 배치가 와도 DB 커넥션 풀과 CPU 를 다 잡아먹지 않게 하고,
+ * 대기열이 차면 요청 스레드가 직접 처리(CallerRuns)해서 자연스럽게 속도를 늦춘다.
+ * (Executor 빈으로 등록하면 MVC 비동기용 applicationTaskExecutor 자동 설정이 빠지므로 서비스 내부에 둠)
+ */
+@Slf4j
+@Service
+public class TagBatchRecommendService {
+
+    // IN 절 하나에 넣을 userId 개수
+    private static final int USER_CHUNK_SIZE = 1000;
+
+    private final TagRecommendService tagRecommendService;
+    private final GroupCandidateService groupCandidateService;
+    private final UserInterestTagRepository userInterestTagRepository;
+    private final TagDictionary tagDictionary;
+    private final ThreadPoolExecutor executor;
+
+    private final int maxUsers;
+    private final double cellSizeDeg;
+    private final int maxSharedCandidates;
+
+    public TagBatchRecommendService(TagRecommendService tagRecommendService,
+                                    GroupCandidateService groupCandidateService,
+                                    UserInterestTagRepository userInterestTagRepository,
+                                    TagDictionary tagDictionary,
+                                    @Value("${recommend.batch.parallelism:4}") int parallelism,
+                                    @Value("${recommend.batch.queue-capacity:64}") int queueCapacity,
+                                    @Value("${recommend.batch.max-users:1000}") int maxUsers,
+                                    @Value("${recommend.batch.cell-size-deg:0.01}") double cellSizeDeg,
+                                    @Value("${recommend.batch.max-shared-candidates:5000}") int maxSharedCandidates) {
+        this.tagRecommendService = tagRecommendService;
+        this.groupCandidateService = groupCandidateService;
+        this.userInterestTagRepository = userInterestTagRepository;
+        this.tagDictionary = tagDictionary;
+        this.executor = newBoundedPool(parallelism, queueCapacity);
+        this.maxUsers = maxUsers;
+        this.cellSizeDeg = cellSizeDeg;
+        this.maxSharedCandidates = maxSharedCandidates;
+    }
+
+    /**
+     * 스트림을 열기 전에 요청 검증 (잘못된 요청은 400 으로)
+     */
+    public void validate(TagBatchRequest request) {
+        if (request.getUsers() == null || request.getUsers().isEmpty()) {
+            throw new IllegalArgumentException("users 가 비어 있습니다.");
+        }
+        if (request.getUsers().size() > maxUsers) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxUsers + "명까지 요청할 수 있습니다.");
+        }
+        if (request.getUsers().stream().anyMatch(u -> u.getUserId() == null)) {
+            throw new IllegalArgumentException("userId 가 없는 항목이 있습니다.");
+        }
+    }
+
+    public void recommend(TagBatchRequest request, Consumer<TagBatchResult> sink) {
+
+        // 1. 관심 태그 일괄 조회 → 사용자별 태그 id
+        Map<Long, WeightedTagIds> userTagIds = loadUserTagIds(request.getUsers());
+
+        // 2. 셀별로 묶기
+        Map<Long, List<TagBatchItem>> cells = new LinkedHashMap<>();
+        for (TagBatchItem item : request.getUsers()) {
+            cells.computeIfAbsent(cellKey(item.getLat(), item.getLng()), k -> new ArrayList<>()).add(item);
+        }
+
+        // 3. 셀 단위 병렬 점수화, 완료 순서대로 내보냄
+        CompletionService<List<TagBatchResult>> completion = new ExecutorCompletionService<>(executor);
+        for (List<TagBatchItem> cellUsers : cells.values()) {
+            completion.submit(() -> scoreCell(cellUsers, userTagIds, request));
+        }
+
+        for (int i = 0; i < cells.size(); i++) {
+            try {
+                completion.take().get().forEach(sink);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("배치 추천이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                // scoreCell 안에서 사용자별로 잡으므로 여기까지 오는 건 예상 밖의 오류
+                log.warn("[TagBatch] 셀 처리 실패: {}", e.getCause().getMessage());
+            }
+        }
+    }
+
+    // ===========================
+    // 셀 하나 점수화
+    // ===========================
+    private List<TagBatchResult> scoreCell(List<TagBatchItem> cellUsers, Map<Long, WeightedTagIds> userTagIds,
+                                           TagBatchRequest request) {
+        double radiusKm = request.getRadiusKm();
+        int limit = request.getLimit();
+        int poolSize = tagRecommendService.candidatePoolSize(limit);
+
+        List<TagBatchResult> results = new ArrayList<>(cellUsers.size());
+
+        // 혼자 있는 셀은 자기 위치로 바로 조회하는 게 더 쌈
+        List<TagLocationProjection> shared = null;
+        if (cellUsers.size() > 1) {
+            try {
+                TagBatchItem first = cellUsers.get(0);
+                long key = cellKey(first.getLat(), first.getLng());
+                double centerLat = ((int) (key >> 32) + 0.5) * cellSizeDeg;
+                double centerLng = ((int) key + 0.5) * cellSizeDeg;
+                double marginKm = cellSizeDeg * GeoDistanceUtil.KM_PER_DEGREE_LAT * Math.sqrt(2) / 2;
+
+                shared = groupCandidateService.findTagCandidates(
+                        centerLat, centerLng, radiusKm + marginKm, maxSharedCandidates);
+            } catch (Exception e) {
+                log.warn("[TagBatch] 공유 후보 조회 실패 → 사용자별 조회: {}", e.getMessage());
+            }
+        }
+
+        for (TagBatchItem user : cellUsers) {
+            try {
+                List<TagLocationProjection> candidates = (shared != null)
+                        ? relocate(shared, user.getLat(), user.getLng(), radiusKm, poolSize)
+                        : groupCandidateService.findTagCandidates(user.getLat(), user.getLng(), radiusKm, poolSize);
+
+                WeightedTagIds tagIds = userTagIds.getOrDefault(user.getUserId(), WeightedTagIds.EMPTY);
+
+                results.add(new TagBatchResult(
+                        user.getUserId(),
+                        tagRecommendService.rank(tagIds, candidates, radiusKm, limit,
+                                request.getAlpha(), request.getBeta()),
+                        null));
+
+            } catch (Exception e) {
+                results.add(new TagBatchResult(user.getUserId(), null, e.getMessage()));
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * 셀 공유 후보를 사용자 위치 기준으로 다시 거리 계산 → 반경 안, 가까운 순 poolSize 개
+     * (단건 추천과 같은 후보 풀이 되도록)
+     */
+    private List<TagLocationProjection> relocate(List<TagLocationProjection> shared,
+                                                 double lat, double lng,
+                                                 double radiusKm, int poolSize) {
+        List<TagLocationProjection> result = new ArrayList<>();
+
+        for (TagLocationProjection p : shared) {
+            if (p.getLatitude() == null || p.getLongitude() == null) {
+                continue;
+            }
+            double distanceKm = GeoDistanceUtil.haversineKm(lat, lng, p.getLatitude(), p.getLongitude());
+            if (distanceKm > radiusKm) {
+                continue;
+            }
+            result.add(p instanceof GeoCandidate c
+                    ? new GeoCandidate(c.getGroup(), distanceKm)
+                    : new RelocatedCandidate(p, distanceKm));
+        }
+
+        result.sort(Comparator.comparingDouble(TagLocationProjection::getDistanceKm));
+        return result.size() > poolSize ? new ArrayList<>(result.subList(0, poolSize)) : result;
+    }
+
+    // ===========================
+    // 태그 일괄 조회
+    // ===========================
+    private Map<Long, WeightedTagIds> loadUserTagIds(List<TagBatchItem> users) {
+        List<Long> userIds = users.stream().map(TagBatchItem::getUserId).distinct().toList();
+
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += USER_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + USER_CHUNK_SIZE, userIds.size()));
+            for (UserInterestTag row : userInterestTagRepository.findAllByUserIdIn(chunk)) {
+                tags.computeIfAbsent(row.getUserId(), k -> new ArrayList<>()).add(row.getTag());
+            }
+        }
+
+        Map<Long, WeightedTagIds> encoded = new HashMap<>(tags.size() * 2);
+        tags.forEach((userId, list) -> encoded.put(userId, tagDictionary.encodeWeighted(list)));
+        return encoded;
+    }
+
+    private static ThreadPoolExecutor newBoundedPool(int parallelism, int queueCapacity) {
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                parallelism, parallelism,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "recommend-batch-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private long cellKey(double lat, double lng) {
+        int latIdx = (int) Math.floor(lat / cellSizeDeg);
+        int lngIdx = (int) Math.floor(lng / cellSizeDeg);
+        return ((long) latIdx << 32) | (lngIdx & 0xffffffffL);
+    }
+
+    /**
+     * DB 경로 후보를 다른 사용자 기준 거리로 감싼 것
+     */
+    private static class RelocatedCandidate implements TagLocationProjection {
+
+        private final TagLocationProjection source;
+        private final double distanceKm;
+
+        RelocatedCandidate(TagLocationProjection source, double distanceKm) {
+            this.source = source;
+            this.distanceKm = distanceKm;
+        }
+
+        @Override public Long getGroupId() { return source.getGroupId(); }
+        @Override public String getTitle() { return source.getTitle(); }
+        @Override public String getCategory() { return source.getCategory(); }
+        @Override public Double getLatitude() { return source.getLatitude(); }
+        @Override public Double getLongitude() { return source.getLongitude(); }
+        @Override public Double getDistanceKm() { return distanceKm; }
+        @Override public LocalDateTime getUpdatedAt() { return source.getUpdatedAt(); }
+    }
+}
@@ -1,29 +1,89 @@
 package com.study.recommend.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.recommend.dto.RecommendCriteria;
 import com.study.recommend.dto.TagRecommendGroupDto;
 import com.study.recommend.dto.TagRecommendResponse;
+import com.study.recommend.index.GeoCandidate;
+import com.study.recommend.metrics.RecommendMetrics;
+import com.study.recommend.pagination.RankedListCache;
+import com.study.recommend.pagination.RankedPage;
+import com.study.recommend.pagination.RecommendCursor;
+import com.study.recommend.ranking.RankedCandidate;
+import com.study.recommend.ranking.RankingPipeline;
+import com.study.recommend.ranking.RankingResult;
 import com.study.recommend.repository.TagLocationProjection;
-import com.study.recommend.repository.TagLocationRepository;
-import com.study.recommend.repository.UserInterestTagRepository;
+import com.study.recommend.tag.GroupTagCache;
+import com.study.recommend.tag.GroupTags;
+import com.study.recommend.tag.UserTagCache;
+import com.study.recommend.tag.UserTags;
+import com.study.recommend.tag.WeightedTagIds;
 import com.study.recommend.util.DistanceScoreUtil;
 import com.study.recommend.util.TagSimilarityUtil;
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class TagRecommendService {
 
-    private final TagLocationRepository tagLocationRepository;
-    private final UserInterestTagRepository userInterestTagRepository;
-
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // feature 이름
+    private static final String DISTANCE_KM = "distanceKm";
+    private static final String DISTANCE_SCORE = "distanceScore";
+    private static final String TAG_SIMILARITY = "tagSimilarity";
+
+    private final UserTagCache userTagCache;
+    private final GroupTagCache groupTagCache;
+    private final RankedListCache rankedListCache;
+    private final RecommendMetrics metrics;
+
+    // 반경 필터(싼 것) → 거리 점수 * alpha + 태그 유사도 * beta → 점수 같으면 가까운 순
+    private final RankingPipeline<TagQuery, TagLocationProjection> pipeline;
+
+    @Value("${recommend.tag.oversampling-factor:10}")
+    private int oversamplingFactor;
+
+    @Value("${recommend.tag.max-candidate-pool:500}")
+    private int maxCandidatePool;
+
+    public TagRecommendService(GroupCandidateService groupCandidateService,
+                               UserTagCache userTagCache,
+                               GroupTagCache groupTagCache,
+                               RankedListCache rankedListCache,
+                               RecommendMetrics metrics) {
+        this.userTagCache = userTagCache;
+        this.groupTagCache = groupTagCache;
+        this.rankedListCache = rankedListCache;
+        this.metrics = metrics;
+
+        this.pipeline = RankingPipeline.<TagQuery, TagLocationProjection>builder("tag")
+                .generator(q -> groupCandidateService.findTagCandidates(
+                        q.getLatitude(), q.getLongitude(), q.getRadiusKm(), q.getPoolSize()))
+                .feature(DISTANCE_KM, (table, out) -> {
+                    for (int i = 0; i < table.size(); i++) {
+                        Double d = table.candidate(i).getDistanceKm();
+                        out[i] = d != null ? d : Double.MAX_VALUE;
+                    }
+                })
+                .feature(DISTANCE_SCORE, (table, out) ->
+                        DistanceScoreUtil.calculateDistanceScores(table.column(DISTANCE_KM), table.size(), out))
+                .feature(TAG_SIMILARITY, (table, out) -> {
+                    // 정규화된 태그 id 로 유사도 계산 (필터를 통과한 후보만, 근사 매칭 태그는 가중치만큼)
+                    WeightedTagIds userTags = table.query().getUserTags();
+                    for (int i = 0; i < table.size(); i++) {
+                        out[i] = TagSimilarityUtil.weightedJaccardSimilarity(
+                                userTags.getIds(), userTags.getWeights(), groupTagsOf(table.candidate(i)).getTagIds());
+                    }
+                })
+                .filter("withinRadius", (table, i) -> table.value(DISTANCE_KM, i) <= table.query().getRadiusKm())
+                .score(DISTANCE_SCORE, TagQuery::getWeightAlpha)
+                .score(TAG_SIMILARITY, TagQuery::getWeightBeta)
+                .tieBreak(DISTANCE_KM)
+                .build();
+    }
 
     public TagRecommendResponse getTagBasedGroups(
             Long userId,
@@ -34,77 +94,139 @@ public class TagRecommendService {
             double alpha,
             double beta
     ) {
-        // 1. 유저 관심 태그 조회
-        List<String> userTags = userInterestTagRepository.findTagsByUserId(userId);
-        if (userTags == null) {
-            userTags = List.of();
-        }
-        final List<String> finalUserTags = userTags;
+        return getTagBasedGroups(userId, userLat, userLng, radiusKm, limit, alpha, beta, null);
+    }
 
-        // 2. 반경 내 그룹 조회
-        List<TagLocationProjection> candidates =
-                tagLocationRepository.findGroupsByLocation(userLat, userLng, radiusKm, limit);
+    /**
+     * cursor 가 있으면 이전 페이지의 다음부터
+     * 같은 조건의 정렬 결과는 짧게 캐시해 두고 "더 보기" 는 후보 조회/점수 계산 없이 잘라서 반환
+     */
+    public TagRecommendResponse getTagBasedGroups(
+            Long userId,
+            double userLat,
+            double userLng,
+            double radiusKm,
+            int limit,
+            double alpha,
+            double beta,
+            String cursor
+    ) {
+        RecommendCursor after = (cursor == null ? null : RecommendCursor.decode(cursor));
 
-        // 3. 가중치 normalize
-        double sum = alpha + beta;
-        if (sum <= 0) {
-            alpha = 0.5;
-            beta = 0.5;
-            sum = 1.0;
-        }
-        final double weightAlpha = alpha / sum;
-        final double weightBeta = beta / sum;
-
-        // 4. 스코어 계산 + 정렬 + limit
-        List<TagRecommendGroupDto> groups = candidates.stream()
-                .map(p -> {
-                    double distanceKm = p.getDistanceKm() != null ? p.getDistanceKm() : Double.MAX_VALUE;
-                    double distanceScore = DistanceScoreUtil.calculateDistanceScore(distanceKm);
-
-                    List<String> groupTags = parseJsonArrayToList(p.getCategory());
-
-                    // 1) 사용자 태그 & 그룹 태그 정규화
-                    List<String> userNorm = TagSimilarityUtil.normalizeTags(finalUserTags);
-                    List<String> groupNorm = TagSimilarityUtil.normalizeTags(groupTags);
-
-                    // 2) 정규화된 태그로 유사도 계산
-                    double tagSimilarity = TagSimilarityUtil.jaccardSimilarity(userNorm, groupNorm);
-
-                    // 최종 점수 계산 (기존 동일)
-                    double finalScore = distanceScore * weightAlpha + tagSimilarity * weightBeta;
-
-
-                    return TagRecommendGroupDto.builder()
-                            .studyGroupId(p.getGroupId())
-                            .name(p.getTitle())
-                            .category(groupTags)
-                            .latitude(p.getLatitude())
-                            .longitude(p.getLongitude())
-                            .distanceKm(distanceKm)
-                            .distanceScore(distanceScore)
-                            .tagSimilarity(tagSimilarity)
-                            .finalScore(finalScore)
-                            .build();
-                })
-                .sorted(Comparator.comparing(TagRecommendGroupDto::getFinalScore).reversed())
+        int depth = rankedListCache.depth(limit);
+        String key = "tag:" + userId + ":" + userLat + ":" + userLng + ":" + radiusKm
+                + ":" + alpha + ":" + beta + ":" + depth;
+
+        List<TagRecommendGroupDto> ranked = rankedListCache.get(key,
+                () -> rankForUser(userId, userLat, userLng, radiusKm, depth, alpha, beta));
+
+        RankedPage<TagRecommendGroupDto> page = RankedPage.of(
+                ranked, after, limit, TagRecommendGroupDto::getFinalScore, TagRecommendGroupDto::getStudyGroupId);
+        metrics.recordResponse("tag", page.getItems().isEmpty());
+
+        return TagRecommendResponse.builder()
+                .criteria(RecommendCriteria.TAG_LOCATION)
+                .radiusKm(radiusKm)
                 .limit(limit)
-                .toList();
+                .groups(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    private List<TagRecommendGroupDto> rankForUser(Long userId, double userLat, double userLng,
+                                                   double radiusKm, int depth, double alpha, double beta) {
+        // 1. 유저 관심 태그 조회 (사용자 단위 캐시, 바뀌면 변경 피드 / user-service 호출로 무효화)
+        UserTags userTags = metrics.time("tag", "user_tags_fetch", () -> userTagCache.get(userId));
+
+        // 정렬된 태그 id (오타/부분 태그는 그룹 어휘로 근사 매칭, 캐시 항목에 같이 보관)
+        WeightedTagIds userTagIds = metrics.time("tag", "tag_parse", () -> userTagCache.weightedIds(userTags));
+
+        // 2. 반경 내 후보 풀 조회 (정렬 깊이보다 넉넉하게 뽑아서 태그 유사도로 재정렬)
+        TagQuery query = query(userTagIds, userLat, userLng, radiusKm, candidatePoolSize(depth), alpha, beta);
+        RankingResult<TagLocationProjection> result = pipeline.rank(query, depth);
+        metrics.recordRanking("tag", result);
+        return toGroups(result);
+    }
+
+    /**
+     * 후보 목록을 태그 유사도 + 거리로 점수화해서 상위 limit 개 반환
+     * (단건 / 배치 추천 공용)
+     */
+    TagRecommendResponse rank(WeightedTagIds userTagIds, List<TagLocationProjection> candidates,
+                              double radiusKm, int limit, double alpha, double beta) {
+        TagQuery query = query(userTagIds, 0.0, 0.0, radiusKm, candidates.size(), alpha, beta);
+        RankingResult<TagLocationProjection> result = pipeline.rank(query, candidates, limit);
+        metrics.recordRanking("tag_batch", result);
+        metrics.recordResponse("tag_batch", result.isEmpty());
 
-        // 5. 래퍼 DTO 반환.
         return TagRecommendResponse.builder()
                 .criteria(RecommendCriteria.TAG_LOCATION)
                 .radiusKm(radiusKm)
                 .limit(limit)
-                .groups(groups)
+                .groups(toGroups(result))
                 .build();
     }
 
-    private List<String> parseJsonArrayToList(String json) {
-        if (json == null || json.isBlank()) return List.of();
-        try {
-            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            return List.of();
+    // 후보 풀 크기 = limit × oversampling (상한 maxCandidatePool)
+    int candidatePoolSize(int limit) {
+        long pool = (long) Math.max(limit, 0) * Math.max(oversamplingFactor, 1);
+        return (int) Math.max(limit, Math.min(pool, maxCandidatePool));
+    }
+
+    // ===========================
+    // 내부 구현
+    // ===========================
+    private TagQuery query(WeightedTagIds userTagIds, double latitude, double longitude, double radiusKm,
+                           int poolSize, double alpha, double beta) {
+        // 가중치 normalize
+        double sum = alpha + beta;
+        if (sum <= 0) {
+            alpha = 0.5;
+            beta = 0.5;
+            sum = 1.0;
+        }
+        return new TagQuery(userTagIds, latitude, longitude, radiusKm, poolSize, alpha / sum, beta / sum);
+    }
+
+    private List<TagRecommendGroupDto> toGroups(RankingResult<TagLocationProjection> result) {
+        // DTO 는 최종 후보에 대해서만 생성
+        List<TagRecommendGroupDto> groups = new ArrayList<>(result.getRanked().size());
+        for (RankedCandidate<TagLocationProjection> ranked : result.getRanked()) {
+            TagLocationProjection p = ranked.getCandidate();
+            groups.add(TagRecommendGroupDto.builder()
+                    .studyGroupId(p.getGroupId())
+                    .name(p.getTitle())
+                    .category(groupTagsOf(p).getTags())
+                    .latitude(p.getLatitude())
+                    .longitude(p.getLongitude())
+                    .distanceKm(ranked.feature(DISTANCE_KM))
+                    .distanceScore(ranked.feature(DISTANCE_SCORE))
+                    .tagSimilarity(ranked.feature(TAG_SIMILARITY))
+                    .finalScore(ranked.getScore())
+                    .build());
+        }
+        return groups;
+    }
+
+    // 그룹 태그: 인덱스 경로면 미리 계산된 벡터, DB 경로면 updated_at 기준 캐시
+    private GroupTags groupTagsOf(TagLocationProjection p) {
+        if (p instanceof GeoCandidate c) {
+            return new GroupTags(c.getGroup().getTags(), c.getGroup().getTagIds());
         }
+        return groupTagCache.get(p.getGroupId(), p.getUpdatedAt(), p.getCategory());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class TagQuery {
+        private final WeightedTagIds userTags;
+        private final double latitude;
+        private final double longitude;
+        private final double radiusKm;
+        private final int poolSize;
+
+        // 정규화된 가중치 (거리 / 태그 유사도)
+        private final double weightAlpha;
+        private final double weightBeta;
     }
 }
@@ -0,0 +1,30 @@
+package com.study.recommend.snapshot;
+
+import com.study.recommend.index.IndexedGroup;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인메모리 인덱스 스냅샷 한 벌
+ *
+ * feedPosition 시점까지의 변경이 모두 반영된 상태이므로,
+ * 복원 후 변경 피드를 feedPosition 부터 다시 읽으면 최신 상태가 된다.
+ */
+@Getter
+@AllArgsConstructor
+public class IndexSnapshot {
+
+    private final long createdAtMillis;
+
+    // ChangeFeed.position()
+    private final String feedPosition;
+
+    // 공간 인덱스 (비활성화 상태에서 만든 스냅샷이면 null)
+    private final List<IndexedGroup> groups;
+
+    // 공동 멤버십: groupId → 정렬된 userId (비활성화 상태에서 만든 스냅샷이면 null)
+    private final Map<Long, long[]> groupMembers;
+}
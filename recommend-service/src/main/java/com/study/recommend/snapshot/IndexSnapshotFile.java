@@ -0,0 +1,257 @@
+package com.study.recommend.snapshot;
+
+import com.study.recommend.index.IndexedGroup;
+import com.study.recommend.tag.GroupTagCache;
+import com.study.recommend.tag.GroupTags;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 스냅샷 바이너리 포맷 (big-endian)
+ *
+ *   int    MAGIC, int FORMAT_VERSION
+ *   long   createdAtMillis
+ *   str    feedPosition
+ *   byte   groups 포함 여부 → int count, [group]*
+ *   byte   memberships 포함 여부 → int count, [long groupId, int n, long userId * n]*
+ *   long   CRC32 (앞의 전체 바이트)
+ *
+ *   group = long groupId, str title, str description, str category, int maxMembers(-1 = null),
+ *           str status, double latitude, double longitude, time updatedAt, int tagCount, str * tagCount
+ *   str   = int 바이트 길이(-1 = null) + UTF-8
+ *   time  = byte(0 = null) + long epochSecond(UTC 기준) + int nano
+ *
+ * - 쓰기: 임시 파일에 쓴 뒤 원자적 rename (읽는 쪽은 항상 완전한 파일만 봄)
+ * - 읽기: 파일을 메모리 매핑해서 바로 파싱 (CRC 가 맞지 않으면 예외)
+ * - 태그 id 는 프로세스마다 다르므로 저장하지 않고, 복원 시 태그 문자열로 다시 부여
+ */
+final class IndexSnapshotFile {
+
+    private static final int MAGIC = 0x52494458; // "RIDX"
+    private static final int FORMAT_VERSION = 1;
+
+    private IndexSnapshotFile() {
+    }
+
+    // ===========================
+    // 쓰기
+    // ===========================
+    static long write(Path path, IndexSnapshot snapshot) throws IOException {
+        Path dir = path.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        CRC32 crc = new CRC32();
+        try (OutputStream file = Files.newOutputStream(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             DataOutputStream out = new DataOutputStream(
+                     new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16), crc))) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(snapshot.getCreatedAtMillis());
+            writeString(out, snapshot.getFeedPosition());
+
+            List<IndexedGroup> groups = snapshot.getGroups();
+            out.writeBoolean(groups != null);
+            if (groups != null) {
+                out.writeInt(groups.size());
+                for (IndexedGroup g : groups) {
+                    writeGroup(out, g);
+                }
+            }
+
+            Map<Long, long[]> groupMembers = snapshot.getGroupMembers();
+            out.writeBoolean(groupMembers != null);
+            if (groupMembers != null) {
+                out.writeInt(groupMembers.size());
+                for (Map.Entry<Long, long[]> entry : groupMembers.entrySet()) {
+                    long[] userIds = entry.getValue();
+                    out.writeLong(entry.getKey());
+                    out.writeInt(userIds.length);
+                    for (long userId : userIds) {
+                        out.writeLong(userId);
+                    }
+                }
+            }
+
+            // CRC 는 체크섬 대상에서 빠져야 하므로 스트림을 비운 뒤 원본 스트림에 직접 씀
+            out.flush();
+            long checksum = crc.getValue();
+            file.write(ByteBuffer.allocate(Long.BYTES).putLong(checksum).array());
+        }
+
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(path);
+    }
+
+    private static void writeGroup(DataOutputStream out, IndexedGroup g) throws IOException {
+        out.writeLong(g.getGroupId());
+        writeString(out, g.getTitle());
+        writeString(out, g.getDescription());
+        writeString(out, g.getCategory());
+        out.writeInt(g.getMaxMembers() == null ? -1 : g.getMaxMembers());
+        writeString(out, g.getStatus());
+        out.writeDouble(g.getLatitude());
+        out.writeDouble(g.getLongitude());
+        writeTime(out, g.getUpdatedAt());
+
+        List<String> tags = g.getTags() == null ? List.of() : g.getTags();
+        out.writeInt(tags.size());
+        for (String tag : tags) {
+            writeString(out, tag);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    // ===========================
+    // 읽기 (메모리 매핑)
+    // ===========================
+    static IndexSnapshot read(Path path, GroupTagCache groupTagCache) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < Long.BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("스냅샷 크기가 올바르지 않습니다: " + size);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            // 1. CRC 확인 (마지막 8바이트 제외)
+            int bodyLength = (int) size - Long.BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().limit(bodyLength));
+            if (crc.getValue() != buffer.getLong(bodyLength)) {
+                throw new IOException("스냅샷 CRC 가 맞지 않습니다.");
+            }
+
+            // 2. 본문 파싱
+            ByteBuffer in = buffer.duplicate().limit(bodyLength);
+            if (in.getInt() != MAGIC) {
+                throw new IOException("스냅샷 파일이 아닙니다.");
+            }
+            int version = in.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 버전입니다: " + version);
+            }
+
+            long createdAtMillis = in.getLong();
+            String feedPosition = readString(in);
+
+            List<IndexedGroup> groups = null;
+            if (in.get() != 0) {
+                int count = in.getInt();
+                groups = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    groups.add(readGroup(in, groupTagCache));
+                }
+            }
+
+            Map<Long, long[]> groupMembers = null;
+            if (in.get() != 0) {
+                int count = in.getInt();
+                groupMembers = new HashMap<>(count * 2);
+                for (int i = 0; i < count; i++) {
+                    long groupId = in.getLong();
+                    long[] userIds = new long[in.getInt()];
+                    in.asLongBuffer().get(userIds);
+                    in.position(in.position() + userIds.length * Long.BYTES);
+                    groupMembers.put(groupId, userIds);
+                }
+            }
+
+            return new IndexSnapshot(createdAtMillis, feedPosition, groups, groupMembers);
+        }
+    }
+
+    private static IndexedGroup readGroup(ByteBuffer in, GroupTagCache groupTagCache) {
+        Long groupId = in.getLong();
+        String title = readString(in);
+        String description = readString(in);
+        String category = readString(in);
+        int maxMembers = in.getInt();
+        String status = readString(in);
+        double latitude = in.getDouble();
+        double longitude = in.getDouble();
+        LocalDateTime updatedAt = readTime(in);
+
+        int tagCount = in.getInt();
+        List<String> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(readString(in));
+        }
+
+        // 이미 파싱된 태그로 태그 캐시를 채움 (category JSON 은 다시 파싱하지 않음)
+        GroupTags groupTags = groupTagCache.restore(groupId, updatedAt, category, tags);
+
+        return new IndexedGroup(
+                groupId,
+                title,
+                description,
+                category,
+                maxMembers < 0 ? null : maxMembers,
+                status,
+                latitude,
+                longitude,
+                updatedAt,
+                groupTags.getTags(),
+                groupTags.getTagIds()
+        );
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static LocalDateTime readTime(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        long epochSecond = in.getLong();
+        int nano = in.getInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,155 @@
+package com.study.recommend.snapshot;
+
+import com.study.recommend.cf.CoMembershipIndex;
+import com.study.recommend.cf.CoMembershipMatrix;
+import com.study.recommend.index.GeoGridIndex;
+import com.study.recommend.index.IndexedGroup;
+import com.study.recommend.tag.GroupTagCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인메모리 인덱스(공간 인덱스 + 공동 멤버십 행렬) 스냅샷 저장 / 복원
+ *
+ * - 주기적으로 로컬 파일에 저장 (ChangeFeedConsumer 가 피드 위치와 함께 캡처)
+ * - 기동 시 스냅샷이 있으면 메모리 매핑으로 읽어서 복원 → 피드로 그 이후 변경만 따라잡음
+ *   (rolling deploy 때마다 전체 테이블을 다시 읽지 않음)
+ * - 너무 오래된 스냅샷은 무시하고 전체 적재 (hard delete 등 피드로 안 잡히는 변경이 쌓였을 수 있음)
+ */
+@Slf4j
+@Component
+public class IndexSnapshotService {
+
+    private final GeoGridIndex geoGridIndex;
+    private final CoMembershipIndex coMembershipIndex;
+    private final GroupTagCache groupTagCache;
+
+    private final boolean enabled;
+    private final Path path;
+    private final Duration maxAge;
+
+    private final boolean indexEnabled;
+    private final boolean coMembershipEnabled;
+
+    public IndexSnapshotService(GeoGridIndex geoGridIndex,
+                                CoMembershipIndex coMembershipIndex,
+                                GroupTagCache groupTagCache,
+                                @Value("${recommend.snapshot.enabled:true}") boolean enabled,
+                                @Value("${recommend.snapshot.path:data/recommend-index.snapshot}") String path,
+                                @Value("${recommend.snapshot.max-age-minutes:1440}") long maxAgeMinutes,
+                                @Value("${recommend.index.enabled:true}") boolean indexEnabled,
+                                @Value("${recommend.co-membership.enabled:true}") boolean coMembershipEnabled) {
+        this.geoGridIndex = geoGridIndex;
+        this.coMembershipIndex = coMembershipIndex;
+        this.groupTagCache = groupTagCache;
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.indexEnabled = indexEnabled;
+        this.coMembershipEnabled = coMembershipEnabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled && (indexEnabled || coMembershipEnabled);
+    }
+
+    // ===========================
+    // 저장
+    // ===========================
+
+    /**
+     * 현재 상태 캡처 (피드 반영과 겹치지 않게 호출하는 쪽에서 직렬화)
+     * 아직 적재 전인 인덱스는 빼고 캡처, 둘 다 없으면 null
+     */
+    public IndexSnapshot capture(String feedPosition) {
+        List<IndexedGroup> groups = (indexEnabled && geoGridIndex.isReady())
+                ? new ArrayList<>(geoGridIndex.all())
+                : null;
+        Map<Long, long[]> groupMembers = (coMembershipEnabled && coMembershipIndex.isReady())
+                ? coMembershipIndex.current().groupMembers()
+                : null;
+
+        if (groups == null && groupMembers == null) {
+            return null;
+        }
+        return new IndexSnapshot(System.currentTimeMillis(), feedPosition, groups, groupMembers);
+    }
+
+    public void write(IndexSnapshot snapshot) {
+        try {
+            long start = System.currentTimeMillis();
+            long bytes = IndexSnapshotFile.write(path, snapshot);
+
+            log.info("[IndexSnapshot] 저장 완료 groups={} memberGroups={} bytes={} ({}ms)",
+                    sizeOf(snapshot.getGroups()), sizeOf(snapshot.getGroupMembers()),
+                    bytes, System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            log.warn("[IndexSnapshot] 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // ===========================
+    // 복원
+    // ===========================
+
+    /**
+     * 스냅샷 파일 읽기 (없거나, 깨졌거나, 너무 오래됐으면 null)
+     */
+    public IndexSnapshot load() {
+        if (!isEnabled() || !Files.isRegularFile(path)) {
+            return null;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            IndexSnapshot snapshot = IndexSnapshotFile.read(path, groupTagCache);
+
+            long ageMillis = System.currentTimeMillis() - snapshot.getCreatedAtMillis();
+            if (ageMillis > maxAge.toMillis()) {
+                log.info("[IndexSnapshot] 스냅샷이 오래됨 ({}분) → 전체 적재", ageMillis / 60_000);
+                return null;
+            }
+
+            log.info("[IndexSnapshot] 읽기 완료 groups={} memberGroups={} ({}ms)",
+                    sizeOf(snapshot.getGroups()), sizeOf(snapshot.getGroupMembers()),
+                    System.currentTimeMillis() - start);
+            return snapshot;
+
+        } catch (Exception e) {
+            log.warn("[IndexSnapshot] 읽기 실패 → 전체 적재: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 스냅샷 내용을 인덱스에 반영 (스냅샷에 없는 인덱스는 그대로 not-ready → 전체 적재 대상)
+     */
+    public void restore(IndexSnapshot snapshot) {
+        if (indexEnabled && snapshot.getGroups() != null) {
+            geoGridIndex.replaceAll(snapshot.getGroups());
+        }
+
+        if (coMembershipEnabled && snapshot.getGroupMembers() != null) {
+            CoMembershipMatrix matrix = new CoMembershipMatrix();
+            snapshot.getGroupMembers().forEach(matrix::replaceGroupMembers);
+            coMembershipIndex.replace(matrix);
+        }
+    }
+
+    private static int sizeOf(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+
+    private static int sizeOf(Map<?, ?> map) {
+        return map == null ? 0 : map.size();
+    }
+}
@@ -0,0 +1,150 @@
+package com.study.recommend.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 그룹 태그 어휘에 대한 근사 매칭 (오타 / 부분 태그)
+ *
+ * - 오타: trigram 역색인으로 편집 거리 1~2 이내 단어 (3~7글자는 1, 8글자 이상은 2)
+ * - 부분 태그: 정렬된 어휘에서 접두사 범위 조회 ("리액" → "리액트")
+ * - 가중치: 오타는 1 - 거리 / 긴 쪽 길이, 접두사는 짧은 쪽 / 긴 쪽 길이 (MIN_WEIGHT 미만은 버림)
+ *
+ * 검색 대상은 그룹이 실제로 쓰는 정규화 태그 + 동의어 원문("springboot" → spring 의 id).
+ * 어휘는 새 태그가 처음 나올 때만 추가되므로 읽기/쓰기 락으로 감싼다.
+ */
+public class FuzzyTagIndex {
+
+    // 이보다 약한 매칭은 매칭 없음으로 취급
+    static final double MIN_WEIGHT = 0.5;
+
+    // 접두사 후보는 앞에서부터 이만큼만 확인
+    private static final int MAX_PREFIX_CANDIDATES = 16;
+
+    // 너무 긴 입력은 태그가 아니라고 보고 근사 매칭 생략
+    private static final int MAX_QUERY_LENGTH = 32;
+
+    // 그룹 태그로 실제 등록된 단어 (완전 일치 판정용)
+    private final Set<String> vocabulary = ConcurrentHashMap.newKeySet();
+
+    // 검색 대상 단어 → 태그 id (어휘 + 동의어 원문, 접두사 범위 조회용)
+    private final ConcurrentSkipListMap<String, Integer> terms = new ConcurrentSkipListMap<>();
+
+    private final TrigramIndex trigrams = new TrigramIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 그룹 태그 어휘 등록 (이미 있으면 아무것도 안 함)
+     */
+    public void addVocabulary(String normalizedTag, int id) {
+        if (vocabulary.add(normalizedTag)) {
+            addTerm(normalizedTag, id);
+        }
+    }
+
+    /**
+     * 동의어 원문 등록 (완전 일치 대상은 아니고 근사 매칭에서만 사용)
+     */
+    public void addAlias(String alias, int id) {
+        addTerm(alias, id);
+    }
+
+    public boolean contains(String normalizedTag) {
+        return vocabulary.contains(normalizedTag);
+    }
+
+    public int size() {
+        return terms.size();
+    }
+
+    /**
+     * 가장 가까운 어휘 1개 (없으면 null)
+     * 가중치가 같으면 id 가 작은 쪽 → 결과가 항상 같다.
+     */
+    public Match bestMatch(String normalizedTag) {
+        int length = normalizedTag.length();
+        if (length == 0 || length > MAX_QUERY_LENGTH) {
+            return null;
+        }
+
+        Best best = new Best();
+
+        // 1. 오타 (편집 거리)
+        int maxDistance = maxDistance(length);
+        if (maxDistance > 0) {
+            lock.readLock().lock();
+            try {
+                trigrams.search(normalizedTag, maxDistance, (term, id, distance) ->
+                        best.offer(id, 1.0 - (double) distance / Math.max(length, term.length())));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // 2. 부분 태그 (접두사)
+        if (length >= minPrefixLength(normalizedTag)) {
+            int checked = 0;
+            for (Map.Entry<String, Integer> entry
+                    : terms.subMap(normalizedTag, true, normalizedTag + Character.MAX_VALUE, false).entrySet()) {
+                best.offer(entry.getValue(), (double) length / entry.getKey().length());
+                if (++checked >= MAX_PREFIX_CANDIDATES) break;
+            }
+        }
+
+        return best.weight >= MIN_WEIGHT ? new Match(best.id, best.weight) : null;
+    }
+
+    // ===========================
+    // 내부 구현
+    // ===========================
+    private void addTerm(String term, int id) {
+        if (term.isEmpty() || terms.putIfAbsent(term, id) != null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            trigrams.add(term, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 짧은 태그는 한 글자만 바뀌어도 다른 단어 ("go" / "js") → 길이에 따라 허용 거리
+    static int maxDistance(int length) {
+        if (length <= 2) return 0;
+        if (length <= 7) return 1;
+        return 2;
+    }
+
+    // 한글은 두 글자만으로도 충분히 구별됨 ("리액"), 영문은 세 글자부터
+    private static int minPrefixLength(String tag) {
+        char first = tag.charAt(0);
+        return (first >= '가' && first <= '힣') ? 2 : 3;
+    }
+
+    private static final class Best {
+        private int id = -1;
+        private double weight = -1;
+
+        private void offer(int candidateId, double candidateWeight) {
+            if (candidateWeight > weight || (candidateWeight == weight && candidateId < id)) {
+                id = candidateId;
+                weight = candidateWeight;
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private final int id;
+        private final double weight;
+    }
+}
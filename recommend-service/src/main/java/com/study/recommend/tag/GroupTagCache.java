@@ -0,0 +1,85 @@
+package com.study.recommend.tag;
+
+import com.study.recommend.util.CategoryJsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * groupId → (category 버전, 파싱/정규화된 태그) 캐시
+ *
+ * 버전은 Study_groups.updated_at 을 쓴다. updated_at 이 움직이면 다시 파싱하고,
+ * 그대로면 JSON 을 건드리지 않고 캐시된 태그 id 를 돌려준다.
+ * (updated_at 이 비어 있는 예전 행은 category 원문 비교로 대신함)
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupTagCache {
+
+    private final TagDictionary tagDictionary;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public GroupTags get(Long groupId, LocalDateTime version, String categoryJson) {
+        if (groupId == null) {
+            return parse(categoryJson);
+        }
+
+        Entry entry = entries.get(groupId);
+        if (entry != null && entry.matches(version, categoryJson)) {
+            return entry.tags;
+        }
+
+        GroupTags parsed = parse(categoryJson);
+        entries.put(groupId, new Entry(version, categoryJson, parsed));
+        return parsed;
+    }
+
+    /**
+     * 스냅샷 복원: 이미 파싱된 태그로 캐시를 채움 (JSON 파싱 없이 id 만 다시 부여)
+     */
+    public GroupTags restore(Long groupId, LocalDateTime version, String categoryJson, List<String> tags) {
+        GroupTags restored = tags.isEmpty()
+                ? GroupTags.EMPTY
+                : new GroupTags(tags, tagDictionary.encodeGroup(tags));
+        entries.put(groupId, new Entry(version, categoryJson, restored));
+        return restored;
+    }
+
+    public void invalidate(Long groupId) {
+        entries.remove(groupId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private GroupTags parse(String categoryJson) {
+        List<String> tags = CategoryJsonUtil.parse(categoryJson);
+        if (tags.isEmpty()) {
+            return GroupTags.EMPTY;
+        }
+        return new GroupTags(tags, tagDictionary.encodeGroup(tags));
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+
+        private final LocalDateTime version;
+        private final String categoryJson;
+        private final GroupTags tags;
+
+        boolean matches(LocalDateTime otherVersion, String otherCategoryJson) {
+            if (version != null) {
+                return version.equals(otherVersion);
+            }
+            return otherVersion == null && Objects.equals(categoryJson, otherCategoryJson);
+        }
+    }
+}
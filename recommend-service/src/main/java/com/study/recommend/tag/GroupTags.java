@@ -0,0 +1,22 @@
+package com.study.recommend.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 그룹 category 를 미리 파싱해 둔 결과
+ */
+@Getter
+@AllArgsConstructor
+public class GroupTags {
+
+    public static final GroupTags EMPTY = new GroupTags(List.of(), TagDictionary.EMPTY);
+
+    // 응답용 원본 태그
+    private final List<String> tags;
+
+    // 정규화된 태그 id (정렬됨)
+    private final int[] tagIds;
+}
@@ -0,0 +1,185 @@
+package com.study.recommend.tag;
+
+import com.study.recommend.util.TagSimilarityUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 정규화된 태그 → 연속된 int id 사전
+ *
+ * 태그 집합을 "정렬된 int 배열"로 바꿔 두면
+ * Jaccard 유사도를 할당 없이 병합(two-pointer) 연산으로 계산할 수 있다.
+ * (TagSimilarityUtil.jaccardSimilarity(int[], int[]))
+ *
+ * id 는 프로세스 안에서만 의미가 있고, 한 번 부여되면 바뀌지 않는다.
+ * 사전에는 그룹 태그(와 동의어)만 들어가고, 사용자 태그는 조회만 한다.
+ * 어휘에 없는 사용자 태그는 저장하지 않는 음수 id 로 바꿔서
+ * 사용자 입력만으로 사전이 끝없이 커지지 않게 한다.
+ *
+ * 그룹 태그는 encodeGroup 으로 넣으면 근사 매칭 어휘(FuzzyTagIndex)에도 등록되고,
+ * 사용자 태그는 encodeWeighted 로 오타/부분 태그를 그룹 어휘에 맞춰 가중치와 함께 바꾼다.
+ */
+@Component
+public class TagDictionary {
+
+    public static final int[] EMPTY = new int[0];
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    private final FuzzyTagIndex fuzzyIndex = new FuzzyTagIndex();
+
+    public TagDictionary() {
+        // 동의어 원문도 근사 매칭 대상 ("springbot" → "springboot" → spring)
+        TagSimilarityUtil.synonyms().forEach((alias, canonical) -> {
+            String normalized = TagSimilarityUtil.normalizeTag(alias);
+            // 정규화 후 다른 동의어로 바뀌는 원문은 제외 ("c++" → "c")
+            if (canonical.equals(TagSimilarityUtil.normalizeFull(alias))) {
+                fuzzyIndex.addAlias(normalized, idOf(canonical));
+            }
+        });
+    }
+
+    // 정규화가 끝난 태그의 id (없으면 새로 부여)
+    public int idOf(String normalizedTag) {
+        return ids.computeIfAbsent(normalizedTag, t -> nextId.getAndIncrement());
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * 원본 태그 목록 → 정규화 + 동의어 + 중복 제거 → 정렬된 id 배열
+     * (사전에 등록하지 않음, 어휘에 없는 태그는 음수 id)
+     */
+    public int[] encode(List<String> rawTags) {
+        if (rawTags == null || rawTags.isEmpty()) return EMPTY;
+
+        int[] result = new int[rawTags.size()];
+        String[] unknown = new String[rawTags.size()];
+        int n = 0;
+        for (String raw : rawTags) {
+            String normalized = TagSimilarityUtil.normalizeFull(raw);
+            if (!normalized.isBlank()) {
+                result[n++] = lookup(normalized, unknown);
+            }
+        }
+        return sortedUnique(result, n);
+    }
+
+    /**
+     * 그룹 태그 인코딩 + 근사 매칭 어휘 등록
+     */
+    public int[] encodeGroup(List<String> rawTags) {
+        if (rawTags == null || rawTags.isEmpty()) return EMPTY;
+
+        int[] result = new int[rawTags.size()];
+        int n = 0;
+        for (String raw : rawTags) {
+            String normalized = TagSimilarityUtil.normalizeFull(raw);
+            if (!normalized.isBlank()) {
+                int id = idOf(normalized);
+                fuzzyIndex.addVocabulary(normalized, id);
+                result[n++] = id;
+            }
+        }
+        return sortedUnique(result, n);
+    }
+
+    /**
+     * 사용자 태그 인코딩
+     * 1. 그룹 어휘에 있으면 그대로 (가중치 1)
+     * 2. 없으면 오타/부분 태그로 가장 가까운 어휘 (가중치 0.5 ~ 1)
+     * 3. 그래도 없으면 음수 id (가중치 1, 어떤 그룹과도 안 맞지만 합집합 크기에는 포함, 사전에는 안 넣음)
+     */
+    public WeightedTagIds encodeWeighted(List<String> rawTags) {
+        if (rawTags == null || rawTags.isEmpty()) return WeightedTagIds.EMPTY;
+
+        int[] ids = new int[rawTags.size()];
+        double[] weights = new double[rawTags.size()];
+        String[] unknown = new String[rawTags.size()];
+        int n = 0;
+        for (String raw : rawTags) {
+            String normalized = TagSimilarityUtil.normalizeFull(raw);
+            if (normalized.isBlank()) continue;
+
+            FuzzyTagIndex.Match match = fuzzyIndex.contains(normalized) ? null : fuzzyIndex.bestMatch(normalized);
+            if (match != null) {
+                ids[n] = match.getId();
+                weights[n] = match.getWeight();
+            } else {
+                ids[n] = lookup(normalized, unknown);
+                weights[n] = 1.0;
+            }
+            n++;
+        }
+        return sortedUniqueWeighted(ids, weights, n);
+    }
+
+    public FuzzyTagIndex fuzzyIndex() {
+        return fuzzyIndex;
+    }
+
+    // 사전에 있으면 그 id, 없으면 이번 호출 안에서만 쓰는 음수 id (같은 태그는 같은 id, 저장하지 않음)
+    private int lookup(String normalizedTag, String[] unknown) {
+        Integer id = ids.get(normalizedTag);
+        if (id != null) return id;
+
+        int i = 0;
+        while (unknown[i] != null && !unknown[i].equals(normalizedTag)) {
+            i++;
+        }
+        unknown[i] = normalizedTag;
+        return -(i + 1);
+    }
+
+    // id 기준 정렬 + 중복 제거 (같은 id 는 큰 가중치)
+    private static WeightedTagIds sortedUniqueWeighted(int[] ids, double[] weights, int n) {
+        if (n == 0) return WeightedTagIds.EMPTY;
+
+        // 사용자 태그는 몇 개 안 돼서 삽입 정렬
+        for (int i = 1; i < n; i++) {
+            int id = ids[i];
+            double weight = weights[i];
+            int j = i - 1;
+            while (j >= 0 && ids[j] > id) {
+                ids[j + 1] = ids[j];
+                weights[j + 1] = weights[j];
+                j--;
+            }
+            ids[j + 1] = id;
+            weights[j + 1] = weight;
+        }
+
+        int unique = 1;
+        for (int i = 1; i < n; i++) {
+            if (ids[i] == ids[unique - 1]) {
+                weights[unique - 1] = Math.max(weights[unique - 1], weights[i]);
+            } else {
+                ids[unique] = ids[i];
+                weights[unique] = weights[i];
+                unique++;
+            }
+        }
+        return new WeightedTagIds(Arrays.copyOf(ids, unique), Arrays.copyOf(weights, unique));
+    }
+
+    private static int[] sortedUnique(int[] values, int n) {
+        if (n == 0) return EMPTY;
+
+        Arrays.sort(values, 0, n);
+        int unique = 1;
+        for (int i = 1; i < n; i++) {
+            if (values[i] != values[unique - 1]) {
+                values[unique++] = values[i];
+            }
+        }
+        return unique == values.length ? values : Arrays.copyOf(values, unique);
+    }
+}
@@ -0,0 +1,185 @@
+package com.study.recommend.tag;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 편집 거리 k 이내 단어 검색용 trigram 역색인
+ *
+ * 단어 앞뒤에 패딩을 붙여 3글자씩 자른 조각(trigram) → 그 조각을 가진 단어 목록.
+ * 편집 1번은 trigram 을 최대 3개까지만 깨뜨리므로 (q-gram lemma)
+ *   거리 ≤ k  ⇒  공유 trigram 수 ≥ |G(q)| - 3k
+ * 이 조건으로 후보를 좁힌 뒤 실제 Levenshtein 거리로 확인한다.
+ *
+ * 스레드 안전하지 않음 (FuzzyTagIndex 가 락으로 감쌈)
+ */
+final class TrigramIndex {
+
+    interface Visitor {
+        void visit(String term, int value, int distance);
+    }
+
+    // 정규화된 태그에는 나오지 않는 문자
+    private static final char PAD = '\u0001';
+
+    private final Map<Long, Posting> postings = new HashMap<>();
+
+    private String[] terms = new String[1024];
+    private int[] values = new int[1024];
+    private int size;
+
+    // 검색할 때 이미 후보로 모은 단어 표시 (스레드별 재사용, 건드린 칸만 다시 0 으로)
+    private final ThreadLocal<int[]> shared = ThreadLocal.withInitial(() -> new int[0]);
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 새 단어 추가 (중복 여부는 호출하는 쪽에서 확인)
+     */
+    void add(String term, int value) {
+        if (size == terms.length) {
+            int capacity = size * 2;
+            terms = Arrays.copyOf(terms, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        int index = size++;
+        terms[index] = term;
+        values[index] = value;
+
+        for (long gram : grams(term)) {
+            postings.computeIfAbsent(gram, g -> new Posting()).add(index);
+        }
+    }
+
+    /**
+     * query 와 거리 maxDistance 이내인 단어를 모두 방문
+     *
+     * 후보는 공유 trigram 이 |G(q)| - 3k 개 이상이어야 하므로
+     * query trigram 중 "가장 드문 3k + 1 개" 중 하나는 반드시 가진다 (prefix filtering).
+     * → 첫 글자 trigram("$$a") 처럼 긴 목록은 건너뛰고 짧은 목록만 훑는다.
+     */
+    void search(String query, int maxDistance, Visitor visitor) {
+        if (size == 0) return;
+
+        int[] seen = shared.get();
+        if (seen.length < size) {
+            seen = new int[terms.length];
+            shared.set(seen);
+        }
+
+        // 1. query trigram 을 목록 길이 오름차순으로 (없는 trigram 은 길이 0)
+        long[] grams = grams(query);
+        Posting[] lists = new Posting[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a == null ? 0 : a.size, b == null ? 0 : b.size));
+
+        int required = grams.length - 3 * maxDistance;
+        int scan = required > 0 ? Math.min(grams.length, 3 * maxDistance + 1) : grams.length;
+
+        // 2. 드문 목록에서 후보 모으기 (중복 제거)
+        int[] touched = new int[64];
+        int touchedCount = 0;
+        for (int l = 0; l < scan; l++) {
+            Posting posting = lists[l];
+            if (posting == null) continue;
+
+            for (int i = 0; i < posting.size; i++) {
+                int index = posting.indexes[i];
+                if (seen[index] == 0) {
+                    seen[index] = 1;
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = index;
+                }
+            }
+        }
+
+        // 3. 길이 조건을 통과한 후보만 실제 거리 계산
+        int queryLength = query.length();
+        for (int i = 0; i < touchedCount; i++) {
+            int index = touched[i];
+            seen[index] = 0;
+
+            String term = terms[index];
+            if (Math.abs(term.length() - queryLength) > maxDistance) continue;
+
+            int distance = distance(query, term, maxDistance);
+            if (distance <= maxDistance) {
+                visitor.visit(term, values[index], distance);
+            }
+        }
+    }
+
+    // 패딩 포함 trigram (중복 제거): "$$a", "$ab", ..., "b$$"
+    private static long[] grams(String term) {
+        int n = term.length() + 2;
+        long[] grams = new long[n];
+        for (int i = 0; i < n; i++) {
+            grams[i] = ((long) charAt(term, i - 2) << 32) | ((long) charAt(term, i - 1) << 16) | charAt(term, i);
+        }
+
+        Arrays.sort(grams);
+        int unique = 1;
+        for (int i = 1; i < n; i++) {
+            if (grams[i] != grams[unique - 1]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return unique == n ? grams : Arrays.copyOf(grams, unique);
+    }
+
+    private static char charAt(String term, int i) {
+        return (i < 0 || i >= term.length()) ? PAD : term.charAt(i);
+    }
+
+    /**
+     * Levenshtein 거리 (두 줄 DP), 한 줄 최솟값이 limit 를 넘으면 limit + 1 로 조기 종료
+     */
+    static int distance(String a, String b, int limit) {
+        int n = a.length();
+        int m = b.length();
+        if (n == 0) return m;
+        if (m == 0) return n;
+
+        int[] prev = new int[m + 1];
+        int[] curr = new int[m + 1];
+        for (int j = 0; j <= m; j++) prev[j] = j;
+
+        for (int i = 1; i <= n; i++) {
+            curr[0] = i;
+            int rowMin = curr[0];
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= m; j++) {
+                int cost = (ca == b.charAt(j - 1)) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+                rowMin = Math.min(rowMin, curr[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[m];
+    }
+
+    private static final class Posting {
+        private int[] indexes = new int[4];
+        private int size;
+
+        private void add(int index) {
+            if (size == indexes.length) {
+                indexes = Arrays.copyOf(indexes, size * 2);
+            }
+            indexes[size++] = index;
+        }
+    }
+}
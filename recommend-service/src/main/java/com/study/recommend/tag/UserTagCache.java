@@ -0,0 +1,131 @@
+package com.study.recommend.tag;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.recommend.feed.UserChangedEvent;
+import com.study.recommend.repository.UserInterestTagRepository;
+import com.study.recommend.semantic.TagEmbeddings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * userId → 관심 태그 캐시 (/api/recommend/tag, /api/recommend/semantic 공용)
+ *
+ * 관심 태그는 거의 안 바뀌는데 요청마다 User_interest_tags 를 조회하던 것을 사용자당 한 번으로.
+ *
+ * - 크기 상한 + expireAfterWrite (무효화를 놓쳤을 때의 안전망)
+ * - 무효화
+ *   1) UserChangedEvent: Users.updated_at 변경 피드 (모든 인스턴스가 받음)
+ *   2) user-service 가 태그를 바꾸고 커밋한 직후 내부 API 로 직접 호출 (피드 주기를 기다리지 않음)
+ * - 정규화 결과(WeightedTagIds)는 사전 크기가 바뀌었으면 DB 조회 없이 다시 인코딩
+ *
+ * 적중률은 cache.gets{cache="recommend.user-tags"} 로 노출 (MeterBinder).
+ */
+@Slf4j
+@Component
+public class UserTagCache implements MeterBinder {
+
+    static final float[] NO_VECTOR = new float[0];
+
+    private final UserInterestTagRepository userInterestTagRepository;
+    private final TagDictionary tagDictionary;
+    private final TagEmbeddings tagEmbeddings;
+
+    private final boolean enabled;
+    private final Cache<Long, UserTags> cache;
+
+    public UserTagCache(UserInterestTagRepository userInterestTagRepository,
+                        TagDictionary tagDictionary,
+                        TagEmbeddings tagEmbeddings,
+                        @Value("${recommend.cache.user-tags.enabled:true}") boolean enabled,
+                        @Value("${recommend.cache.user-tags.max-size:100000}") long maxSize,
+                        @Value("${recommend.cache.user-tags.ttl-seconds:600}") long ttlSeconds) {
+        this.userInterestTagRepository = userInterestTagRepository;
+        this.tagDictionary = tagDictionary;
+        this.tagEmbeddings = tagEmbeddings;
+        this.enabled = enabled;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "recommend.user-tags");
+    }
+
+    // ===========================
+    // 조회
+    // ===========================
+    public UserTags get(Long userId) {
+        if (userId == null) {
+            return UserTags.EMPTY;
+        }
+        if (!enabled) {
+            return load(userId);
+        }
+        return cache.get(userId, this::load);
+    }
+
+    /**
+     * 정규화된 태그 id (그룹 어휘 근사 매칭 포함)
+     */
+    public WeightedTagIds weightedIds(UserTags userTags) {
+        int version = tagDictionary.size();
+        UserTags.Encoded encoded = userTags.encoded;
+        if (encoded != null && encoded.dictionaryVersion == version) {
+            return encoded.ids;
+        }
+
+        WeightedTagIds ids = tagDictionary.encodeWeighted(userTags.getTags());
+
+        // 인코딩 중에 사용자 태그 자체가 사전에 추가될 수 있으므로 인코딩 후 크기로 기억
+        userTags.encoded = new UserTags.Encoded(tagDictionary.size(), ids);
+        return ids;
+    }
+
+    /**
+     * 임베딩 평균 벡터 (단위 벡터), 아는 태그가 없으면 null
+     * 임베딩 테이블은 기동 시 고정이므로 한 번만 계산 (호출자는 배열을 수정하지 않음)
+     */
+    public float[] embedding(UserTags userTags) {
+        float[] vector = userTags.embedding;
+        if (vector == null) {
+            float[] computed = tagEmbeddings.average(userTags.getTags());
+            vector = (computed != null ? computed : NO_VECTOR);
+            userTags.embedding = vector;
+        }
+        return vector == NO_VECTOR ? null : vector;
+    }
+
+    // ===========================
+    // 무효화
+    // ===========================
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getUserId());
+        log.debug("[UserTagCache] userId={} 변경 → 무효화", event.getUserId());
+    }
+
+    private UserTags load(Long userId) {
+        List<String> tags = userInterestTagRepository.findTagsByUserId(userId);
+        return (tags == null || tags.isEmpty()) ? UserTags.EMPTY : new UserTags(List.copyOf(tags));
+    }
+}
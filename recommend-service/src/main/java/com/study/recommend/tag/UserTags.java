@@ -0,0 +1,36 @@
+package com.study.recommend.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사용자 관심 태그 캐시 항목 (UserTagCache)
+ *
+ * 원문 태그는 고정, 정규화 결과 / 임베딩 벡터는 처음 필요할 때 계산해서 같이 보관
+ */
+@Getter
+public class UserTags {
+
+    public static final UserTags EMPTY = new UserTags(List.of());
+
+    // User_interest_tags 원문
+    private final List<String> tags;
+
+    // TagDictionary 어휘가 늘면 근사 매칭 결과가 달라지므로 사전 크기와 함께 보관
+    volatile Encoded encoded;
+
+    // TagEmbeddings.average 결과 (아는 태그가 없으면 UserTagCache.NO_VECTOR)
+    volatile float[] embedding;
+
+    public UserTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    @AllArgsConstructor
+    static class Encoded {
+        final int dictionaryVersion;
+        final WeightedTagIds ids;
+    }
+}
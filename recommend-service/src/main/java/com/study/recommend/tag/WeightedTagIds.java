@@ -0,0 +1,24 @@
+package com.study.recommend.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 태그 → (태그 id, 매칭 가중치)
+ *
+ * 그룹 어휘와 정확히 일치하면 1.0, 오타/부분 태그로 근사 매칭되면 0.5 ~ 1.0 미만.
+ * ids 는 정렬됨, weights 는 같은 인덱스 (TagSimilarityUtil.weightedJaccardSimilarity)
+ */
+@Getter
+@AllArgsConstructor
+public class WeightedTagIds {
+
+    public static final WeightedTagIds EMPTY = new WeightedTagIds(TagDictionary.EMPTY, new double[0]);
+
+    private final int[] ids;
+    private final double[] weights;
+
+    public int size() {
+        return ids.length;
+    }
+}
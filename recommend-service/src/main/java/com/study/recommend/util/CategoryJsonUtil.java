@@ -0,0 +1,26 @@
+package com.study.recommend.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+public class CategoryJsonUtil {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    /**
+     * Study_groups.category(JSON 배열 문자열) → 태그 목록
+     * 예) ["Java","Spring"] → [Java, Spring], 비었거나 깨진 값은 빈 목록
+     */
+    public static List<String> parse(String json) {
+        if (json == null || json.isBlank()) return List.of();
+        try {
+            return OBJECT_MAPPER.readValue(json, STRING_LIST);
+        } catch (Exception e) {
+            return List.of();
+        }
+    }
+}
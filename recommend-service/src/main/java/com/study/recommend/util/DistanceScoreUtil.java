@@ -1,5 +1,7 @@
 package com.study.recommend.util;
 
+import com.study.recommend.scoring.GeoScoringEngine;
+
 public class DistanceScoreUtil {
 
     /**
@@ -12,4 +14,12 @@ public class DistanceScoreUtil {
         }
         return 1.0 / (1.0 + distanceKm);
     }
+
+    /**
+     * 거리 배열 전체를 한 번에 점수화 (out[i] = 1 / (1 + distanceKm[i]))
+     * 후보가 많을 때는 단건 호출 대신 이쪽을 사용
+     */
+    public static void calculateDistanceScores(double[] distanceKm, int n, double[] out) {
+        GeoScoringEngine.getInstance().inverseDistanceScores(distanceKm, n, out);
+    }
 }
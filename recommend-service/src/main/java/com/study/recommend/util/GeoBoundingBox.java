@@ -0,0 +1,36 @@
+package com.study.recommend.util;
+
+import lombok.Getter;
+
+/**
+ * 반경 원을 감싸는 위도/경도 사각형
+ * (정확한 거리 계산 전에 인덱스/격자로 후보를 줄이는 용도)
+ */
+@Getter
+public class GeoBoundingBox {
+
+    private final double minLat;
+    private final double maxLat;
+    private final double minLng;
+    private final double maxLng;
+
+    private GeoBoundingBox(double minLat, double maxLat, double minLng, double maxLng) {
+        this.minLat = minLat;
+        this.maxLat = maxLat;
+        this.minLng = minLng;
+        this.maxLng = maxLng;
+    }
+
+    public static GeoBoundingBox of(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / GeoDistanceUtil.KM_PER_DEGREE_LAT;
+
+        // 사각형의 극쪽 가장자리 기준 cos 을 써야 경도 폭이 모자라지 않음
+        double edgeLat = Math.min(89.9, Math.abs(latitude) + latDelta);
+        double lngDelta = radiusKm / (GeoDistanceUtil.KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(edgeLat)));
+
+        return new GeoBoundingBox(
+                latitude - latDelta, latitude + latDelta,
+                longitude - lngDelta, longitude + lngDelta
+        );
+    }
+}
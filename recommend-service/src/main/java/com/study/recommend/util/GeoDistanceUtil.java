@@ -0,0 +1,26 @@
+package com.study.recommend.util;
+
+public class GeoDistanceUtil {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    // 위도 1도당 거리(km)
+    public static final double KM_PER_DEGREE_LAT = 111.32;
+
+    /**
+     * 두 좌표 사이의 대원 거리(km)
+     * SQL 쪽 ACOS(구면 코사인 법칙) 식과 같은 값을 내도록 haversine 으로 계산
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+
+        double sinLat = Math.sin(dLat / 2);
+        double sinLng = Math.sin(dLng / 2);
+
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.study.recommend.util;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 동의어 사전을 문자 단위 trie 로 컴파일한 것
+ * char 버퍼 구간을 그대로 조회하므로 조회할 때 String 을 만들지 않는다.
+ */
+final class SynonymTrie {
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private String value;
+
+        private Node child(char c) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) return children[i];
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char c) {
+            Node existing = child(c);
+            if (existing != null) return existing;
+
+            Node created = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = c;
+            children[children.length - 1] = created;
+            return created;
+        }
+    }
+
+    private final Node root = new Node();
+
+    SynonymTrie(Map<String, String> synonyms) {
+        synonyms.forEach((key, value) -> {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+            }
+            node.value = value;
+        });
+    }
+
+    /**
+     * buf[0, length) 와 정확히 일치하는 키의 값, 없으면 null
+     */
+    String find(char[] buf, int length) {
+        Node node = root;
+        for (int i = 0; i < length && node != null; i++) {
+            node = node.child(buf[i]);
+        }
+        return node == null ? null : node.value;
+    }
+}
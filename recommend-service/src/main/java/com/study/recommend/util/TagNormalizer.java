@@ -0,0 +1,99 @@
+package com.study.recommend.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 정규화 (TagSimilarityUtil.normalizeTag / normalizeFull 구현부)
+ *
+ * - 소문자 변환 + [a-z0-9가-힣] 이외 문자 제거 + 복수형 s 제거를 한 번의 char 루프로 처리
+ * - 스레드별 재사용 버퍼에 쓰고, 동의어는 trie 로 버퍼에서 바로 조회
+ * - 원본 태그 → 최종 태그 결과는 크기 제한 메모 캐시에 보관
+ *
+ * 기존 정규식 구현과 결과가 같다. (NFC 정규화는 완성형 한글만 남긴 뒤라 결과에 영향이 없어서 생략)
+ */
+final class TagNormalizer {
+
+    private static final int MEMO_MAX_SIZE = 10_000;
+
+    private final SynonymTrie synonyms;
+
+    private final Map<String, String> memo = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<char[]> buffer = ThreadLocal.withInitial(() -> new char[64]);
+
+    TagNormalizer(Map<String, String> synonymMap) {
+        this.synonyms = new SynonymTrie(synonymMap);
+    }
+
+    // 규칙 기반 정규화 (동의어 적용 전)
+    String normalizeTag(String tag) {
+        if (tag == null) return "";
+
+        char[] buf = buffer(tag.length());
+        int length = normalizeInto(tag, buf);
+        return new String(buf, 0, length);
+    }
+
+    // 규칙 기반 정규화 + 동의어
+    String normalizeFull(String tag) {
+        if (tag == null) return "";
+
+        String cached = memo.get(tag);
+        if (cached != null) return cached;
+
+        char[] buf = buffer(tag.length());
+        int length = normalizeInto(tag, buf);
+
+        String synonym = synonyms.find(buf, length);
+        String result = (synonym != null ? synonym : new String(buf, 0, length));
+
+        if (memo.size() >= MEMO_MAX_SIZE) {
+            memo.clear();
+        }
+        memo.put(tag, result);
+        return result;
+    }
+
+    String applySynonym(String tag) {
+        String synonym = synonyms.find(tag.toCharArray(), tag.length());
+        return synonym != null ? synonym : tag;
+    }
+
+    private char[] buffer(int minLength) {
+        char[] buf = buffer.get();
+        if (buf.length < minLength) {
+            buf = new char[Math.max(minLength, buf.length * 2)];
+            buffer.set(buf);
+        }
+        return buf;
+    }
+
+    /**
+     * 정규화 결과를 buf 에 쓰고 길이를 반환
+     */
+    private static int normalizeInto(String tag, char[] buf) {
+        int n = 0;
+        for (int i = 0; i < tag.length(); i++) {
+            char c = tag.charAt(i);
+
+            if (c >= 'A' && c <= 'Z') {
+                buf[n++] = (char) (c + ('a' - 'A'));
+            } else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (c >= '가' && c <= '힣')) {
+                buf[n++] = c;
+            } else if (c >= 0x80) {
+                // 비 ASCII 대문자 중 소문자가 a-z 가 되는 문자 (예: 켈빈 기호 K)
+                char lower = Character.toLowerCase(c);
+                if (lower >= 'a' && lower <= 'z') {
+                    buf[n++] = lower;
+                }
+            }
+        }
+
+        // 복수형 제거 (tags → tag)
+        if (n > 1 && buf[n - 1] == 's') {
+            n--;
+        }
+        return n;
+    }
+}
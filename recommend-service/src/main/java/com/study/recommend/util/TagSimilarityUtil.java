@@ -1,6 +1,5 @@
 package com.study.recommend.util;
 
-import java.text.Normalizer;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -67,36 +66,27 @@ public class TagSimilarityUtil {
             Map.entry("data-structure", "datastructure")
     );
 
-    // 규칙 기반 정규화
-    public static String normalizeTag(String tag) {
-        if (tag == null) return "";
-
-        // 1) 소문자 변환
-        String t = tag.toLowerCase();
-
-        // 2) 공백/특수문자 제거 ("react.js" → "reactjs")
-        t = t.replaceAll("[^a-z0-9가-힣]", "");
+    // 정규화기 (단일 패스 + 동의어 trie + 메모 캐시)
+    private static final TagNormalizer NORMALIZER = new TagNormalizer(SYNONYM_MAP);
 
-        // 3) 한글 자모 결합 ("머신 러닝" → "머신러닝")
-        t = Normalizer.normalize(t, Normalizer.Form.NFC);
-
-        // 4) 복수형 제거 (tags → tag)
-        if (t.endsWith("s") && t.length() > 1) {
-            t = t.substring(0, t.length() - 1);
-        }
+    // 동의어 원문 → 대표 태그 (근사 매칭 어휘 등록용)
+    public static Map<String, String> synonyms() {
+        return SYNONYM_MAP;
+    }
 
-        return t;
+    // 규칙 기반 정규화 (소문자, 특수문자 제거, 복수형 제거)
+    public static String normalizeTag(String tag) {
+        return NORMALIZER.normalizeTag(tag);
     }
 
     //동의어 매핑
     public static String applySynonym(String tag) {
-        return SYNONYM_MAP.getOrDefault(tag, tag);
+        return NORMALIZER.applySynonym(tag);
     }
 
     // 최종 정규화
     public static String normalizeFull(String tag) {
-        String t = normalizeTag(tag);
-        return applySynonym(t);
+        return NORMALIZER.normalizeFull(tag);
     }
 
     //리스트 정규화
@@ -128,4 +118,54 @@ public class TagSimilarityUtil {
 
         return (double) intersection.size() / union.size();
     }
+
+    /**
+     * Jaccard Similarity (정렬된 태그 id 배열 버전)
+     * TagDictionary.encode 결과끼리 비교, 할당 없이 병합으로 교집합 개수만 센다.
+     */
+    public static double jaccardSimilarity(int[] a, int[] b) {
+        if (a == null || b == null || a.length == 0 || b.length == 0) return 0.0;
+
+        int i = 0, j = 0, intersection = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        int union = a.length + b.length - intersection;
+        return (double) intersection / union;
+    }
+
+    /**
+     * 가중 Jaccard (사용자 태그 가중치 버전)
+     * 교집합 = 그룹에도 있는 사용자 태그의 가중치 합, 합집합 = |A| + |B| - 교집합
+     * 가중치가 모두 1 이면 jaccardSimilarity(int[], int[]) 와 같다.
+     */
+    public static double weightedJaccardSimilarity(int[] aIds, double[] aWeights, int[] b) {
+        if (aIds == null || b == null || aIds.length == 0 || b.length == 0) return 0.0;
+
+        int i = 0, j = 0;
+        double intersection = 0.0;
+        while (i < aIds.length && j < b.length) {
+            if (aIds[i] == b[j]) {
+                intersection += aWeights[i];
+                i++;
+                j++;
+            } else if (aIds[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        double union = aIds.length + b.length - intersection;
+        return intersection / union;
+    }
 }
@@ -0,0 +1,34 @@
+package com.study.recommend.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public class TopKSelector {
+
+    /**
+     * 상위 k 개만 고르기 (전체 정렬 없이 크기 k 힙 사용)
+     * order 는 "좋은 것이 앞" 기준, 결과도 그 순서로 정렬해서 반환
+     * 비용: O(n log k)
+     */
+    public static <T> List<T> select(Iterable<T> items, int k, Comparator<? super T> order) {
+        if (k <= 0) return List.of();
+
+        // 힙의 head = 지금까지 고른 것 중 가장 나쁜 것
+        PriorityQueue<T> heap = new PriorityQueue<>(k + 1, order.reversed());
+
+        for (T item : items) {
+            if (heap.size() < k) {
+                heap.offer(item);
+            } else if (order.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(item);
+            }
+        }
+
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
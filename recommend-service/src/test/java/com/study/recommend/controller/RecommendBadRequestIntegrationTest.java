@@ -0,0 +1,121 @@
+package com.study.recommend.controller;
+
+import com.study.common.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 잘못된 요청은 400 (서비스는 목 없이 실제 빈으로)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("추천 컨트롤러 - 잘못된 요청")
+class RecommendBadRequestIntegrationTest {
+
+    private static final String BAD_CURSOR = "not-a-cursor";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private StringRedisTemplate redisTemplate;
+
+    private String userToken;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        userToken = jwtTokenProvider.createToken("testuser", "USER", 1L);
+        adminToken = jwtTokenProvider.createToken("admin", "ADMIN", 100L);
+    }
+
+    // ===========================
+    // 잘못된 커서
+    // ===========================
+
+    @Test
+    @DisplayName("GET /api/recommend/popular - 잘못된 커서는 400")
+    void popular_BadCursor() throws Exception {
+        mockMvc.perform(get("/api/recommend/popular")
+                        .param("lat", "37.5665")
+                        .param("lng", "126.9780")
+                        .param("cursor", BAD_CURSOR)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/recommend/popular")
+                        .param("lat", "37.5665")
+                        .param("lng", "126.9780")
+                        .param("stream", "true")
+                        .param("cursor", BAD_CURSOR)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/recommend/tag - 잘못된 커서는 400")
+    void tag_BadCursor() throws Exception {
+        mockMvc.perform(get("/api/recommend/tag")
+                        .param("lat", "37.5665")
+                        .param("lng", "126.9780")
+                        .param("cursor", BAD_CURSOR)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/recommend/tag")
+                        .param("lat", "37.5665")
+                        .param("lng", "126.9780")
+                        .param("stream", "true")
+                        .param("cursor", BAD_CURSOR)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ===========================
+    // 배치 추천 요청 검증
+    // ===========================
+
+    @Test
+    @DisplayName("POST /api/recommend/tag/batch - 빈 배치는 400")
+    void batch_Empty() throws Exception {
+        mockMvc.perform(post("/api/recommend/tag/batch")
+                        .contentType("application/json")
+                        .content("{\"users\": []}")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/recommend/tag/batch - 최대 인원(기본 1000) 초과는 400")
+    void batch_Oversized() throws Exception {
+        // Given
+        StringBuilder users = new StringBuilder();
+        for (int i = 1; i <= 1_001; i++) {
+            if (users.length() > 0) users.append(',');
+            users.append("{\"userId\": ").append(i).append(", \"lat\": 37.5665, \"lng\": 126.9780}");
+        }
+
+        // When & Then
+        mockMvc.perform(post("/api/recommend/tag/batch")
+                        .contentType("application/json")
+                        .content("{\"users\": [" + users + "]}")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+}
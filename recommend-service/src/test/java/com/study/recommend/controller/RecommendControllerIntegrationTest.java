@@ -2,8 +2,14 @@ package com.study.recommend.controller;
 
 import com.study.common.security.JwtTokenProvider;
 import com.study.recommend.dto.PopularLocationResponse;
+import com.study.recommend.dto.RecommendCriteria;
+import com.study.recommend.dto.SemanticRecommendResponse;
+import com.study.recommend.dto.SimilarGroupResponse;
 import com.study.recommend.dto.TagRecommendResponse;
 import com.study.recommend.service.PopularLocationService;
+import com.study.recommend.service.SemanticRecommendService;
+import com.study.recommend.service.SimilarMembersService;
+import com.study.recommend.service.TagBatchRecommendService;
 import com.study.recommend.service.TagRecommendService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -50,6 +56,15 @@ class RecommendControllerIntegrationTest {
     @MockBean
     private TagRecommendService tagRecommendService;
 
+    @MockBean
+    private SimilarMembersService similarMembersService;
+
+    @MockBean
+    private TagBatchRecommendService tagBatchRecommendService;
+
+    @MockBean
+    private SemanticRecommendService semanticRecommendService;
+
     @MockBean
     private StringRedisTemplate redisTemplate;
 
@@ -80,7 +95,7 @@ class RecommendControllerIntegrationTest {
                 .groups(new ArrayList<>())
                 .build();
         when(popularLocationService.getPopularGroupsByLocation(
-                anyDouble(), anyDouble(), any(), any(), any(), any()
+                anyDouble(), anyDouble(), any(), any(), any(), any(), isNull()
         )).thenReturn(mockResponse);
 
         // When & Then
@@ -99,7 +114,7 @@ class RecommendControllerIntegrationTest {
                 .groups(new ArrayList<>())
                 .build();
         when(popularLocationService.getPopularGroupsByLocation(
-                anyDouble(), anyDouble(), any(), any(), any(), any()
+                anyDouble(), anyDouble(), any(), any(), any(), any(), isNull()
         )).thenReturn(mockResponse);
 
         // When & Then
@@ -122,7 +137,7 @@ class RecommendControllerIntegrationTest {
                 .groups(new ArrayList<>())
                 .build();
         when(tagRecommendService.getTagBasedGroups(
-                anyLong(), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble()
+                anyLong(), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble(), isNull()
         )).thenReturn(mockResponse);
 
         // When & Then
@@ -141,7 +156,7 @@ class RecommendControllerIntegrationTest {
                 .groups(new ArrayList<>())
                 .build();
         when(tagRecommendService.getTagBasedGroups(
-                anyLong(), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble()
+                anyLong(), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble(), isNull()
         )).thenReturn(mockResponse);
 
         // When & Then
@@ -156,6 +171,139 @@ class RecommendControllerIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("GET /api/recommend/tag - cursor 로 다음 페이지 조회")
+    void getTagRecommendations_WithCursor() throws Exception {
+        // Given
+        TagRecommendResponse mockResponse = TagRecommendResponse.builder()
+                .groups(new ArrayList<>())
+                .nextCursor("next")
+                .build();
+        when(tagRecommendService.getTagBasedGroups(
+                anyLong(), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble(), eq("abc")
+        )).thenReturn(mockResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/recommend/tag")
+                        .param("lat", "37.5665")
+                        .param("lng", "126.9780")
+                        .param("cursor", "abc")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("GET /api/recommend/popular?stream=true - NDJSON 스트리밍")
+    void getPopularRecommendations_Stream() throws Exception {
+        // Given
+        PopularLocationResponse mockResponse = PopularLocationResponse.builder()
+                .groups(new ArrayList<>())
+                .nextCursor("next")
+                .build();
+        when(popularLocationService.getPopularGroupsByLocation(
+                anyDouble(), anyDouble(), any(), any(), any(), any(), isNull()
+        )).thenReturn(mockResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/recommend/popular")
+                        .param("lat", "37.5665")
+                        .param("lng", "126.9780")
+                        .param("stream", "true")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Next-Cursor", "next"));
+    }
+
+    @Test
+    @DisplayName("GET /api/recommend/similar-members - 공동 멤버십 추천 조회")
+    void getSimilarMemberRecommendations_Success() throws Exception {
+        // Given
+        SimilarGroupResponse mockResponse = SimilarGroupResponse.builder()
+                .groupId(1L)
+                .groups(new ArrayList<>())
+                .build();
+        when(similarMembersService.getSimilarGroups(eq(testUserId), eq(1L), anyInt()))
+                .thenReturn(mockResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/recommend/similar-members")
+                        .param("groupId", "1")
+                        .param("limit", "5")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupId").value(1));
+
+        // Verify requester was passed so joined groups can be excluded
+        verify(similarMembersService).getSimilarGroups(eq(testUserId), eq(1L), eq(5));
+    }
+
+    @Test
+    @DisplayName("GET /api/recommend/semantic - 의미 기반 태그 추천 조회")
+    void getSemanticRecommendations_Success() throws Exception {
+        // Given
+        SemanticRecommendResponse mockResponse = SemanticRecommendResponse.builder()
+                .criteria(RecommendCriteria.SEMANTIC_TAG)
+                .limit(5)
+                .groups(new ArrayList<>())
+                .build();
+        when(semanticRecommendService.getSemanticGroups(eq(testUserId), anyInt()))
+                .thenReturn(mockResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/recommend/semantic")
+                        .param("limit", "5")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.criteria").value("SEMANTIC_TAG"))
+                .andExpect(jsonPath("$.groups").isArray());
+
+        verify(semanticRecommendService).getSemanticGroups(eq(testUserId), eq(5));
+    }
+
+    @Test
+    @DisplayName("DELETE /internal/recommend/users/{userId}/tags - 관심 태그 캐시 무효화 (내부 호출)")
+    void evictUserTags_Internal() throws Exception {
+        // When & Then (내부 통신은 토큰 없이)
+        mockMvc.perform(delete("/internal/recommend/users/1/tags"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("POST /api/recommend/tag/batch - 관리자 배치 추천 스트리밍")
+    void getTagRecommendationsBatch_Admin() throws Exception {
+        // Given
+        String adminToken = jwtTokenProvider.createToken("admin", "ADMIN", 100L);
+        String body = """
+                {"radiusKm": 5, "limit": 10,
+                 "users": [{"userId": 1, "lat": 37.5665, "lng": 126.9780},
+                           {"userId": 2, "lat": 37.5670, "lng": 126.9785}]}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/recommend/tag/batch")
+                        .contentType("application/json")
+                        .content(body)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        verify(tagBatchRecommendService).validate(any());
+    }
+
+    @Test
+    @DisplayName("POST /api/recommend/tag/batch - 일반 사용자는 접근 불가")
+    void getTagRecommendationsBatch_ForbiddenForUser() throws Exception {
+        mockMvc.perform(post("/api/recommend/tag/batch")
+                        .contentType("application/json")
+                        .content("{\"users\": [{\"userId\": 1, \"lat\": 37.5, \"lng\": 127.0}]}")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(tagBatchRecommendService);
+    }
+
     @Test
     @DisplayName("GET /api/recommend/popular - 필수 파라미터 누락")
     void getPopularRecommendations_MissingParams() throws Exception {
@@ -198,7 +346,7 @@ class RecommendControllerIntegrationTest {
                 .groups(new ArrayList<>())
                 .build();
         when(popularLocationService.getPopularGroupsByLocation(
-                anyDouble(), anyDouble(), any(), any(), any(), any()
+                anyDouble(), anyDouble(), any(), any(), any(), any(), isNull()
         )).thenReturn(mockResponse);
 
         // When & Then - 5km 반경
@@ -226,7 +374,7 @@ class RecommendControllerIntegrationTest {
                 .groups(new ArrayList<>())
                 .build();
         when(tagRecommendService.getTagBasedGroups(
-                eq(testUserId), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble()
+                eq(testUserId), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble(), isNull()
         )).thenReturn(mockResponse);
 
         // When & Then
@@ -238,7 +386,7 @@ class RecommendControllerIntegrationTest {
 
         // Verify user ID was passed for tag matching
         verify(tagRecommendService).getTagBasedGroups(
-                eq(testUserId), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble()
+                eq(testUserId), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble(), isNull()
         );
     }
 
@@ -250,7 +398,7 @@ class RecommendControllerIntegrationTest {
                 .groups(new ArrayList<>())
                 .build();
         when(popularLocationService.getPopularGroupsByLocation(
-                anyDouble(), anyDouble(), any(), any(), any(), any()
+                anyDouble(), anyDouble(), any(), any(), any(), any(), isNull()
         )).thenReturn(mockResponse);
 
         // When & Then - 인기도 가중치 높게
@@ -283,7 +431,7 @@ class RecommendControllerIntegrationTest {
                 .groups(new ArrayList<>())
                 .build();
         when(tagRecommendService.getTagBasedGroups(
-                eq(anotherUserId), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble()
+                eq(anotherUserId), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble(), isNull()
         )).thenReturn(mockResponse);
 
         // When & Then
@@ -295,7 +443,7 @@ class RecommendControllerIntegrationTest {
 
         // Verify the correct user ID was used
         verify(tagRecommendService).getTagBasedGroups(
-                eq(anotherUserId), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble()
+                eq(anotherUserId), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble(), isNull()
         );
     }
 }
@@ -0,0 +1,137 @@
+package com.study.recommend.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GeoGridIndex - 격자 공간 인덱스")
+class GeoGridIndexTest {
+
+    private static final double CELL_SIZE_DEG = 0.02;
+    private static final double KM_PER_DEG_LAT = 111.32;
+
+    // 위도 셀 경계 (37.54 = 1877 × 0.02) 바로 아래
+    private static final double BORDER_LAT = 1877 * CELL_SIZE_DEG;
+    private static final double LAT = BORDER_LAT - 0.05 / KM_PER_DEG_LAT;
+    private static final double LNG = 126.9780;
+
+    private GeoGridIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GeoGridIndex(CELL_SIZE_DEG);
+    }
+
+    @Test
+    @DisplayName("셀 경계 건너편 그룹도 반경 안이면 찾음 (가까운 순)")
+    void findWithinRadius_AcrossCellBorder() {
+        // Given - 1: 같은 셀 / 2: 경계 건너 위쪽 셀 / 3: 반경 밖
+        index.replaceAll(List.of(
+                group(1L, LAT - 0.08 / KM_PER_DEG_LAT, LNG),
+                group(2L, BORDER_LAT + 0.02 / KM_PER_DEG_LAT, LNG),
+                group(3L, LAT + 0.5 / KM_PER_DEG_LAT, LNG)
+        ));
+
+        // When
+        List<GeoCandidate> found = index.findWithinRadius(LAT, LNG, 0.2);
+
+        // Then
+        assertThat(found).extracting(GeoCandidate::getGroupId).containsExactly(2L, 1L);
+        assertThat(found.get(0).getDistanceKm()).isLessThan(found.get(1).getDistanceKm());
+        assertThat(found).allSatisfy(c -> assertThat(c.getDistanceKm()).isLessThanOrEqualTo(0.2));
+    }
+
+    @Test
+    @DisplayName("그룹 위치를 옮기면 이전 셀에서는 빠지고 새 셀에서 찾음")
+    void upsert_MovesGroupBetweenCells() {
+        // Given
+        index.replaceAll(List.of(group(1L, LAT, LNG)));
+        double farLat = LAT + 0.3;
+
+        // When
+        index.upsert(group(1L, farLat, LNG));
+
+        // Then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.get(1L).getLatitude()).isEqualTo(farLat);
+        assertThat(index.findWithinRadius(LAT, LNG, 1.0)).isEmpty();
+        assertThat(index.findWithinRadius(farLat, LNG, 1.0))
+                .extracting(GeoCandidate::getGroupId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("삭제한 그룹은 조회되지 않음")
+    void remove_RemovesFromLookup() {
+        // Given
+        index.replaceAll(List.of(group(1L, LAT, LNG), group(2L, LAT, LNG + 0.001)));
+
+        // When
+        index.remove(1L);
+        index.remove(99L); // 없는 그룹은 무시
+
+        // Then
+        assertThat(index.get(1L)).isNull();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findWithinRadius(LAT, LNG, 1.0))
+                .extracting(GeoCandidate::getGroupId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("넓은 반경(셀 수 > 채워진 셀 수)은 전체를 훑어도 같은 결과")
+    void findWithinRadius_WideRadius() {
+        // Given
+        index.replaceAll(List.of(group(1L, LAT, LNG), group(2L, LAT + 0.5, LNG)));
+
+        // When & Then
+        assertThat(index.findWithinRadius(LAT, LNG, 100.0))
+                .extracting(GeoCandidate::getGroupId).containsExactly(1L, 2L);
+        assertThat(index.findWithinRadius(LAT, LNG, -1.0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 재적재 중에도 조회는 빈 / 일부 인덱스를 보지 않음")
+    void replaceAll_ReadersNeverSeePartialIndex() throws InterruptedException {
+        // Given
+        List<IndexedGroup> all = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            all.add(group(i, LAT + (i % 40) * 0.0005, LNG + (i / 40) * 0.0005));
+        }
+        index.replaceAll(all);
+        int expected = index.findWithinRadius(LAT, LNG, 3.0).size();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger partialReads = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                if (index.findWithinRadius(LAT, LNG, 3.0).size() != expected) {
+                    partialReads.incrementAndGet();
+                }
+            }
+        });
+
+        // When
+        reader.start();
+        for (int i = 0; i < 50; i++) {
+            index.replaceAll(all);
+        }
+        running.set(false);
+        reader.join();
+
+        // Then
+        assertThat(expected).isPositive();
+        assertThat(partialReads.get()).isZero();
+    }
+
+    private static IndexedGroup group(long groupId, double latitude, double longitude) {
+        return new IndexedGroup(groupId, "스터디 " + groupId, "설명", "[]", 10, "ACTIVE",
+                latitude, longitude, LocalDateTime.now(), List.of(), new int[0]);
+    }
+}
@@ -0,0 +1,154 @@
+package com.study.recommend.index;
+
+import com.study.recommend.repository.GroupIndexProjection;
+import com.study.recommend.repository.GroupIndexRepository;
+import com.study.recommend.tag.GroupTagCache;
+import com.study.recommend.tag.TagDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("GroupIndexRefresher - 적재 / 증분 반영 / 대조")
+class GroupIndexRefresherTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+    private static final LocalDateTime V1 = LocalDateTime.of(2026, 10, 1, 9, 0);
+    private static final LocalDateTime V2 = V1.plusMinutes(5);
+
+    private GroupIndexRepository repository;
+    private ApplicationEventPublisher eventPublisher;
+    private GeoGridIndex index;
+    private GroupIndexRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GroupIndexRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        index = new GeoGridIndex(0.02);
+        refresher = new GroupIndexRefresher(repository, index, new GroupTagCache(new TagDictionary()),
+                eventPublisher, true);
+
+        when(repository.findAllIndexable()).thenReturn(List.of(
+                row(1L, "ACTIVE", LAT, LNG, V1),
+                row(2L, "ACTIVE", LAT + 0.001, LNG, V1),
+                row(3L, "ACTIVE", LAT + 0.002, LNG, V1)
+        ));
+        refresher.loadAll();
+    }
+
+    @Test
+    @DisplayName("전체 적재 후 인덱스 준비 완료")
+    void loadAll_PopulatesIndex() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.get(2L).getLatitude()).isEqualTo(LAT + 0.001);
+    }
+
+    @Test
+    @DisplayName("applyGroups - DB 에 없는 그룹은 삭제, 이동 / 신규 / 비활성은 반영")
+    void applyGroups_MissingRowsAreDeletes() {
+        // Given - 1: 없음(hard delete) / 2: 비활성 / 3: 이동 / 4: 신규
+        double movedLat = LAT + 0.3;
+        when(repository.findByGroupIds(anyCollection())).thenReturn(List.of(
+                row(2L, "CLOSED", LAT + 0.001, LNG, V2),
+                row(3L, "ACTIVE", movedLat, LNG, V2),
+                row(4L, "ACTIVE", LAT, LNG + 0.001, V2)
+        ));
+
+        // When
+        refresher.applyGroups(List.of(1L, 2L, 3L, 4L));
+
+        // Then
+        assertThat(index.get(1L)).isNull();
+        assertThat(index.get(2L)).isNull();
+        assertThat(index.get(3L).getLatitude()).isEqualTo(movedLat);
+        assertThat(index.get(4L)).isNotNull();
+        assertThat(index.findWithinRadius(LAT, LNG, 1.0))
+                .extracting(GeoCandidate::getGroupId).containsExactly(4L);
+
+        // 삭제 2건 + 이동(이전/새 위치) 2건 + 신규 1건
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(5)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).allSatisfy(e -> assertThat(e).isInstanceOf(GroupChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("applyGroups - updated_at 이 그대로면 이벤트 없이 건너뜀")
+    void applyGroups_SameVersionSkipped() {
+        // Given
+        when(repository.findByGroupIds(anyCollection())).thenReturn(List.of(row(1L, "ACTIVE", LAT, LNG, V1)));
+
+        // When
+        refresher.applyGroups(List.of(1L));
+
+        // Then
+        assertThat(index.size()).isEqualTo(3);
+        verify(eventPublisher, times(0)).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("applyGroups - IN 절은 500 개 단위로 나눠 조회")
+    void applyGroups_ChunksLookups() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 1_200; id++) ids.add(id);
+        when(repository.findByGroupIds(anyCollection())).thenReturn(List.of());
+
+        // When
+        refresher.applyGroups(ids);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, times(3)).findByGroupIds(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(Collection::size).containsExactly(500, 500, 200);
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("reconcile - 사라진 그룹은 제거, 빠진 그룹은 조회해서 추가")
+    void reconcile_RemovesStaleAndAddsMissing() {
+        // Given - DB 에는 1, 5 만 (2, 3 삭제됨, 5 는 인덱스에 없음)
+        when(repository.findIndexableGroupIds()).thenReturn(List.of(1L, 5L));
+        when(repository.findByGroupIds(anyCollection())).thenReturn(List.of(row(5L, "ACTIVE", LAT, LNG, V2)));
+
+        // When
+        refresher.reconcile();
+
+        // Then
+        assertThat(index.all()).extracting(IndexedGroup::getGroupId).containsExactlyInAnyOrder(1L, 5L);
+        verify(repository, atLeastOnce()).findByGroupIds(anyCollection());
+    }
+
+    private static GroupIndexProjection row(Long groupId, String status, Double latitude, Double longitude,
+                                            LocalDateTime updatedAt) {
+        return new GroupIndexProjection() {
+            @Override public Long getGroupId() { return groupId; }
+            @Override public String getTitle() { return "스터디 " + groupId; }
+            @Override public String getDescription() { return "설명"; }
+            @Override public String getCategory() { return "[\"Java\"]"; }
+            @Override public Integer getMaxMembers() { return 10; }
+            @Override public String getStatus() { return status; }
+            @Override public Double getLatitude() { return latitude; }
+            @Override public Double getLongitude() { return longitude; }
+            @Override public LocalDateTime getUpdatedAt() { return updatedAt; }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.study.recommend.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RankedPage - 커서 페이지 나누기")
+class RankedPageTest {
+
+    // {groupId, score}
+    private static final List<double[]> RANKED = List.of(
+            new double[]{1, 0.9},
+            new double[]{2, 0.8},
+            new double[]{3, 0.8},
+            new double[]{4, 0.8},
+            new double[]{5, 0.7}
+    );
+
+    @Test
+    @DisplayName("nextCursor 로 이어 받으면 빠짐/중복 없이 전체 순서")
+    void pages_CoverAllItemsOnce() {
+        // When
+        RankedPage<double[]> first = page(RANKED, null, 2);
+        RankedPage<double[]> second = page(RANKED, RecommendCursor.decode(first.getNextCursor()), 2);
+        RankedPage<double[]> third = page(RANKED, RecommendCursor.decode(second.getNextCursor()), 2);
+
+        // Then
+        assertThat(ids(first)).containsExactly(1L, 2L);
+        assertThat(ids(second)).containsExactly(3L, 4L);
+        assertThat(ids(third)).containsExactly(5L);
+        assertThat(third.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 항목이 사라져도 같은 점수의 나머지 항목은 건너뛰지 않음")
+    void cursorItemMissing_KeepsSameScoreItems() {
+        // Given - 2번 그룹(0.8)까지 받은 뒤 2번이 목록에서 빠짐
+        RecommendCursor cursor = new RecommendCursor(0.8, 2L);
+        List<double[]> changed = List.of(RANKED.get(0), RANKED.get(2), RANKED.get(3), RANKED.get(4));
+
+        // When
+        RankedPage<double[]> next = page(changed, cursor, 10);
+
+        // Then
+        assertThat(ids(next)).containsExactly(3L, 4L, 5L);
+    }
+
+    private static RankedPage<double[]> page(List<double[]> ranked, RecommendCursor cursor, int limit) {
+        return RankedPage.of(ranked, cursor, limit, item -> item[1], item -> (long) item[0]);
+    }
+
+    private static List<Long> ids(RankedPage<double[]> page) {
+        return page.getItems().stream().map(item -> (long) item[0]).toList();
+    }
+}
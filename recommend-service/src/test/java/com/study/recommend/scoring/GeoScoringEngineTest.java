@@ -0,0 +1,126 @@
+package com.study.recommend.scoring;
+
+import com.study.recommend.util.GeoDistanceUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 스칼라 / Vector API 커널 결과 비교
+ *
+ * Vector 커널 비교는 -Pvector 빌드(jdk.incubator.vector 모듈 포함)에서만 실행되고,
+ * 기본 빌드에서는 건너뛴다.
+ */
+@DisplayName("GeoScoringEngine - 커널별 결과 일치")
+class GeoScoringEngineTest {
+
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LNG = 126.9780;
+
+    // 벡터 레인 수의 배수가 아니도록 (꼬리 루프까지 확인)
+    private static final int N = 10_003;
+
+    private final GeoScoringEngine scalar = GeoScoringEngine.scalar();
+
+    private GeoPoints points;
+    private double[] latitudes;
+    private double[] longitudes;
+    private double[] values;
+    private double[] weights;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        points = new GeoPoints(N);
+        latitudes = new double[N];
+        longitudes = new double[N];
+        values = new double[N];
+        weights = new double[N];
+
+        // 중심에서 약 ±20km 범위
+        for (int i = 0; i < N; i++) {
+            latitudes[i] = CENTER_LAT + (random.nextDouble() * 2 - 1) * 0.18;
+            longitudes[i] = CENTER_LNG + (random.nextDouble() * 2 - 1) * 0.23;
+            points.addDegrees(latitudes[i], longitudes[i]);
+            values[i] = random.nextDouble() * 30;
+            weights[i] = random.nextDouble();
+        }
+    }
+
+    @Test
+    @DisplayName("스칼라 커널 거리 = GeoDistanceUtil.haversineKm")
+    void scalar_MatchesHaversine() {
+        // When
+        double[] distances = new double[N];
+        scalar.distancesKm(CENTER_LAT, CENTER_LNG, points, distances);
+
+        // Then
+        for (int i = 0; i < N; i++) {
+            double expected = GeoDistanceUtil.haversineKm(CENTER_LAT, CENTER_LNG, latitudes[i], longitudes[i]);
+            assertThat(distances[i]).isCloseTo(expected, within(1e-6));
+        }
+    }
+
+    @Test
+    @DisplayName("Vector 커널 = 스칼라 커널 (거리 / 반경 필터 / 점수)")
+    void vector_MatchesScalar() {
+        GeoScoringEngine vector = vectorOrSkip();
+
+        // 거리
+        double[] scalarKm = new double[N];
+        double[] vectorKm = new double[N];
+        scalar.distancesKm(CENTER_LAT, CENTER_LNG, points, scalarKm);
+        vector.distancesKm(CENTER_LAT, CENTER_LNG, points, vectorKm);
+        for (int i = 0; i < N; i++) {
+            assertThat(vectorKm[i]).isCloseTo(scalarKm[i], within(1e-9));
+        }
+
+        // 반경 필터 (같은 점, 같은 순서)
+        int[] scalarIdx = new int[N];
+        int[] vectorIdx = new int[N];
+        double[] scalarDist = new double[N];
+        double[] vectorDist = new double[N];
+        int scalarCount = scalar.withinRadius(CENTER_LAT, CENTER_LNG, points, 5.0, scalarIdx, scalarDist);
+        int vectorCount = vector.withinRadius(CENTER_LAT, CENTER_LNG, points, 5.0, vectorIdx, vectorDist);
+        assertThat(scalarCount).isPositive();
+        assertThat(vectorCount).isEqualTo(scalarCount);
+        assertThat(Arrays.copyOf(vectorIdx, vectorCount)).containsExactly(Arrays.copyOf(scalarIdx, scalarCount));
+
+        // 점수
+        assertSameScores((engine, out) -> engine.linearDistanceScores(scalarKm, N, 5.0, out), vector);
+        assertSameScores((engine, out) -> engine.inverseDistanceScores(scalarKm, N, out), vector);
+        assertSameScores((engine, out) -> engine.sqrtRatio(values, N, 30.0, out), vector);
+        assertSameScores((engine, out) -> engine.weightedSum(values, 0.7, weights, 0.3, N, out), vector);
+    }
+
+    private void assertSameScores(ScoreCall call, GeoScoringEngine vector) {
+        double[] expected = new double[N];
+        double[] actual = new double[N];
+        call.run(scalar, expected);
+        call.run(vector, actual);
+        for (int i = 0; i < N; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(1e-12));
+        }
+    }
+
+    private static GeoScoringEngine vectorOrSkip() {
+        try {
+            return GeoScoringEngine.vector();
+        } catch (IllegalStateException e) {
+            assumeTrue(false, "Vector 커널 없음 (-Pvector 빌드에서만 비교)");
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ScoreCall {
+        void run(GeoScoringEngine engine, double[] out);
+    }
+}
@@ -0,0 +1,196 @@
+package com.study.recommend.semantic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * HNSW 근사 검색 정확도 / tombstone 처리
+ *
+ * 설정값은 application.yml 기본값과 같게 (m=16, ef-construction=100, ef-search=128)
+ */
+@DisplayName("HnswIndex - 근사 최근접 이웃")
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+    private static final int COUNT = 3_000;
+    private static final int QUERIES = 200;
+    private static final int K = 10;
+
+    private static final int M = 16;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final int EF_SEARCH = 128;
+
+    private Random random;
+    private float[][] vectors;
+    private HnswIndex index;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(42);
+        vectors = new float[COUNT][];
+
+        // 초기 용량을 작게 → 추가 중 OffHeapVectors / 노드 배열이 여러 번 늘어남
+        index = new HnswIndex(DIMENSION, M, EF_CONSTRUCTION, 16);
+        for (int i = 0; i < COUNT; i++) {
+            vectors[i] = randomUnitVector();
+            index.add(i, vectors[i]);
+        }
+    }
+
+    // ===========================
+    // 정확도
+    // ===========================
+
+    @Test
+    @DisplayName("top-10 recall 이 전수 비교 대비 0.95 이상, 유사도는 실제 내적")
+    void search_RecallAgainstBruteForce() {
+        int hits = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            float[] query = randomUnitVector();
+
+            // When
+            List<HnswIndex.Neighbor> found = index.search(query, K, EF_SEARCH);
+
+            // Then
+            assertThat(found).hasSize(K);
+            for (int i = 0; i < found.size(); i++) {
+                HnswIndex.Neighbor n = found.get(i);
+                assertThat(n.similarity).isCloseTo(dot(query, vectors[(int) n.key]), within(1e-5f));
+                if (i > 0) {
+                    assertThat(n.similarity).isLessThanOrEqualTo(found.get(i - 1).similarity);
+                }
+            }
+
+            Set<Long> exact = bruteForce(query, K);
+            for (HnswIndex.Neighbor n : found) {
+                if (exact.contains(n.key)) hits++;
+            }
+        }
+
+        double recall = (double) hits / (QUERIES * K);
+        assertThat(recall).isGreaterThanOrEqualTo(0.95);
+    }
+
+    // ===========================
+    // 삭제 / 수정 (tombstone)
+    // ===========================
+
+    @Test
+    @DisplayName("삭제된 그룹은 자기 벡터로 검색해도 결과에 없음")
+    void removedGroups_NeverReturned() {
+        // Given - 3개 중 1개 삭제
+        boolean[] removed = new boolean[COUNT];
+        for (int i = 0; i < COUNT; i += 3) {
+            index.remove(i);
+            removed[i] = true;
+        }
+
+        // When & Then
+        assertThat(index.liveSize()).isEqualTo(COUNT - (COUNT + 2) / 3);
+        for (int i = 0; i < COUNT; i += 3) {
+            if (i % 30 != 0) continue;
+
+            List<HnswIndex.Neighbor> found = index.search(vectors[i], K, EF_SEARCH);
+            assertThat(found).isNotEmpty();
+            for (HnswIndex.Neighbor n : found) {
+                assertThat(removed[(int) n.key]).as("삭제된 그룹 %d", n.key).isFalse();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("태그가 바뀐 그룹은 새 벡터 기준으로만, 한 번만 나옴")
+    void retaggedGroups_ReturnedOnlyWithNewVector() {
+        // Given - 100개 그룹 벡터 교체 (이전 노드는 tombstone)
+        float[][] before = Arrays.copyOf(vectors, COUNT);
+        for (int i = 0; i < 100; i++) {
+            vectors[i] = randomUnitVector();
+            index.add(i, vectors[i]);
+        }
+
+        // When & Then - 이전 벡터로 찾아도 이전 노드(이전 유사도)는 안 나옴
+        assertThat(index.liveSize()).isEqualTo(COUNT);
+        assertThat(index.deletedRatio()).isCloseTo(100.0 / (COUNT + 100), within(1e-9));
+        for (int i = 0; i < 100; i++) {
+            List<HnswIndex.Neighbor> found = index.search(before[i], K, EF_SEARCH);
+
+            Set<Long> keys = new HashSet<>();
+            for (HnswIndex.Neighbor n : found) {
+                assertThat(keys.add(n.key)).as("중복 그룹 %d", n.key).isTrue();
+                assertThat(n.similarity).isCloseTo(dot(before[i], vectors[(int) n.key]), within(1e-5f));
+            }
+        }
+    }
+
+    // ===========================
+    // OffHeapVectors
+    // ===========================
+
+    @Test
+    @DisplayName("OffHeapVectors - 용량이 늘어도 값 유지, 내적은 단순 계산과 같음")
+    void offHeapVectors_GrowAndDot() {
+        // Given
+        int dimension = 13; // 4 의 배수가 아닌 차원 (꼬리 루프)
+        OffHeapVectors offHeap = new OffHeapVectors(dimension, 1);
+        float[][] stored = new float[100][];
+        for (int i = 0; i < stored.length; i++) {
+            stored[i] = new float[dimension];
+            for (int d = 0; d < dimension; d++) {
+                stored[i][d] = (float) random.nextGaussian();
+            }
+            offHeap.set(i, stored[i]);
+        }
+
+        // When & Then
+        float[] query = stored[7];
+        for (int i = 0; i < stored.length; i++) {
+            assertThat(offHeap.get(i)).containsExactly(stored[i]);
+            assertThat(offHeap.dot(query, i)).isCloseTo(dot(query, stored[i]), within(1e-4f));
+            assertThat(offHeap.dot(7, i)).isCloseTo(dot(query, stored[i]), within(1e-4f));
+        }
+        assertThat(OffHeapVectors.normalize(new float[dimension])).isFalse();
+    }
+
+    // ===========================
+    // 헬퍼
+    // ===========================
+
+    private Set<Long> bruteForce(float[] query, int k) {
+        Integer[] order = new Integer[COUNT];
+        for (int i = 0; i < COUNT; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Float.compare(dot(query, vectors[b]), dot(query, vectors[a])));
+
+        Set<Long> top = new HashSet<>();
+        for (int i = 0; i < k; i++) {
+            top.add((long) order[i]);
+        }
+        return top;
+    }
+
+    private float[] randomUnitVector() {
+        float[] v = new float[DIMENSION];
+        for (int d = 0; d < DIMENSION; d++) {
+            v[d] = (float) random.nextGaussian();
+        }
+        OffHeapVectors.normalize(v);
+        return v;
+    }
+
+    private static float dot(float[] a, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
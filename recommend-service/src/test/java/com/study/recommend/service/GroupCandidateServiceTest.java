@@ -0,0 +1,67 @@
+package com.study.recommend.service;
+
+import com.study.recommend.index.GeoGridIndex;
+import com.study.recommend.index.IndexedGroup;
+import com.study.recommend.metrics.RecommendMetrics;
+import com.study.recommend.repository.GroupPopularityProjection;
+import com.study.recommend.repository.PopularLocationProjection;
+import com.study.recommend.repository.PopularLocationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("GroupCandidateService - 인덱스 후보 + 인기도 롤업")
+class GroupCandidateServiceTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    @Test
+    @DisplayName("인기도 롤업은 500 개 단위 IN 절로 나눠 조회하고 결과는 합쳐서 반영")
+    void findPopularCandidates_ChunksPopularityLookup() {
+        // Given - 반경 안 1,200 개 그룹, 인기도는 마지막 그룹만
+        GeoGridIndex index = new GeoGridIndex(0.02);
+        List<IndexedGroup> groups = new ArrayList<>();
+        for (long i = 1; i <= 1_200; i++) {
+            groups.add(new IndexedGroup(i, "스터디 " + i, "설명", "[]", 10, "ACTIVE",
+                    LAT + (i % 40) * 0.0001, LNG + (i / 40) * 0.0001, LocalDateTime.now(), List.of(), new int[0]));
+        }
+        index.replaceAll(groups);
+
+        GroupPopularityProjection popular = mock(GroupPopularityProjection.class);
+        when(popular.getGroupId()).thenReturn(1_200L);
+        when(popular.getMemberCount()).thenReturn(9L);
+
+        PopularLocationRepository repository = mock(PopularLocationRepository.class);
+        when(repository.findPopularity(anyCollection())).thenReturn(List.of(), List.of(), List.of(popular));
+
+        GroupCandidateService service = new GroupCandidateService(
+                index, null, repository, new RecommendMetrics(new SimpleMeterRegistry()));
+
+        // When
+        List<PopularLocationProjection> found = service.findPopularCandidates(LAT, LNG, 5.0, 10);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, times(3)).findPopularity(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(Collection::size).containsExactly(500, 500, 200);
+
+        assertThat(found).hasSize(10);
+        assertThat(found.get(0).getGroupId()).isEqualTo(1_200L);
+        assertThat(found.get(0).getMemberCount()).isEqualTo(9L);
+    }
+}
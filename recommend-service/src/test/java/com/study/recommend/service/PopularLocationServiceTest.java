@@ -0,0 +1,244 @@
+package com.study.recommend.service;
+
+import com.study.recommend.cache.PopularCandidateCache;
+import com.study.recommend.dto.PopularLocationGroupDto;
+import com.study.recommend.dto.PopularLocationResponse;
+import com.study.recommend.index.GeoGridIndex;
+import com.study.recommend.index.IndexedGroup;
+import com.study.recommend.metrics.RecommendMetrics;
+import com.study.recommend.repository.GroupPopularityProjection;
+import com.study.recommend.repository.PopularLocationRepository;
+import com.study.recommend.util.GeoDistanceUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("인기 추천 서비스 - 셀 후보 캐시")
+class PopularLocationServiceTest {
+
+    // 셀(0.005도) 중심에서 약 350m 떨어진 셀 모서리 근처 좌표
+    private static final double USER_LAT = 37.50001;
+    private static final double USER_LNG = 127.00001;
+    private static final double RADIUS_KM = 0.4;
+
+    private static final double KM_PER_DEG_LAT = 111.32;
+
+    private PopularLocationRepository repository;
+    private PopularLocationService service;
+
+    @BeforeEach
+    void setUp() {
+        GeoGridIndex index = new GeoGridIndex(0.02);
+        index.replaceAll(List.of(
+                // 사용자 반경 안, 셀 중심에서는 반경 버킷(0.5km) 밖
+                group(1L, USER_LAT - 0.35 / KM_PER_DEG_LAT),
+                // 사용자 반경 밖, 셀 중심에서는 반경 버킷 안
+                group(2L, USER_LAT + 0.45 / KM_PER_DEG_LAT)
+        ));
+
+        repository = mock(PopularLocationRepository.class);
+        when(repository.findPopularity(anyCollection())).thenReturn(List.of());
+
+        RecommendMetrics metrics = new RecommendMetrics(new SimpleMeterRegistry());
+        GroupCandidateService candidates = new GroupCandidateService(index, null, repository, metrics);
+        PopularCandidateCache cache = new PopularCandidateCache(true, 30, 1000, 0.005, 0.5, Optional.empty());
+
+        service = new PopularLocationService(candidates, cache, metrics);
+        ReflectionTestUtils.setField(service, "trendWeight", 0.0);
+        ReflectionTestUtils.setField(service, "velocityHalfLifeHours", 72.0);
+        ReflectionTestUtils.setField(service, "oversamplingFactor", 3);
+        ReflectionTestUtils.setField(service, "maxCandidatePool", 500);
+    }
+
+    @Test
+    @DisplayName("캐시된 셀 후보라도 거리/반경 필터/반경 값은 요청 좌표와 반경 기준")
+    void cachedCandidates_AreMeasuredFromRequest() {
+        // When
+        PopularLocationResponse response =
+                service.getPopularGroupsByLocation(USER_LAT, USER_LNG, RADIUS_KM, 10, null, null);
+
+        // Then
+        assertThat(response.getRadiusKm()).isEqualTo(RADIUS_KM);
+        assertThat(response.getGroups()).extracting(PopularLocationGroupDto::getGroupId).containsExactly(1L);
+
+        PopularLocationGroupDto group = response.getGroups().get(0);
+        double expectedKm = GeoDistanceUtil.haversineKm(USER_LAT, USER_LNG, group.getLatitude(), group.getLongitude());
+        assertThat(group.getDistanceKm()).isCloseTo(expectedKm, within(0.01));
+    }
+
+    @Test
+    @DisplayName("같은 셀의 다른 좌표 요청은 후보 조회를 공유하고 자기 좌표 기준으로 계산")
+    void sameCell_SharesCandidateFetch() {
+        // Given - 같은 셀 안, 그룹 2 쪽으로 옮긴 좌표
+        double otherLat = USER_LAT + 0.3 / KM_PER_DEG_LAT;
+
+        // When
+        service.getPopularGroupsByLocation(USER_LAT, USER_LNG, RADIUS_KM, 10, null, null);
+        PopularLocationResponse other =
+                service.getPopularGroupsByLocation(otherLat, USER_LNG, RADIUS_KM, 10, null, null);
+
+        // Then - 인기도 롤업은 한 번만 조회, 결과는 두 번째 좌표 기준 (그룹 2 만 반경 안)
+        verify(repository, times(1)).findPopularity(anyCollection());
+        assertThat(other.getGroups()).extracting(PopularLocationGroupDto::getGroupId).containsExactly(2L);
+        assertThat(other.getGroups().get(0).getDistanceKm()).isCloseTo(0.15, within(0.01));
+    }
+
+    @Test
+    @DisplayName("인기도/트렌드 가중치가 0 이어도 popScore/trendScore 는 후보 전체 최댓값 기준")
+    void zeroWeights_ScoresNormalizedOverPool() {
+        // Given - 가까울수록 멤버/가입 속도가 적음 (거리만으로 정렬하면 1번이 1등)
+        GeoGridIndex index = new GeoGridIndex(0.02);
+        index.replaceAll(List.of(
+                group(1L, USER_LAT + 0.1 / KM_PER_DEG_LAT),
+                group(2L, USER_LAT + 0.2 / KM_PER_DEG_LAT),
+                group(3L, USER_LAT + 0.3 / KM_PER_DEG_LAT)
+        ));
+
+        PopularLocationRepository popularity = mock(PopularLocationRepository.class);
+        LocalDateTime now = LocalDateTime.now();
+        List<GroupPopularityProjection> rows = List.of(
+                popularity(1L, 2L, 1.0, now),
+                popularity(2L, 4L, 2.0, now),
+                popularity(3L, 8L, 4.0, now)
+        );
+        when(popularity.findPopularity(anyCollection())).thenReturn(rows);
+        PopularLocationService zeroTrend = uncachedService(index, popularity);
+
+        // When - popWeight 0, 한 개만
+        PopularLocationResponse response =
+                zeroTrend.getPopularGroupsByLocation(USER_LAT, USER_LNG, 1.0, 1, 0.0, 1.0);
+
+        // Then - 1번 그룹, 점수는 3개 후보 최댓값(멤버 8, 속도 4) 기준
+        assertThat(response.getGroups()).extracting(PopularLocationGroupDto::getGroupId).containsExactly(1L);
+        PopularLocationGroupDto top = response.getGroups().get(0);
+        assertThat(top.getMemberCount()).isEqualTo(2L);
+        assertThat(top.getPopScore()).isEqualTo(0.5);   // sqrt(2 / 8)
+        assertThat(top.getTrendScore()).isEqualTo(0.5); // sqrt(1 / 4)
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 limit 기준 풀로, 커서 페이지도 같은 풀에서 이어서 (중복/누락 없음)")
+    void cursorPages_ContinueFromSamePool() {
+        // Given - 6개 그룹, limit 2 → 후보 풀 6 (2 × 3)
+        GeoGridIndex index = new GeoGridIndex(0.02);
+        List<IndexedGroup> groups = new ArrayList<>();
+        List<GroupPopularityProjection> rows = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= 6; id++) {
+            groups.add(group(id, USER_LAT + id * 0.1 / KM_PER_DEG_LAT));
+            rows.add(popularity(id, id % 3 + 1, 0.0, now));
+        }
+        index.replaceAll(groups);
+
+        PopularLocationRepository popularity = mock(PopularLocationRepository.class);
+        when(popularity.findPopularity(anyCollection())).thenReturn(rows);
+        PopularLocationService paged = uncachedService(index, popularity);
+
+        List<Long> expected = paged.getPopularGroupsByLocation(USER_LAT, USER_LNG, 1.0, 6, null, null)
+                .getGroups().stream().map(PopularLocationGroupDto::getGroupId).toList();
+
+        // When - 2개씩 끝까지
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PopularLocationResponse page =
+                    paged.getPopularGroupsByLocation(USER_LAT, USER_LNG, 1.0, 2, null, null, cursor);
+            assertThat(page.getGroups()).hasSizeLessThanOrEqualTo(2);
+            page.getGroups().forEach(g -> seen.add(g.getGroupId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("셀 후보가 상한(500)을 넘어 잘리면 요청 반경 그룹이 빠지지 않게 직접 조회")
+    void cappedCell_FallsBackToDirectQuery() {
+        // Given - 셀 반경 안, 요청 반경 밖에 멤버 많은 그룹 520개 / 요청 반경 안에 멤버 적은 그룹 20개
+        GeoGridIndex index = new GeoGridIndex(0.02);
+        List<IndexedGroup> groups = new ArrayList<>();
+        List<GroupPopularityProjection> rows = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= 520; id++) {
+            groups.add(new IndexedGroup(id, "스터디 " + id, "설명", "[]", 10, "ACTIVE",
+                    USER_LAT + 0.45 / KM_PER_DEG_LAT, USER_LNG + (id % 20) * 0.00001,
+                    now, List.of(), new int[0]));
+            rows.add(popularity(id, 100L, 0.0, now));
+        }
+        for (long id = 1_001; id <= 1_020; id++) {
+            groups.add(group(id, USER_LAT - 0.35 / KM_PER_DEG_LAT + (id % 20) * 0.00001));
+            rows.add(popularity(id, 1L + id % 5, 0.0, now));
+        }
+        index.replaceAll(groups);
+
+        PopularLocationRepository popularity = mock(PopularLocationRepository.class);
+        when(popularity.findPopularity(anyCollection())).thenReturn(rows);
+
+        RecommendMetrics metrics = new RecommendMetrics(new SimpleMeterRegistry());
+        GroupCandidateService candidates = new GroupCandidateService(index, null, popularity, metrics);
+        PopularCandidateCache cache = new PopularCandidateCache(true, 30, 1000, 0.005, 0.5, Optional.empty());
+        PopularLocationService cached = new PopularLocationService(candidates, cache, metrics);
+        ReflectionTestUtils.setField(cached, "trendWeight", 0.0);
+        ReflectionTestUtils.setField(cached, "velocityHalfLifeHours", 72.0);
+        ReflectionTestUtils.setField(cached, "oversamplingFactor", 3);
+        ReflectionTestUtils.setField(cached, "maxCandidatePool", 500);
+
+        // When
+        List<Long> withCache = cached.getPopularGroupsByLocation(USER_LAT, USER_LNG, RADIUS_KM, 10, null, null)
+                .getGroups().stream().map(PopularLocationGroupDto::getGroupId).toList();
+        List<Long> direct = uncachedService(index, popularity)
+                .getPopularGroupsByLocation(USER_LAT, USER_LNG, RADIUS_KM, 10, null, null)
+                .getGroups().stream().map(PopularLocationGroupDto::getGroupId).toList();
+
+        // Then - 잘린 셀 후보(멤버 많은 그룹만)로는 0개, 직접 조회와 같은 10개
+        assertThat(withCache).hasSize(10).allSatisfy(id -> assertThat(id).isGreaterThan(1_000L));
+        assertThat(withCache).containsExactlyElementsOf(direct);
+    }
+
+    private PopularLocationService uncachedService(GeoGridIndex index, PopularLocationRepository popularity) {
+        RecommendMetrics metrics = new RecommendMetrics(new SimpleMeterRegistry());
+        GroupCandidateService candidates = new GroupCandidateService(index, null, popularity, metrics);
+        PopularCandidateCache disabled = new PopularCandidateCache(false, 30, 1000, 0.005, 0.5, Optional.empty());
+
+        PopularLocationService uncached = new PopularLocationService(candidates, disabled, metrics);
+        ReflectionTestUtils.setField(uncached, "trendWeight", 0.0);
+        ReflectionTestUtils.setField(uncached, "velocityHalfLifeHours", 72.0);
+        ReflectionTestUtils.setField(uncached, "oversamplingFactor", 3);
+        ReflectionTestUtils.setField(uncached, "maxCandidatePool", 500);
+        return uncached;
+    }
+
+    private static GroupPopularityProjection popularity(long groupId, long memberCount,
+                                                        double velocity, LocalDateTime updatedAt) {
+        GroupPopularityProjection row = mock(GroupPopularityProjection.class);
+        when(row.getGroupId()).thenReturn(groupId);
+        when(row.getMemberCount()).thenReturn(memberCount);
+        when(row.getJoinVelocity()).thenReturn(velocity);
+        when(row.getVelocityUpdatedAt()).thenReturn(updatedAt);
+        return row;
+    }
+
+    private static IndexedGroup group(long groupId, double latitude) {
+        return new IndexedGroup(groupId, "스터디 " + groupId, "설명", "[]", 10, "ACTIVE",
+                latitude, USER_LNG, LocalDateTime.now(), List.of(), new int[0]);
+    }
+}
@@ -0,0 +1,205 @@
+package com.study.recommend.snapshot;
+
+import com.study.recommend.cf.CoMembershipIndex;
+import com.study.recommend.index.GeoGridIndex;
+import com.study.recommend.index.IndexedGroup;
+import com.study.recommend.tag.GroupTagCache;
+import com.study.recommend.tag.TagDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("인덱스 스냅샷 파일 - 저장/읽기/손상/만료")
+class IndexSnapshotFileTest {
+
+    private static final long MAX_AGE_MINUTES = 60;
+
+    @TempDir
+    Path tempDir;
+
+    private Path path;
+    private TagDictionary tagDictionary;
+    private GroupTagCache groupTagCache;
+
+    @BeforeEach
+    void setUp() {
+        path = tempDir.resolve("recommend-index.snapshot");
+        tagDictionary = new TagDictionary();
+        groupTagCache = new GroupTagCache(tagDictionary);
+    }
+
+    // ===========================
+    // 저장 / 읽기
+    // ===========================
+
+    @Test
+    @DisplayName("그룹과 공동 멤버십이 그대로 복원됨 (null 컬럼 포함)")
+    void write_ThenRead_RoundTrip() throws IOException {
+        // Given
+        IndexSnapshot snapshot = snapshot(System.currentTimeMillis());
+
+        // When
+        long bytes = IndexSnapshotFile.write(path, snapshot);
+        IndexSnapshot restored = IndexSnapshotFile.read(path, groupTagCache);
+
+        // Then
+        assertThat(bytes).isEqualTo(Files.size(path));
+        assertThat(restored.getCreatedAtMillis()).isEqualTo(snapshot.getCreatedAtMillis());
+        assertThat(restored.getFeedPosition()).isEqualTo(snapshot.getFeedPosition());
+
+        assertThat(restored.getGroups()).hasSize(2);
+        for (int i = 0; i < 2; i++) {
+            IndexedGroup expected = snapshot.getGroups().get(i);
+            IndexedGroup actual = restored.getGroups().get(i);
+            assertThat(actual.getGroupId()).isEqualTo(expected.getGroupId());
+            assertThat(actual.getTitle()).isEqualTo(expected.getTitle());
+            assertThat(actual.getDescription()).isEqualTo(expected.getDescription());
+            assertThat(actual.getCategory()).isEqualTo(expected.getCategory());
+            assertThat(actual.getMaxMembers()).isEqualTo(expected.getMaxMembers());
+            assertThat(actual.getStatus()).isEqualTo(expected.getStatus());
+            assertThat(actual.getLatitude()).isEqualTo(expected.getLatitude());
+            assertThat(actual.getLongitude()).isEqualTo(expected.getLongitude());
+            assertThat(actual.getUpdatedAt()).isEqualTo(expected.getUpdatedAt());
+            assertThat(actual.getTags()).isEqualTo(expected.getTags());
+            assertThat(actual.getTagIds()).containsExactly(expected.getTagIds());
+        }
+
+        assertThat(restored.getGroupMembers()).containsOnlyKeys(snapshot.getGroupMembers().keySet());
+        snapshot.getGroupMembers().forEach((groupId, userIds) ->
+                assertThat(restored.getGroupMembers().get(groupId)).containsExactly(userIds));
+    }
+
+    @Test
+    @DisplayName("캡처하지 않은 인덱스(null)는 null 로 복원")
+    void write_ThenRead_MissingSections() throws IOException {
+        // Given
+        IndexSnapshot snapshot = new IndexSnapshot(System.currentTimeMillis(), null, null, null);
+
+        // When
+        IndexSnapshotFile.write(path, snapshot);
+        IndexSnapshot restored = IndexSnapshotFile.read(path, groupTagCache);
+
+        // Then
+        assertThat(restored.getFeedPosition()).isNull();
+        assertThat(restored.getGroups()).isNull();
+        assertThat(restored.getGroupMembers()).isNull();
+    }
+
+    // ===========================
+    // 손상 파일
+    // ===========================
+
+    @Test
+    @DisplayName("잘린 파일은 읽기 실패")
+    void read_TruncatedFile_Rejected() throws IOException {
+        // Given
+        IndexSnapshotFile.write(path, snapshot(System.currentTimeMillis()));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 13));
+
+        // When & Then
+        assertThatThrownBy(() -> IndexSnapshotFile.read(path, groupTagCache))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("본문 1비트가 바뀐 파일은 CRC 불일치로 읽기 실패")
+    void read_BitFlippedFile_Rejected() throws IOException {
+        // Given
+        IndexSnapshotFile.write(path, snapshot(System.currentTimeMillis()));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(path, bytes);
+
+        // When & Then
+        assertThatThrownBy(() -> IndexSnapshotFile.read(path, groupTagCache))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("CRC");
+    }
+
+    @Test
+    @DisplayName("손상 파일은 load() 에서 null (전체 적재로 폴백)")
+    void load_CorruptedFile_ReturnsNull() throws IOException {
+        // Given
+        IndexSnapshotFile.write(path, snapshot(System.currentTimeMillis()));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(path, bytes);
+
+        // When & Then
+        assertThat(service().load()).isNull();
+    }
+
+    // ===========================
+    // 만료 (max-age)
+    // ===========================
+
+    @Test
+    @DisplayName("max-age 이내 스냅샷은 load() 로 읽힘")
+    void load_FreshSnapshot_Returned() throws IOException {
+        // Given
+        long createdAt = System.currentTimeMillis() - (MAX_AGE_MINUTES - 1) * 60_000;
+        IndexSnapshotFile.write(path, snapshot(createdAt));
+
+        // When
+        IndexSnapshot loaded = service().load();
+
+        // Then
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.getCreatedAtMillis()).isEqualTo(createdAt);
+        assertThat(loaded.getGroups()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("max-age 를 넘긴 스냅샷은 load() 에서 null (전체 적재)")
+    void load_StaleSnapshot_ReturnsNull() throws IOException {
+        // Given
+        long createdAt = System.currentTimeMillis() - (MAX_AGE_MINUTES + 1) * 60_000;
+        IndexSnapshotFile.write(path, snapshot(createdAt));
+
+        // When & Then
+        assertThat(Files.isRegularFile(path)).isTrue();
+        assertThat(service().load()).isNull();
+    }
+
+    // ===========================
+    // 헬퍼
+    // ===========================
+
+    private IndexSnapshotService service() {
+        return new IndexSnapshotService(new GeoGridIndex(0.02), new CoMembershipIndex(), groupTagCache,
+                true, path.toString(), MAX_AGE_MINUTES, true, true);
+    }
+
+    private IndexSnapshot snapshot(long createdAtMillis) {
+        List<String> tags = List.of("Java", "스프링");
+
+        List<IndexedGroup> groups = List.of(
+                new IndexedGroup(1L, "자바 스터디", "매주 토요일", "[\"Java\",\"스프링\"]", 8, "ACTIVE",
+                        37.5665, 126.9780, LocalDateTime.of(2026, 10, 1, 9, 30, 15, 123_456_789),
+                        tags, tagDictionary.encodeGroup(tags)),
+                new IndexedGroup(2L, "알고리즘", null, "[]", null, "ACTIVE",
+                        35.1796, 129.0756, null, List.of(), new int[0])
+        );
+
+        Map<Long, long[]> groupMembers = new HashMap<>();
+        groupMembers.put(1L, new long[]{10L, 11L, 12L});
+        groupMembers.put(2L, new long[]{11L});
+        groupMembers.put(3L, new long[0]);
+
+        return new IndexSnapshot(createdAtMillis, "2026-10-01T09:30:15|42", groups, groupMembers);
+    }
+}
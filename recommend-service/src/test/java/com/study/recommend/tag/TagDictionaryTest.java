@@ -0,0 +1,55 @@
+package com.study.recommend.tag;
+
+import com.study.recommend.util.TagSimilarityUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("TagDictionary - 사용자 태그는 사전에 넣지 않음")
+class TagDictionaryTest {
+
+    private TagDictionary dictionary;
+    private int[] groupIds;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new TagDictionary();
+        groupIds = dictionary.encodeGroup(List.of("java", "spring", "algorithm"));
+    }
+
+    @Test
+    @DisplayName("어휘에 없는 사용자 태그는 사전 크기를 늘리지 않음")
+    void unknownUserTags_NotInterned() {
+        // Given
+        int size = dictionary.size();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            dictionary.encodeWeighted(List.of("zzqx" + i, "java"));
+            dictionary.encode(List.of("wwqk" + i));
+        }
+
+        // Then
+        assertThat(dictionary.size()).isEqualTo(size);
+    }
+
+    @Test
+    @DisplayName("어휘에 없는 태그도 합집합 크기에는 포함, 같은 태그는 한 번만")
+    void unknownUserTags_CountInUnion() {
+        // When
+        WeightedTagIds weighted = dictionary.encodeWeighted(List.of("java", "zzqx", "zzqx", "qwvk"));
+        int[] plain = dictionary.encode(List.of("java", "zzqx", "zzqx", "qwvk"));
+
+        // Then - 교집합 {java}, 합집합 {java, zzqx, qwvk, spring, algorithm}
+        assertThat(weighted.getIds()).hasSize(3);
+        assertThat(plain).hasSize(3);
+        assertThat(TagSimilarityUtil.weightedJaccardSimilarity(weighted.getIds(), weighted.getWeights(), groupIds))
+                .isCloseTo(1.0 / 5, within(1e-9));
+        assertThat(TagSimilarityUtil.jaccardSimilarity(plain, groupIds)).isCloseTo(1.0 / 5, within(1e-9));
+    }
+}
@@ -1,8 +1,10 @@
 package com.study.study.admin.controller;
 
 import com.study.common.security.JwtUserInfo;
+import com.study.study.pagination.CursorPage;
 import com.study.study.studypost.dto.StudyPostCreateRequest;
 import com.study.study.studypost.dto.StudyPostResponse;
+import com.study.study.studypost.dto.StudyPostSummary;
 import com.study.study.studypost.dto.StudyPostUpdateRequest;
 import com.study.study.studypost.service.StudyPostService;
 import org.springframework.http.HttpStatus;
@@ -10,8 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/admin/posts")
 public class AdminPostController {
@@ -26,14 +26,25 @@ public class AdminPostController {
         return user != null && user.isAdmin();
     }
 
-    // ⭐ 1) 관리자용 게시글 전체 조회
+    // ⭐ 1) 관리자용 게시글 목록 (최신순 커서 페이지, 본문 제외 / 신고 여부 포함)
     @GetMapping
-    public ResponseEntity<?> getAll(@AuthenticationPrincipal JwtUserInfo user) {
+    public ResponseEntity<?> getAll(
+            @AuthenticationPrincipal JwtUserInfo user,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "groupId", required = false) Long groupId,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "cursor", required = false) String cursor
+    ) {
         if (!isAdmin(user)) {
             return ResponseEntity.status(403).body("관리자만 조회할 수 있습니다.");
         }
-        List<StudyPostResponse> list = studyPostService.getAllPosts();
-        return ResponseEntity.ok(list);
+
+        try {
+            CursorPage<StudyPostSummary> page = studyPostService.getPostPage(type, groupId, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // ⭐ 2) 공지사항 등록
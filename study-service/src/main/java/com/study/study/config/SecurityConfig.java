@@ -42,8 +42,8 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(auth -> auth
 
-                        // 1) 헬스체크는 항상 허용
-                        .requestMatchers("/", "/health", "/actuator/health").permitAll()
+                        // 1) 헬스체크 / 지표 수집은 항상 허용
+                        .requestMatchers("/", "/health", "/actuator/health", "/actuator/prometheus").permitAll()
 
                         // 2) 로그인, 회원가입 공개
                         .requestMatchers("/api/auth/tokens", "/api/users").permitAll()
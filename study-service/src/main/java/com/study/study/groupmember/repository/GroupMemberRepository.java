@@ -22,4 +22,7 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
 
     // 🔥 승인된 멤버만 조회
     List<GroupMember> findByUserIdAndStatus(Long userId, GroupMember.Status status);
+
+    // 인기도 롤업 재계산용 승인 멤버 수
+    long countByGroupIdAndStatus(Long groupId, GroupMember.Status status);
 }
@@ -3,6 +3,7 @@ package com.study.study.groupmember.service;
 import com.study.study.groupmember.domain.GroupMember;
 import com.study.study.groupmember.dto.GroupMemberResponse;
 import com.study.study.groupmember.repository.GroupMemberRepository;
+import com.study.study.popularity.service.GroupPopularityService;
 import com.study.study.studygroup.domain.StudyGroup;
 import com.study.study.studygroup.repository.StudyGroupRepository;
 import org.springframework.http.*;
@@ -10,19 +11,24 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
+
 @Service
 public class GroupMemberService {
 
     private final GroupMemberRepository repository;
     private final StudyGroupRepository studyGroupRepository; // 🔥 leader_id 조회용
     private final RestTemplate rt; // user-service 호출용 (필요하면 사용)
+    private final GroupPopularityService popularityService; // 🔥 인기도 롤업 증감
 
     public GroupMemberService(GroupMemberRepository repository,
                               StudyGroupRepository studyGroupRepository,
-                              RestTemplate rt) {
+                              RestTemplate rt,
+                              GroupPopularityService popularityService) {
         this.repository = repository;
         this.studyGroupRepository = studyGroupRepository;
         this.rt = rt;
+        this.popularityService = popularityService;
     }
 
     // ================================
@@ -60,7 +66,10 @@ public class GroupMemberService {
         GroupMember member = repository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("멤버를 찾을 수 없습니다."));
 
+        GroupMember.Status before = member.getStatus();
         member.setStatus(GroupMember.Status.valueOf(newStatus));
+        popularityService.memberStatusChanged(member.getGroupId(), before, member.getStatus());
+        touchGroup(member.getGroupId());
 
         return GroupMemberResponse.fromEntity(member);
     }
@@ -90,5 +99,16 @@ public class GroupMemberService {
         }
 
         repository.delete(member);
+        popularityService.memberDeleted(groupId, member.getStatus());
+        touchGroup(groupId);
+    }
+
+    // ================================
+    // 🔥 멤버 수 변화 → Study_groups.updated_at 갱신
+    //    (추천 서비스가 updated_at 을 보고 인기 추천 캐시를 무효화)
+    // ================================
+    private void touchGroup(Long groupId) {
+        studyGroupRepository.findById(groupId)
+                .ifPresent(group -> group.setUpdatedAt(LocalDateTime.now()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.study.study.outbox.domain;
+
+import jakarta.persistence.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * notification-service 로 보낼 알림 (transactional outbox)
+ *
+ * 가입 신청/승인/일정 생성 등 서비스 메서드 안에서 같은 트랜잭션으로 한 행을 쓰고,
+ * NotificationOutboxRelay 가 커밋된 행을 모아서 전송한다.
+ * → 요청 처리 중에는 HTTP 호출이 없고, 롤백되면 알림도 같이 사라지고, 전송 실패는 재시도.
+ *
+ * - idempotency_key   : 재전송해도 notification-service 가 한 번만 저장하도록 (Idempotency-Key 헤더)
+ * - next_attempt_at   : 다음 전송 시각 (전송 중에는 lease 만료 시각으로 사용)
+ * - attempts          : 실패 횟수, 상한을 넘으면 FAILED 로 남김
+ */
+@Slf4j
+@Entity
+@Table(
+        name = "Notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_due", columnList = "status, next_attempt_at")
+)
+public class NotificationOutbox {
+
+    public enum Status {
+        PENDING, SENT, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 36)
+    private String idempotencyKey;
+
+    // 수신자 userId 목록 (쉼표 구분)
+    @Column(name = "user_ids", nullable = false, columnDefinition = "TEXT")
+    private String userIds;
+
+    @Column(nullable = false, length = 255)
+    private String message;
+
+    @Column(nullable = false, length = 20)
+    private String type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    protected NotificationOutbox() {
+    }
+
+    public NotificationOutbox(List<Long> userIds, String message, String type, LocalDateTime now) {
+        this.idempotencyKey = UUID.randomUUID().toString();
+        this.userIds = userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        this.message = message;
+        this.type = type;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    // ========= 전송 결과 =========
+
+    public void markSent(LocalDateTime now) {
+        this.status = Status.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 실패: 상한 미만이면 nextAttemptAt 에 다시, 상한이면 FAILED 로 남김
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = (error != null && error.length() > 500) ? error.substring(0, 500) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+            log.error("알림 outbox 전송 포기 (FAILED) outboxId={} type={} attempts={} lastError={}",
+                    outboxId, type, attempts, lastError);
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    // ========= Getter =========
+
+    public Long getOutboxId() { return outboxId; }
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public String getMessage() { return message; }
+    public String getType() { return type; }
+    public Status getStatus() { return status; }
+    public int getAttempts() { return attempts; }
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getSentAt() { return sentAt; }
+    public String getLastError() { return lastError; }
+
+    public List<Long> getUserIds() {
+        return Arrays.stream(userIds.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.study.study.outbox.repository;
+
+import com.study.study.outbox.domain.NotificationOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 전송할 차례가 된 행 (오래 기다린 순)
+    @Query("""
+            SELECT o.outboxId FROM NotificationOutbox o
+            WHERE o.status = :status AND o.nextAttemptAt <= :now
+            ORDER BY o.nextAttemptAt, o.outboxId
+            """)
+    List<Long> findDueIds(@Param("status") NotificationOutbox.Status status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    // 전송 선점: next_attempt_at 을 lease 만료 시각으로 옮김 (1 이면 이 인스턴스가 선점)
+    // 전송 도중 죽으면 lease 가 끝난 뒤 다시 전송 대상 → idempotency_key 로 중복 저장 방지
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutbox o SET o.nextAttemptAt = :leaseUntil
+            WHERE o.outboxId = :outboxId AND o.status = :status AND o.nextAttemptAt <= :now
+            """)
+    int claim(@Param("outboxId") Long outboxId,
+              @Param("status") NotificationOutbox.Status status,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = :status AND o.sentAt < :cutoff")
+    int deleteSentBefore(@Param("status") NotificationOutbox.Status status,
+                         @Param("cutoff") LocalDateTime cutoff);
+}
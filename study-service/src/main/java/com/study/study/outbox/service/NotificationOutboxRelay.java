@@ -0,0 +1,104 @@
+package com.study.study.outbox.service;
+
+import com.study.study.outbox.domain.NotificationOutbox;
+import com.study.study.studygroup.dto.NotificationSendRequest;
+import com.study.study.userclient.NotificationClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Notification_outbox → notification-service 전송
+ *
+ * 1) 전송할 차례인 행을 batch-size 개 조회
+ * 2) 행마다 선점(lease) → 트랜잭션 밖에서 HTTP 전송 → 성공/실패 기록
+ *    - 실패하면 지수 백오프 후 재시도, max-attempts 를 넘으면 FAILED 로 남김
+ *    - 같은 행을 다시 보내도 Idempotency-Key 로 notification-service 가 한 번만 저장
+ * 3) 한 배치를 다 채웠으면 (밀려 있으면) 쉬지 않고 다음 배치
+ *
+ * 여러 인스턴스가 같이 돌아도 선점 UPDATE 가 행 단위로 한 곳만 성공한다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxService outboxService;
+    private final NotificationClient notificationClient;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public NotificationOutboxRelay(NotificationOutboxService outboxService,
+                                   NotificationClient notificationClient,
+                                   @Value("${study.outbox.relay-enabled:true}") boolean enabled,
+                                   @Value("${study.outbox.batch-size:100}") int batchSize,
+                                   @Value("${study.outbox.max-batches-per-run:10}") int maxBatchesPerRun) {
+        this.outboxService = outboxService;
+        this.notificationClient = notificationClient;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${study.outbox.poll-interval-ms:1000}",
+            initialDelayString = "${study.outbox.poll-interval-ms:1000}"
+    )
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (relayBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한 배치 전송, 조회된 행 수 반환
+     */
+    public int relayBatch() {
+        List<Long> due = outboxService.findDue(batchSize);
+
+        for (Long outboxId : due) {
+            NotificationOutbox outbox = outboxService.claim(outboxId);
+            if (outbox == null) {
+                continue;
+            }
+
+            try {
+                notificationClient.send(toRequest(outbox), outbox.getIdempotencyKey());
+                outboxService.markSent(outboxId);
+            } catch (Exception e) {
+                log.warn("notification-service 전송 실패 outboxId={} attempts={}",
+                        outboxId, outbox.getAttempts() + 1, e);
+                outboxService.markFailed(outboxId, e.getMessage());
+            }
+        }
+        return due.size();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${study.outbox.purge-interval-ms:3600000}",
+            initialDelayString = "${study.outbox.purge-interval-ms:3600000}"
+    )
+    public void purge() {
+        if (enabled) {
+            outboxService.purgeSent();
+        }
+    }
+
+    private NotificationSendRequest toRequest(NotificationOutbox outbox) {
+        NotificationSendRequest req = new NotificationSendRequest();
+        req.setUserIds(outbox.getUserIds());
+        req.setMessage(outbox.getMessage());
+        req.setType(outbox.getType());
+        return req;
+    }
+}
@@ -0,0 +1,107 @@
+package com.study.study.outbox.service;
+
+import com.study.study.outbox.domain.NotificationOutbox;
+import com.study.study.outbox.repository.NotificationOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Notification_outbox 쓰기 / 전송 상태 변경
+ *
+ * - enqueue   : 알림을 보내는 서비스 메서드 안에서 (같은 트랜잭션으로만) 호출
+ * - 나머지    : NotificationOutboxRelay 가 행마다 짧은 트랜잭션으로 호출 (HTTP 호출은 트랜잭션 밖)
+ */
+@Service
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository repository;
+
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration lease;
+    private final Duration retention;
+
+    public NotificationOutboxService(NotificationOutboxRepository repository,
+                                     @Value("${study.outbox.max-attempts:10}") int maxAttempts,
+                                     @Value("${study.outbox.backoff-base-ms:2000}") long backoffBaseMs,
+                                     @Value("${study.outbox.backoff-max-ms:600000}") long backoffMaxMs,
+                                     @Value("${study.outbox.lease-ms:30000}") long leaseMs,
+                                     @Value("${study.outbox.retention-hours:72}") long retentionHours) {
+        this.repository = repository;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofMillis(backoffBaseMs);
+        this.backoffMax = Duration.ofMillis(backoffMaxMs);
+        this.lease = Duration.ofMillis(leaseMs);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    // ===========================
+    // 쓰기 (호출한 트랜잭션과 함께 커밋/롤백)
+    // ===========================
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(List<Long> userIds, String message, String type) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        repository.save(new NotificationOutbox(userIds, message, type, LocalDateTime.now()));
+    }
+
+    // ===========================
+    // 전송 (relay)
+    // ===========================
+    @Transactional(readOnly = true)
+    public List<Long> findDue(int batchSize) {
+        return repository.findDueIds(NotificationOutbox.Status.PENDING, LocalDateTime.now(),
+                PageRequest.of(0, batchSize));
+    }
+
+    /**
+     * 선점에 성공하면 전송할 행, 다른 인스턴스가 먼저 가져갔으면 null
+     */
+    @Transactional
+    public NotificationOutbox claim(Long outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = repository.claim(outboxId, NotificationOutbox.Status.PENDING, now, now.plus(lease));
+        if (claimed == 0) {
+            return null;
+        }
+        return repository.findById(outboxId).orElse(null);
+    }
+
+    @Transactional
+    public void markSent(Long outboxId) {
+        repository.findById(outboxId).ifPresent(o -> o.markSent(LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void markFailed(Long outboxId, String error) {
+        repository.findById(outboxId).ifPresent(o ->
+                o.markFailed(error, LocalDateTime.now().plus(backoff(o.getAttempts())), maxAttempts));
+    }
+
+    // 지수 백오프 (base × 2^attempts, 상한 backoffMax) + 최대 20% 지터 (재시도가 한꺼번에 몰리지 않게)
+    Duration backoff(int attempts) {
+        long base = backoffBase.toMillis();
+        long max = backoffMax.toMillis();
+        long delay = (attempts >= 30 || base << attempts > max) ? max : base << attempts;
+        long jitter = (long) (delay * 0.2 * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(delay + jitter);
+    }
+
+    // ===========================
+    // 정리
+    // ===========================
+    @Transactional
+    public int purgeSent() {
+        return repository.deleteSentBefore(NotificationOutbox.Status.SENT, LocalDateTime.now().minus(retention));
+    }
+}
@@ -0,0 +1,60 @@
+package com.study.study.pagination;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 다음 size 개 + 다음 페이지 커서
+ *
+ * 목록 쿼리는 size + 1 개를 읽어서 (COUNT 쿼리 없이) 다음 페이지가 있는지만 확인한다.
+ */
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> items;
+
+    // 더 없으면 null
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+
+    /**
+     * 요청 size 보정 (기본 20, 1 ~ 100)
+     */
+    public static int size(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    // 다음 페이지 확인용으로 한 개 더 읽음
+    public static Pageable fetchLimit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * @param fetched  fetchLimit(size) 로 읽은 행 (커서 순서대로)
+     * @param cursorOf 행 → 그 행의 (createdAt, id)
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, KeysetCursor> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+
+        List<T> items = List.copyOf(fetched.subList(0, size));
+        String nextCursor = cursorOf.apply(items.get(size - 1)).encode();
+        return new CursorPage<>(items, nextCursor);
+    }
+}
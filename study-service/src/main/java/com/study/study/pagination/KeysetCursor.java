@@ -0,0 +1,62 @@
+package com.study.study.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 최신순 목록의 "더 보기" 커서 = 마지막으로 받은 항목의 (createdAt, id)
+ *
+ * 목록 쿼리는 (created_at, id) 인덱스를 커서 위치부터 내림차순으로 LIMIT 만큼만 읽는다.
+ * → OFFSET 처럼 앞 페이지 행을 다시 세지 않으므로 몇 번째 페이지든 비용이 같다.
+ * 클라이언트에는 불투명한 base64url 문자열로만 노출.
+ */
+public class KeysetCursor {
+
+    // 첫 페이지: 모든 행보다 뒤에 있는 위치 (DATETIME 최댓값)
+    public static final KeysetCursor FIRST =
+            new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final long id;
+
+    public KeysetCursor(LocalDateTime createdAt, long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public long getId() { return id; }
+
+    public String encode() {
+        String raw = createdAt + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 비어 있으면 첫 페이지
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('_');
+            if (sep < 0) {
+                throw new IllegalArgumentException("잘못된 cursor 입니다.");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, sep));
+            long id = Long.parseLong(raw.substring(sep + 1));
+            return new KeysetCursor(createdAt, id);
+
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 / 날짜 / 숫자 파싱 오류 포함
+            throw new IllegalArgumentException("잘못된 cursor 입니다.", e);
+        }
+    }
+}
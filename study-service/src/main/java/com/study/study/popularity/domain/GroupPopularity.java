@@ -0,0 +1,87 @@
+package com.study.study.popularity.domain;
+
+import jakarta.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 인기도 롤업 (추천 서비스의 인기 추천이 Group_members 집계 대신 이 테이블을 읽음)
+ *
+ * - member_count        : 승인(APPROVED) 멤버 수
+ * - join_velocity       : 최근 가입 속도 = 승인 1건마다 +1, 반감기마다 절반으로 줄어드는 값
+ *                         (velocity_updated_at 기준 값, 읽는 쪽이 현재 시각까지 마저 감쇠)
+ * - last_activity_at    : 마지막 멤버 변동 시각
+ *
+ * 멤버 승인/거절/삭제 시점에 GroupPopularityService 가 행 잠금으로 증감한다.
+ * 기존 데이터는 db/V2__group_popularity.sql 로 한 번 채운다.
+ */
+@Entity
+@Table(name = "Group_popularity")
+public class GroupPopularity {
+
+    @Id
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Column(name = "member_count", nullable = false)
+    private int memberCount;
+
+    @Column(name = "join_velocity", nullable = false)
+    private double joinVelocity;
+
+    @Column(name = "velocity_updated_at")
+    private LocalDateTime velocityUpdatedAt;
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    protected GroupPopularity() {
+    }
+
+    public GroupPopularity(Long groupId, int memberCount, LocalDateTime now) {
+        this.groupId = groupId;
+        this.memberCount = memberCount;
+        this.joinVelocity = 0.0;
+        this.velocityUpdatedAt = now;
+        this.lastActivityAt = now;
+    }
+
+    // ========= 증감 =========
+
+    /**
+     * 멤버 승인: 멤버 수 +1, 가입 속도는 지금까지 감쇠시킨 뒤 +1
+     */
+    public void memberJoined(LocalDateTime now, Duration halfLife) {
+        this.memberCount++;
+        this.joinVelocity = decayedVelocity(now, halfLife) + 1.0;
+        this.velocityUpdatedAt = now;
+        this.lastActivityAt = now;
+    }
+
+    /**
+     * 승인 멤버 이탈 (거절로 변경 / 삭제): 멤버 수만 -1
+     */
+    public void memberLeft(LocalDateTime now) {
+        this.memberCount = Math.max(0, this.memberCount - 1);
+        this.lastActivityAt = now;
+    }
+
+    public double decayedVelocity(LocalDateTime now, Duration halfLife) {
+        if (velocityUpdatedAt == null || joinVelocity == 0.0) {
+            return joinVelocity;
+        }
+        double elapsed = Math.max(0, Duration.between(velocityUpdatedAt, now).getSeconds());
+        return joinVelocity * Math.pow(0.5, elapsed / halfLife.getSeconds());
+    }
+
+    // ========= Getter =========
+    public Long getGroupId() { return groupId; }
+
+    public int getMemberCount() { return memberCount; }
+
+    public double getJoinVelocity() { return joinVelocity; }
+
+    public LocalDateTime getVelocityUpdatedAt() { return velocityUpdatedAt; }
+
+    public LocalDateTime getLastActivityAt() { return lastActivityAt; }
+}
@@ -0,0 +1,18 @@
+package com.study.study.popularity.repository;
+
+import com.study.study.popularity.domain.GroupPopularity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface GroupPopularityRepository extends JpaRepository<GroupPopularity, Long> {
+
+    // 같은 그룹 동시 승인/삭제가 서로의 증감을 덮어쓰지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM GroupPopularity p WHERE p.groupId = :groupId")
+    Optional<GroupPopularity> findByIdForUpdate(@Param("groupId") Long groupId);
+}
@@ -0,0 +1,89 @@
+package com.study.study.popularity.service;
+
+import com.study.study.groupmember.domain.GroupMember;
+import com.study.study.groupmember.repository.GroupMemberRepository;
+import com.study.study.popularity.domain.GroupPopularity;
+import com.study.study.popularity.repository.GroupPopularityRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Group_popularity 롤업 증감
+ *
+ * 멤버 상태를 바꾸는 서비스 메서드 안에서 (같은 트랜잭션으로) 호출한다.
+ * 롤업 행이 없는 그룹(백필 전 데이터)은 Group_members 에서 다시 세서 만든다.
+ */
+@Service
+public class GroupPopularityService {
+
+    private final GroupPopularityRepository repository;
+    private final GroupMemberRepository memberRepository;
+
+    // 가입 속도 반감기 (recommend.popular.velocity-half-life-hours 와 같게)
+    private final Duration halfLife;
+
+    public GroupPopularityService(GroupPopularityRepository repository,
+                                  GroupMemberRepository memberRepository,
+                                  @Value("${study.popularity.velocity-half-life-hours:72}") long halfLifeHours) {
+        this.repository = repository;
+        this.memberRepository = memberRepository;
+        this.halfLife = Duration.ofHours(halfLifeHours);
+    }
+
+    // ===========================
+    // 그룹 생성 / 삭제
+    // ===========================
+    @Transactional
+    public void groupCreated(Long groupId) {
+        // 리더는 생성과 동시에 승인 멤버 (가입 속도에는 넣지 않음)
+        repository.save(new GroupPopularity(groupId, 1, LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void groupDeleted(Long groupId) {
+        repository.findById(groupId).ifPresent(repository::delete);
+    }
+
+    // ===========================
+    // 멤버 상태 변경
+    // ===========================
+    @Transactional
+    public void memberStatusChanged(Long groupId, GroupMember.Status before, GroupMember.Status after) {
+        boolean wasApproved = (before == GroupMember.Status.APPROVED);
+        boolean isApproved = (after == GroupMember.Status.APPROVED);
+
+        if (!wasApproved && isApproved) {
+            apply(groupId, p -> p.memberJoined(LocalDateTime.now(), halfLife));
+        } else if (wasApproved && !isApproved) {
+            apply(groupId, p -> p.memberLeft(LocalDateTime.now()));
+        }
+    }
+
+    @Transactional
+    public void memberDeleted(Long groupId, GroupMember.Status before) {
+        if (before == GroupMember.Status.APPROVED) {
+            apply(groupId, p -> p.memberLeft(LocalDateTime.now()));
+        }
+    }
+
+    // ===========================
+    // 내부 구현
+    // ===========================
+    private void apply(Long groupId, Consumer<GroupPopularity> change) {
+        Optional<GroupPopularity> row = repository.findByIdForUpdate(groupId);
+        if (row.isPresent()) {
+            change.accept(row.get());
+            return;
+        }
+
+        // 롤업 행이 없으면 원본에서 다시 셈 (조회 전에 flush 되므로 이번 변경도 이미 반영됨)
+        long approved = memberRepository.countByGroupIdAndStatus(groupId, GroupMember.Status.APPROVED);
+        repository.save(new GroupPopularity(groupId, (int) approved, LocalDateTime.now()));
+    }
+}
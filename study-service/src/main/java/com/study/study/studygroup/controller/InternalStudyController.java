@@ -1,6 +1,7 @@
 package com.study.study.studygroup.controller;
 
 import com.study.study.studygroup.service.StudyGroupService;
+import com.study.study.userclient.UserSummaryCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 public class InternalStudyController {
 
     private final StudyGroupService studyGroupService;
+    private final UserSummaryCache userSummaryCache;
 
     /**
      * user-service가 호출하는 내부 전용 API
@@ -20,4 +22,14 @@ public class InternalStudyController {
     public ResponseEntity<?> getUserGroups(@PathVariable Long userId) {
         return ResponseEntity.ok(studyGroupService.findJoinedGroups(userId));
     }
+
+    /**
+     * user-service 가 username / name 을 바꾼 뒤 호출 (유저 요약 캐시 무효화)
+     * DELETE /internal/study/users/{userId}/summary
+     */
+    @DeleteMapping("/users/{userId}/summary")
+    public ResponseEntity<Void> evictUserSummary(@PathVariable Long userId) {
+        userSummaryCache.invalidate(userId);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
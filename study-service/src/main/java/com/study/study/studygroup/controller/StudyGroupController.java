@@ -6,6 +6,7 @@ import com.study.study.groupmember.dto.GroupMemberResponse;
 import com.study.study.studyschedule.dto.StudyScheduleRequest;
 import com.study.study.studyschedule.dto.StudyScheduleResponse;
 import com.study.study.studygroup.service.StudyGroupService;
+import com.study.study.pagination.CursorPage;
 
 import com.study.common.security.JwtUserInfo; // 🟡 JwtUserInfo 추가
 
@@ -34,16 +35,23 @@ public class StudyGroupController { // 클래스 시작
     }
 
     // ============================
-    // GET /api/study-groups
-    // 스터디 그룹 전체 조회
+    // GET /api/study-groups?status=..&category=..&size=..&cursor=..
+    // 스터디 그룹 목록 (최신순, 커서 페이지)
+    // "더 보기" 는 이전 응답의 nextCursor 를 cursor 로 넘김
     // ============================
     @GetMapping("/study-groups")
-    public ResponseEntity<List<StudyGroupResponse>> getAll() {
-        List<StudyGroup> groups = service.findAll();
-        List<StudyGroupResponse> response = groups.stream()
-                .map(StudyGroupResponse::fromEntity)
-                .toList();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> getAll(
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        try {
+            CursorPage<StudyGroupSummary> page = service.findPage(status, category, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // ============================
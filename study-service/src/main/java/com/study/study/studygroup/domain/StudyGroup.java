@@ -5,7 +5,18 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Study_groups")
+@Table(
+        name = "Study_groups",
+        indexes = {
+                // 추천 쿼리의 status + 위도/경도 바운딩 박스 range scan 용
+                @Index(name = "idx_study_groups_status_lat_lng", columnList = "status, latitude, longitude"),
+                // 목록 keyset 페이지네이션 (최신순, 상태 필터 유무)
+                @Index(name = "idx_study_groups_created_group", columnList = "created_at, group_id"),
+                @Index(name = "idx_study_groups_status_created_group", columnList = "status, created_at, group_id"),
+                // recommend-service 변경 피드 (updated_at 워터마크 폴링)
+                @Index(name = "idx_study_groups_updated_group", columnList = "updated_at, group_id")
+        }
+)
 public class StudyGroup {
 
     @Id
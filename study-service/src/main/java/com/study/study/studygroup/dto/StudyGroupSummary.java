@@ -0,0 +1,32 @@
+package com.study.study.studygroup.dto;
+
+import com.study.study.studygroup.domain.GroupStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스터디 그룹 목록용 projection (GET /api/study-groups)
+ *
+ * description(TEXT), 위치 등 상세 화면에서만 쓰는 컬럼은 읽지 않는다.
+ * 엔티티로 만들지 않으므로 영속성 컨텍스트에도 올라가지 않음.
+ */
+public interface StudyGroupSummary {
+
+    Long getGroupId();
+
+    Long getLeaderId();
+
+    String getTitle();
+
+    /**
+     * category: JSON 문자열
+     * 예) ["Java","Spring"]
+     */
+    String getCategory();
+
+    Integer getMaxMembers();
+
+    GroupStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+}
@@ -2,13 +2,18 @@ package com.study.study.studygroup.repository;
 
 import com.study.study.studygroup.domain.StudyGroup;
 import com.study.study.studygroup.domain.GroupStatus;
+import com.study.study.studygroup.dto.StudyGroupSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface StudyGroupRepository extends JpaRepository<StudyGroup, Long> {
 
+    // 위도/경도 바운딩 박스로 먼저 거른 뒤(인덱스 range scan) 정확한 거리는 HAVING 에서 확인
+
     @Query(value = """
         SELECT
             sg.group_id,
@@ -16,15 +21,20 @@ public interface StudyGroupRepository extends JpaRepository<StudyGroup, Long> {
             sg.category,
             sg.latitude,
             sg.longitude,
-            (6371 * acos(
+            (6371 * acos(least(1.0, greatest(-1.0,
                 cos(radians(:userLat)) *
                 cos(radians(sg.latitude)) *
                 cos(radians(sg.longitude) - radians(:userLon)) +
                 sin(radians(:userLat)) *
                 sin(radians(sg.latitude))
-            )) AS distance
+            )))) AS distance
         FROM Study_groups sg
-        WHERE JSON_OVERLAPS(sg.category, :interestTags)
+        WHERE
+            sg.latitude BETWEEN :userLat - (:distanceKm / 111.32)
+                            AND :userLat + (:distanceKm / 111.32)
+            AND sg.longitude BETWEEN :userLon - (:distanceKm / (111.32 * cos(radians(least(abs(:userLat) + :distanceKm / 111.32, 89.9)))))
+                                 AND :userLon + (:distanceKm / (111.32 * cos(radians(least(abs(:userLat) + :distanceKm / 111.32, 89.9)))))
+            AND JSON_OVERLAPS(sg.category, :interestTags)
         HAVING distance <= :distanceKm
         ORDER BY distance ASC
         """, nativeQuery = true)
@@ -36,4 +46,53 @@ public interface StudyGroupRepository extends JpaRepository<StudyGroup, Long> {
     );
 
     long countByStatus(GroupStatus status);
+
+    // =====================================================================
+    // 목록 (keyset, 최신순)
+    //
+    // (created_at, group_id) < 커서 위치부터 내림차순으로 Pageable 크기만큼만 읽는다.
+    // - 상태 필터 없음 : idx_study_groups_created_group
+    // - 상태 필터      : idx_study_groups_status_created_group
+    // - 카테고리 필터  : 위 인덱스 순서로 읽으면서 JSON_CONTAINS 로 거름 (MariaDB / MySQL)
+    // =====================================================================
+
+    String SUMMARY_SELECT = """
+            SELECT g.groupId AS groupId, g.leaderId AS leaderId, g.title AS title,
+                   g.category AS category, g.maxMembers AS maxMembers,
+                   g.status AS status, g.createdAt AS createdAt
+            FROM StudyGroup g
+            """;
+
+    String AFTER_CURSOR = """
+            (g.createdAt < :cursorCreatedAt
+             OR (g.createdAt = :cursorCreatedAt AND g.groupId < :cursorId))
+            """;
+
+    String CATEGORY_MATCH = "function('JSON_CONTAINS', g.category, function('JSON_QUOTE', :category)) = 1";
+
+    String LATEST_FIRST = " ORDER BY g.createdAt DESC, g.groupId DESC";
+
+    @Query(SUMMARY_SELECT + "WHERE " + AFTER_CURSOR + LATEST_FIRST)
+    List<StudyGroupSummary> findSummaries(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE g.status = :status AND " + AFTER_CURSOR + LATEST_FIRST)
+    List<StudyGroupSummary> findSummariesByStatus(@Param("status") GroupStatus status,
+                                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE " + CATEGORY_MATCH + " AND " + AFTER_CURSOR + LATEST_FIRST)
+    List<StudyGroupSummary> findSummariesByCategory(@Param("category") String category,
+                                                    @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE g.status = :status AND " + CATEGORY_MATCH + " AND " + AFTER_CURSOR + LATEST_FIRST)
+    List<StudyGroupSummary> findSummariesByStatusAndCategory(@Param("status") GroupStatus status,
+                                                             @Param("category") String category,
+                                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Pageable pageable);
 }
\ No newline at end of file
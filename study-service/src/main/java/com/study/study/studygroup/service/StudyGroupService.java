@@ -3,6 +3,7 @@ package com.study.study.studygroup.service;
 import com.study.study.groupmember.domain.GroupMember;
 import com.study.study.groupmember.dto.GroupMemberResponse;
 import com.study.study.groupmember.repository.GroupMemberRepository;
+import com.study.study.popularity.service.GroupPopularityService;
 import com.study.study.studyschedule.domain.StudySchedule;
 import com.study.study.studyschedule.domain.StudyScheduleStatus;
 import com.study.study.studyschedule.dto.StudyScheduleRequest;
@@ -10,23 +11,32 @@ import com.study.study.studyschedule.dto.StudyScheduleResponse;
 import com.study.study.studyschedule.repository.StudyScheduleRepository;
 import com.study.study.studygroup.domain.GroupStatus;
 import com.study.study.studygroup.domain.StudyGroup;
-import com.study.study.studygroup.dto.NotificationSendRequest;  // ⭐ 유지
 import com.study.study.studygroup.dto.StudyGroupRequest;
+import com.study.study.studygroup.dto.StudyGroupSummary;
 import com.study.study.studygroup.repository.StudyGroupRepository;
 
-// ✅ user-service 호출용 Client
-import com.study.study.userclient.UserClient;
+// ✅ user-service 유저 요약 (로컬 캐시 → UserClient)
+import com.study.study.userclient.UserSummaryCache;
 import com.study.study.userclient.dto.UserSummary;
 
-// ⭐ [추가] notification-service 호출용 Client
-import com.study.study.userclient.NotificationClient;
+// ⭐ notification-service 알림은 outbox 로
+import com.study.study.outbox.service.NotificationOutboxService;
 
+import com.study.study.pagination.CursorPage;
+import com.study.study.pagination.KeysetCursor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 public class StudyGroupService {
@@ -35,68 +45,104 @@ public class StudyGroupService {
     private final GroupMemberRepository memberRepository;
     private final StudyScheduleRepository scheduleRepository;
 
-    private final UserClient userClient;
+    private final UserSummaryCache userSummaryCache;
+
+    // ⭐ 알림은 같은 트랜잭션으로 outbox 에 기록 (전송은 NotificationOutboxRelay)
+    private final NotificationOutboxService notificationOutboxService;
 
-    // ⭐ [변경] 기존 RestTemplate 제거 → NotificationClient 사용
-    private final NotificationClient notificationClient;
+    // 인기도 롤업 (추천 서비스 인기 추천용)
+    private final GroupPopularityService popularityService;
 
     public StudyGroupService(
             StudyGroupRepository groupRepository,
             GroupMemberRepository memberRepository,
             StudyScheduleRepository scheduleRepository,
-            UserClient userClient,
-            NotificationClient notificationClient // ⭐ 추가
+            UserSummaryCache userSummaryCache,
+            NotificationOutboxService notificationOutboxService,
+            GroupPopularityService popularityService
     ) {
         this.groupRepository = groupRepository;
         this.memberRepository = memberRepository;
         this.scheduleRepository = scheduleRepository;
-        this.userClient = userClient;
-        this.notificationClient = notificationClient; // ⭐ 추가
+        this.userSummaryCache = userSummaryCache;
+        this.notificationOutboxService = notificationOutboxService;
+        this.popularityService = popularityService;
     }
 
     // ===========================
-    // 🔔 알림 전송 메서드 (리팩토링)
+    // 🔔 알림 전송 (outbox 에 기록 → 커밋 후 NotificationOutboxRelay 가 전송)
+    // 요청 처리 중에는 notification-service 를 호출하지 않고, 전송 실패는 relay 가 재시도
     // ===========================
     private void sendNotification(List<Long> userIds, String message, String type) {
-        try {
-            NotificationSendRequest req = new NotificationSendRequest();
-            req.setUserIds(userIds);
-            req.setMessage(message);
-            req.setType(type);
-
-            // ⭐ [변경] RestTemplate → NotificationClient 로 교체
-            notificationClient.send(req);
-
-        } catch (Exception e) {
-            System.out.println("⚠ notification-service 호출 실패: " + e.getMessage());
-        }
+        notificationOutboxService.enqueue(userIds, message, type);
     }
 
     // ===========================
     // 🔹 GroupMember → Response + 유저 정보 채우기
     // ===========================
     private GroupMemberResponse toMemberResponseWithUser(GroupMember member) {
-        GroupMemberResponse dto = GroupMemberResponse.fromEntity(member);
+        return toMemberResponsesWithUsers(List.of(member)).get(0);
+    }
+
+    // 멤버 목록은 캐시에 없는 유저만 모아서 user-service 한 번만 호출 (멤버마다 호출하지 않음)
+    private List<GroupMemberResponse> toMemberResponsesWithUsers(List<GroupMember> members) {
+        Map<Long, UserSummary> users = Map.of();
 
         try {
-            UserSummary user = userClient.getUserById(member.getUserId());
+            Map<Long, UserSummary> fetched = userSummaryCache.getAll(
+                    members.stream().map(GroupMember::getUserId).toList());
+            if (fetched != null) {
+                users = fetched;
+            }
+        } catch (Exception e) {
+            log.warn("user-service 호출 실패 members={} : {}", members.size(), e.getMessage());
+        }
+
+        List<GroupMemberResponse> result = new ArrayList<>(members.size());
+        for (GroupMember member : members) {
+            GroupMemberResponse dto = GroupMemberResponse.fromEntity(member);
+
+            UserSummary user = users.get(member.getUserId());
             if (user != null) {
                 dto.setUsername(user.getUsername());
                 dto.setName(user.getName());
             }
-        } catch (Exception e) {
-            System.out.println("⚠ user-service 호출 실패 userId=" +
-                    member.getUserId() + " : " + e.getMessage());
+            result.add(dto);
         }
-
-        return dto;
+        return result;
     }
 
     // ===========================
-    // 스터디 그룹 전체 조회
-    // ===========================
-    public List<StudyGroup> findAll() {
-        return groupRepository.findAll();
+    // 스터디 그룹 목록 (최신순, 커서 페이지)
+    // - status / category 는 선택 필터
+    // - 목록용 projection 만 읽음 (description 등은 단건 조회에서)
+    // ===========================
+    public CursorPage<StudyGroupSummary> findPage(String status, String category, String cursor, Integer size) {
+
+        // 1. 파라미터 검증 (잘못된 값은 IllegalArgumentException)
+        GroupStatus statusEnum = (status == null || status.isBlank())
+                ? null
+                : GroupStatus.valueOf(status.trim().toUpperCase());
+        String categoryFilter = (category == null || category.isBlank()) ? null : category.trim();
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.size(size);
+
+        // 2. 필터 조합별 인덱스를 타는 쿼리 선택
+        Pageable limit = CursorPage.fetchLimit(pageSize);
+        List<StudyGroupSummary> rows;
+        if (statusEnum == null && categoryFilter == null) {
+            rows = groupRepository.findSummaries(after.getCreatedAt(), after.getId(), limit);
+        } else if (categoryFilter == null) {
+            rows = groupRepository.findSummariesByStatus(statusEnum, after.getCreatedAt(), after.getId(), limit);
+        } else if (statusEnum == null) {
+            rows = groupRepository.findSummariesByCategory(categoryFilter, after.getCreatedAt(), after.getId(), limit);
+        } else {
+            rows = groupRepository.findSummariesByStatusAndCategory(
+                    statusEnum, categoryFilter, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        // 3. 마지막 항목 위치가 다음 커서
+        return CursorPage.of(rows, pageSize, g -> new KeysetCursor(g.getCreatedAt(), g.getGroupId()));
     }
 
     // ===========================
@@ -139,6 +185,7 @@ public class StudyGroupService {
         leaderMember.setRole(GroupMember.Role.LEADER);
         leaderMember.setStatus(GroupMember.Status.APPROVED);
         memberRepository.save(leaderMember);
+        popularityService.groupCreated(saved.getGroupId());
 
         return saved;
     }
@@ -187,6 +234,7 @@ public class StudyGroupService {
         }
 
         groupRepository.delete(group);
+        popularityService.groupDeleted(groupId);
     }
 
     // ===========================
@@ -228,15 +276,12 @@ public class StudyGroupService {
         List<GroupMember> allMembers = memberRepository.findByGroupId(groupId);
 
         if (group.getLeaderId().equals(requesterId)) {
-            return allMembers.stream()
-                    .map(this::toMemberResponseWithUser)
-                    .toList();
+            return toMemberResponsesWithUsers(allMembers);
         }
 
-        return allMembers.stream()
+        return toMemberResponsesWithUsers(allMembers.stream()
                 .filter(m -> m.getStatus() == GroupMember.Status.APPROVED)
-                .map(this::toMemberResponseWithUser)
-                .toList();
+                .toList());
     }
 
     // ===========================
@@ -305,7 +350,12 @@ public class StudyGroupService {
                 .findByGroupIdAndUserId(groupId, targetUserId)
                 .orElseThrow(() -> new IllegalArgumentException("멤버가 존재하지 않습니다."));
 
+        GroupMember.Status before = member.getStatus();
         member.setStatus(GroupMember.Status.APPROVED);
+        popularityService.memberStatusChanged(groupId, before, GroupMember.Status.APPROVED);
+
+        // 멤버 수 변화 → updated_at 갱신 (추천 서비스가 이걸 보고 인기 추천 캐시를 무효화)
+        group.setUpdatedAt(LocalDateTime.now());
 
         sendNotification(
                 List.of(targetUserId),
@@ -330,7 +380,12 @@ public class StudyGroupService {
                 .findByGroupIdAndUserId(groupId, targetUserId)
                 .orElseThrow(() -> new IllegalArgumentException("멤버가 존재하지 않습니다."));
 
+        GroupMember.Status before = member.getStatus();
         member.setStatus(GroupMember.Status.REJECTED);
+        popularityService.memberStatusChanged(groupId, before, GroupMember.Status.REJECTED);
+
+        // 승인 멤버를 거절로 바꾸는 경우도 있으므로 동일하게 갱신
+        group.setUpdatedAt(LocalDateTime.now());
 
         sendNotification(
                 List.of(targetUserId),
@@ -3,6 +3,7 @@ package com.study.study.studypost.controller;
 import com.study.common.security.JwtUserInfo;
 import com.study.study.studypost.dto.*;
 import com.study.study.studypost.service.StudyPostService;
+import com.study.study.pagination.CursorPage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -47,13 +48,22 @@ public class StudyPostController {
 
     // ==================== 게시글 API ====================
 
-    // GET /api/study-posts
+    // GET /api/study-posts?type=..&groupId=..&size=..&cursor=..
+    // 최신순 커서 페이지 (본문 제외), "더 보기" 는 이전 응답의 nextCursor 를 cursor 로 넘김
     @GetMapping
     public ResponseEntity<?> getAllPosts(
-            @AuthenticationPrincipal JwtUserInfo user
+            @AuthenticationPrincipal JwtUserInfo user,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "groupId", required = false) Long groupId,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        List<StudyPostResponse> list = studyPostService.getAllPosts();
-        return ResponseEntity.ok(list);
+        try {
+            CursorPage<StudyPostSummary> page = studyPostService.getPostPage(type, groupId, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // GET /api/study-posts/{postId}
@@ -8,7 +8,15 @@ import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Study_posts")
+@Table(
+        name = "Study_posts",
+        indexes = {
+                // 게시글 피드 keyset 페이지네이션 (최신순, 필터 없음 / 타입 / 그룹)
+                @Index(name = "idx_study_posts_created_post", columnList = "created_at, post_id"),
+                @Index(name = "idx_study_posts_type_created_post", columnList = "type, created_at, post_id"),
+                @Index(name = "idx_study_posts_group_created_post", columnList = "group_id, created_at, post_id")
+        }
+)
 @Getter
 @Setter
 @DynamicUpdate
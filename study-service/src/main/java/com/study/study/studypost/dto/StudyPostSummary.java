@@ -0,0 +1,41 @@
+package com.study.study.studypost.dto;
+
+import com.study.study.studypost.domain.BoardType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 projection (GET /api/study-posts, GET /api/admin/posts)
+ *
+ * 본문(content, @Lob)은 읽지 않는다. → 본문은 단건 조회(getPost)에서만.
+ */
+public interface StudyPostSummary {
+
+    Long getPostId();
+
+    String getTitle();
+
+    BoardType getType();
+
+    Long getLeaderId();
+
+    Long getGroupId();
+
+    String getLocation();
+
+    Integer getMaxMembers();
+
+    Integer getCurrentMembers();
+
+    LocalDateTime getStudyDate();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    Boolean getReported();
+
+    String getReportReason();
+
+    LocalDateTime getCreatedAt();
+}
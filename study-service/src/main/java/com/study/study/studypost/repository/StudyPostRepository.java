@@ -1,7 +1,64 @@
 package com.study.study.studypost.repository;
 
+import com.study.study.studypost.domain.BoardType;
 import com.study.study.studypost.domain.StudyPost;
+import com.study.study.studypost.dto.StudyPostSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface StudyPostRepository extends JpaRepository<StudyPost, Long> {
-}
\ No newline at end of file
+
+    // =====================================================================
+    // 게시글 피드 (keyset, 최신순)
+    //
+    // (created_at, post_id) < 커서 위치부터 내림차순으로 Pageable 크기만큼만 읽는다.
+    // - 필터 없음        : idx_study_posts_created_post
+    // - 게시판 타입      : idx_study_posts_type_created_post
+    // - 그룹 (+ 타입)    : idx_study_posts_group_created_post (타입은 그룹 안에서 거름)
+    // =====================================================================
+
+    String SUMMARY_SELECT = """
+            SELECT p.postId AS postId, p.title AS title, p.type AS type,
+                   p.leaderId AS leaderId, p.groupId AS groupId, p.location AS location,
+                   p.maxMembers AS maxMembers, p.currentMembers AS currentMembers,
+                   p.studyDate AS studyDate, p.latitude AS latitude, p.longitude AS longitude,
+                   p.reported AS reported, p.reportReason AS reportReason, p.createdAt AS createdAt
+            FROM StudyPost p
+            """;
+
+    String AFTER_CURSOR = """
+            (p.createdAt < :cursorCreatedAt
+             OR (p.createdAt = :cursorCreatedAt AND p.postId < :cursorId))
+            """;
+
+    String LATEST_FIRST = " ORDER BY p.createdAt DESC, p.postId DESC";
+
+    @Query(SUMMARY_SELECT + "WHERE " + AFTER_CURSOR + LATEST_FIRST)
+    List<StudyPostSummary> findSummaries(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.type = :type AND " + AFTER_CURSOR + LATEST_FIRST)
+    List<StudyPostSummary> findSummariesByType(@Param("type") BoardType type,
+                                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.groupId = :groupId AND " + AFTER_CURSOR + LATEST_FIRST)
+    List<StudyPostSummary> findSummariesByGroup(@Param("groupId") Long groupId,
+                                                @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.groupId = :groupId AND p.type = :type AND " + AFTER_CURSOR + LATEST_FIRST)
+    List<StudyPostSummary> findSummariesByGroupAndType(@Param("groupId") Long groupId,
+                                                       @Param("type") BoardType type,
+                                                       @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
+}
@@ -8,6 +8,9 @@ import com.study.study.studypost.dto.*;
 import com.study.study.studypost.repository.StudyCommentRepository;
 import com.study.study.studypost.repository.StudyPostRepository;
 import com.study.study.studypost.repository.StudyReviewRepository;
+import com.study.study.pagination.CursorPage;
+import com.study.study.pagination.KeysetCursor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,15 +42,38 @@ public class StudyPostService {
 
     // ===================== 게시글 =====================
 
-    // 전체 조회
+    // 목록 조회 (최신순, 커서 페이지)
+    // - type / groupId 는 선택 필터
+    // - 목록용 projection 만 읽음 (본문은 단건 조회에서)
     @Transactional(readOnly = true)
-    public List<StudyPostResponse> getAllPosts() {
-        return postRepository.findAll().stream()
-                .map(StudyPostResponse::fromEntity)
-                .collect(Collectors.toList());
+    public CursorPage<StudyPostSummary> getPostPage(String type, Long groupId, String cursor, Integer size) {
+
+        // 1. 파라미터 검증 (잘못된 값은 IllegalArgumentException)
+        BoardType boardType = (type == null || type.isBlank())
+                ? null
+                : BoardType.valueOf(type.trim().toUpperCase());
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.size(size);
+
+        // 2. 필터 조합별 인덱스를 타는 쿼리 선택
+        Pageable limit = CursorPage.fetchLimit(pageSize);
+        List<StudyPostSummary> rows;
+        if (groupId == null && boardType == null) {
+            rows = postRepository.findSummaries(after.getCreatedAt(), after.getId(), limit);
+        } else if (groupId == null) {
+            rows = postRepository.findSummariesByType(boardType, after.getCreatedAt(), after.getId(), limit);
+        } else if (boardType == null) {
+            rows = postRepository.findSummariesByGroup(groupId, after.getCreatedAt(), after.getId(), limit);
+        } else {
+            rows = postRepository.findSummariesByGroupAndType(
+                    groupId, boardType, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        // 3. 마지막 항목 위치가 다음 커서
+        return CursorPage.of(rows, pageSize, p -> new KeysetCursor(p.getCreatedAt(), p.getPostId()));
     }
 
-    // 단건 조회
+    // 단건 조회 (본문 포함)
     @Transactional(readOnly = true)
     public StudyPostResponse getPost(Long postId) {
         StudyPost post = postRepository.findById(postId)
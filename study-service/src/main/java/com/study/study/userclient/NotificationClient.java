@@ -2,6 +2,9 @@ package com.study.study.userclient;
 
 import com.study.study.studygroup.dto.NotificationSendRequest;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -17,8 +20,18 @@ public class NotificationClient {
         this.notificationBaseUrl = notificationBaseUrl;
     }
 
-    public void send(NotificationSendRequest request) {
+    /**
+     * 같은 idempotencyKey 로 다시 보내면 notification-service 가 새로 저장하지 않음 (outbox 재전송용)
+     */
+    public void send(NotificationSendRequest request, String idempotencyKey) {
         String url = notificationBaseUrl + "/api/notifications";
-        restTemplate.postForObject(url, request, Void.class);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (idempotencyKey != null) {
+            headers.set("Idempotency-Key", idempotencyKey);
+        }
+
+        restTemplate.postForObject(url, new HttpEntity<>(request, headers), Void.class);
     }
 }
@@ -1,13 +1,24 @@
 package com.study.study.userclient;
 
+import com.study.study.userclient.dto.UserBatchRequest;
 import com.study.study.userclient.dto.UserSummary;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
 @Service
 public class UserClient {
 
+    // user-service /internal/users/batch 한 번에 보낼 최대 id 수 (서버 상한과 같게)
+    private static final int BATCH_SIZE = 500;
+
     private final RestTemplate restTemplate;
     private final String userServiceBaseUrl;
 
@@ -21,4 +32,32 @@ public class UserClient {
         String url = userServiceBaseUrl + "/internal/users/" + userId;
         return restTemplate.getForObject(url, UserSummary.class);
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 유저 요약을 한 번에 조회 (BATCH_SIZE 단위로 나눠서 호출)
+     * POST {user-service.base-url}/internal/users/batch
+     *
+     * userId → UserSummary, 없는 유저는 빠짐
+     */
+    public Map<Long, UserSummary> getUsersByIds(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        ids.remove(null);
+
+        Map<Long, UserSummary> result = new HashMap<>(ids.size() * 2);
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        String url = userServiceBaseUrl + "/internal/users/batch";
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            UserSummary[] users = restTemplate.postForObject(url, new UserBatchRequest(chunk), UserSummary[].class);
+            if (users == null) continue;
+
+            for (UserSummary user : users) {
+                result.put(user.getUserId(), user);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+package com.study.study.userclient;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.study.userclient.dto.UserSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+/**
+ * user-service 유저 요약(username / name) 로컬 캐시
+ *
+ * - 크기 상한 + expireAfterWrite (다른 인스턴스에서 바뀐 이름은 최대 TTL 만큼 늦게 반영)
+ * - 없는 유저만 모아서 UserClient.getUsersByIds 한 번으로 조회
+ * - 같은 userId 를 동시에 조회하면 먼저 시작한 조회 결과를 같이 기다림 (AsyncCache, 호출 스레드에서 실행)
+ * - 조회 실패 / user-service 에 없는 유저는 캐시하지 않음
+ * - user-service 가 이름을 바꾸면 내부 API 로 invalidate 호출
+ *
+ * 크기 / 적중률은 cache.size, cache.gets{cache="study.user-summary"} 로 노출 (MeterBinder).
+ */
+@Component
+public class UserSummaryCache implements MeterBinder {
+
+    private final UserClient userClient;
+    private final boolean enabled;
+    private final AsyncCache<Long, UserSummary> cache;
+
+    public UserSummaryCache(UserClient userClient,
+                            @Value("${study.user-cache.enabled:true}") boolean enabled,
+                            @Value("${study.user-cache.max-size:10000}") long maxSize,
+                            @Value("${study.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userClient = userClient;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), "study.user-summary");
+    }
+
+    // ===========================
+    // 조회
+    // ===========================
+    public UserSummary get(Long userId) {
+        return getAll(Set.of(userId)).get(userId);
+    }
+
+    /**
+     * userId → UserSummary (없는 유저는 빠짐)
+     * user-service 호출 실패는 그대로 던짐 (호출하는 쪽에서 이름 없이 응답)
+     */
+    public Map<Long, UserSummary> getAll(Collection<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        ids.remove(null);
+
+        if (!enabled) {
+            return userClient.getUsersByIds(ids);
+        }
+
+        try {
+            return cache.getAll(ids, missing -> userClient.getUsersByIds(Set.copyOf(missing))).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // ===========================
+    // 무효화
+    // ===========================
+    public void invalidate(Long userId) {
+        cache.synchronous().invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.study.userclient.dto;
+
+import java.util.List;
+
+public class UserBatchRequest {
+
+    private List<Long> userIds;
+
+    public UserBatchRequest() {
+    }
+
+    public UserBatchRequest(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+}
@@ -0,0 +1,36 @@
+-- =====================================================================
+-- Study_groups 위치 조회용 인덱스
+--
+-- 추천 쿼리(recommend-service TagLocationRepository / PopularLocationRepository,
+-- study-service StudyGroupRepository.findRecommendedGroups)는
+--   status = 'ACTIVE'
+--   AND latitude  BETWEEN :minLat AND :maxLat
+--   AND longitude BETWEEN :minLng AND :maxLng
+-- 바운딩 박스로 먼저 거른 뒤 ACOS 거리식을 HAVING 에서 확인한다.
+-- 아래 인덱스가 있으면 전체 스캔 대신 (status, latitude) range scan +
+-- longitude 인덱스 조건 푸시다운(ICP)으로 반경 주변 행만 읽는다.
+--
+-- ddl-auto: update 환경에서는 StudyGroup 엔티티의 @Index 로도 생성되지만,
+-- 운영 DB 에는 이 스크립트로 먼저 만들어 두는 것을 기준으로 한다. (MariaDB 10.5+)
+-- =====================================================================
+
+CREATE INDEX IF NOT EXISTS idx_study_groups_status_lat_lng
+    ON Study_groups (status, latitude, longitude);
+
+
+-- ---------------------------------------------------------------------
+-- (선택) 공간 인덱스
+-- 그룹 수가 수십만 단위로 늘어나 B-tree 바운딩 박스로도 부족하면
+-- POINT 컬럼 + SPATIAL 인덱스로 전환한다.
+-- SPATIAL 인덱스는 NOT NULL 컬럼만 가능하므로 좌표 없는 그룹은 POINT(0 0)으로 채운다.
+-- ---------------------------------------------------------------------
+-- ALTER TABLE Study_groups
+--     ADD COLUMN geo_point POINT NOT NULL DEFAULT (POINT(0, 0));
+--
+-- UPDATE Study_groups
+--    SET geo_point = POINT(longitude, latitude)
+--  WHERE latitude IS NOT NULL AND longitude IS NOT NULL;
+--
+-- CREATE SPATIAL INDEX sidx_study_groups_geo_point ON Study_groups (geo_point);
+--
+-- 사용 예) MBRContains(ST_GeomFromText(:bboxPolygonWkt), sg.geo_point)
@@ -0,0 +1,44 @@
+-- =====================================================================
+-- Group_popularity 롤업 테이블 + 기존 데이터 백필
+--
+-- recommend-service 인기 추천(PopularLocationRepository)이
+-- 요청마다 Group_members 를 GROUP BY 로 집계하던 것을 이 테이블 조회로 대체한다.
+-- 이후 값은 study-service GroupPopularityService 가 멤버 승인/거절/삭제 때 증감한다.
+--
+-- join_velocity : 승인 1건마다 +1, 반감기(72시간)마다 절반 → velocity_updated_at 기준 값
+-- 백필에서는 joined_at(가입 신청 시각)을 승인 시각 대신 사용한다. (MariaDB 10.5+)
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS Group_popularity (
+    group_id            BIGINT      NOT NULL,
+    member_count        INT         NOT NULL DEFAULT 0,
+    join_velocity       DOUBLE      NOT NULL DEFAULT 0,
+    velocity_updated_at DATETIME(6) NULL,
+    last_activity_at    DATETIME(6) NULL,
+    PRIMARY KEY (group_id)
+);
+
+-- 백필 (다시 실행해도 현재 Group_members 기준으로 덮어씀)
+-- 리더는 그룹 생성과 함께 승인되므로 가입 속도에서 제외
+INSERT INTO Group_popularity (group_id, member_count, join_velocity, velocity_updated_at, last_activity_at)
+SELECT
+    sg.group_id,
+    COUNT(gm.user_id),
+    COALESCE(SUM(
+        CASE WHEN gm.role = 'MEMBER'
+             THEN POW(0.5, TIMESTAMPDIFF(SECOND, gm.joined_at, NOW(6)) / (72 * 3600))
+             ELSE 0
+        END
+    ), 0),
+    NOW(6),
+    GREATEST(COALESCE(MAX(gm.joined_at), sg.updated_at), COALESCE(sg.updated_at, MAX(gm.joined_at)))
+FROM Study_groups sg
+LEFT JOIN Group_members gm
+    ON gm.group_id = sg.group_id
+    AND gm.status = 'APPROVED'
+GROUP BY sg.group_id, sg.updated_at
+ON DUPLICATE KEY UPDATE
+    member_count        = VALUES(member_count),
+    join_velocity       = VALUES(join_velocity),
+    velocity_updated_at = VALUES(velocity_updated_at),
+    last_activity_at    = VALUES(last_activity_at);
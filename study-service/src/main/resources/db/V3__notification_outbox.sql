@@ -0,0 +1,27 @@
+-- =====================================================================
+-- Notification_outbox (study-service 알림 transactional outbox)
+--
+-- StudyGroupService 가 가입 신청/승인/거절/일정 생성 트랜잭션 안에서 한 행을 쓰고,
+-- NotificationOutboxRelay 가 커밋된 행을 notification-service 로 전송한다.
+--
+-- idempotency_key : notification-service 로 보내는 Idempotency-Key 헤더 (재전송 중복 방지)
+-- next_attempt_at : 다음 전송 시각 (전송 중에는 선점 lease 만료 시각)
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS Notification_outbox (
+    outbox_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    idempotency_key VARCHAR(36)  NOT NULL,
+    user_ids        TEXT         NOT NULL,
+    message         VARCHAR(255) NOT NULL,
+    type            VARCHAR(20)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6)  NULL,
+    last_error      VARCHAR(500) NULL,
+    PRIMARY KEY (outbox_id),
+    UNIQUE KEY uk_notification_outbox_key (idempotency_key),
+    -- relay 조회: status = 'PENDING' AND next_attempt_at <= NOW() ORDER BY next_attempt_at
+    KEY idx_notification_outbox_due (status, next_attempt_at)
+);
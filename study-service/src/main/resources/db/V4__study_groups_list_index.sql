@@ -0,0 +1,23 @@
+-- =====================================================================
+-- Study_groups 목록 keyset 페이지네이션 인덱스
+--
+-- GET /api/study-groups (StudyGroupRepository.findSummaries*) 는
+--   [status = :status AND]
+--   (created_at < :cursorCreatedAt OR (created_at = :cursorCreatedAt AND group_id < :cursorId))
+--   ORDER BY created_at DESC, group_id DESC LIMIT :size + 1
+-- 로 커서 위치부터 인덱스 순서대로 한 페이지만 읽는다. (OFFSET / COUNT 없음)
+-- category 필터는 같은 인덱스 순서로 읽으면서 JSON_CONTAINS 로 거른다.
+--
+-- ddl-auto: update 환경에서는 StudyGroup 엔티티의 @Index 로도 생성된다. (MariaDB 10.5+)
+-- =====================================================================
+
+-- created_at 이 비어 있는 예전 행은 커서 비교에서 빠지므로 먼저 채움
+UPDATE Study_groups
+   SET created_at = COALESCE(updated_at, NOW(6))
+ WHERE created_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_study_groups_created_group
+    ON Study_groups (created_at, group_id);
+
+CREATE INDEX IF NOT EXISTS idx_study_groups_status_created_group
+    ON Study_groups (status, created_at, group_id);
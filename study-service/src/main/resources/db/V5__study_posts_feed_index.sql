@@ -0,0 +1,26 @@
+-- =====================================================================
+-- Study_posts 게시글 피드 keyset 페이지네이션 인덱스
+--
+-- GET /api/study-posts, GET /api/admin/posts (StudyPostRepository.findSummaries*) 는
+--   [type = :type] [AND group_id = :groupId] AND
+--   (created_at < :cursorCreatedAt OR (created_at = :cursorCreatedAt AND post_id < :cursorId))
+--   ORDER BY created_at DESC, post_id DESC LIMIT :size + 1
+-- 로 본문(content) 없이 한 페이지만 읽는다.
+-- 그룹 + 타입 필터는 그룹 인덱스로 읽으면서 type 을 거른다. (그룹당 게시글 수가 적음)
+--
+-- ddl-auto: update 환경에서는 StudyPost 엔티티의 @Index 로도 생성된다. (MariaDB 10.5+)
+-- =====================================================================
+
+-- created_at 이 비어 있는 예전 행은 커서 비교에서 빠지므로 먼저 채움
+UPDATE Study_posts
+   SET created_at = COALESCE(updated_at, NOW(6))
+ WHERE created_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_study_posts_created_post
+    ON Study_posts (created_at, post_id);
+
+CREATE INDEX IF NOT EXISTS idx_study_posts_type_created_post
+    ON Study_posts (type, created_at, post_id);
+
+CREATE INDEX IF NOT EXISTS idx_study_posts_group_created_post
+    ON Study_posts (group_id, created_at, post_id);
@@ -0,0 +1,15 @@
+-- =====================================================================
+-- Study_groups 변경 피드 인덱스
+--
+-- recommend-service JdbcPollingChangeFeed(ChangeFeedRepository)가 인스턴스마다
+-- recommend.feed.poll-interval-ms(기본 2초) 주기로
+--   WHERE updated_at >= :since ORDER BY updated_at, group_id
+--   ORDER BY updated_at DESC LIMIT 1
+-- 를 실행한다. 인덱스가 없으면 매번 전체 스캔 + filesort.
+-- 아래 인덱스로 워터마크 이후 구간만 range scan (최신 1건은 역방향 스캔 1행).
+--
+-- ddl-auto: update 환경에서는 StudyGroup 엔티티의 @Index 로도 생성된다. (MariaDB 10.5+)
+-- =====================================================================
+
+CREATE INDEX IF NOT EXISTS idx_study_groups_updated_group
+    ON Study_groups (updated_at, group_id);
@@ -0,0 +1,55 @@
+-- =====================================================================
+-- Study_groups 바운딩 박스 + 인덱스 적용 전/후 실행 계획 비교
+--
+-- 실행: mariadb -h <host> -u <user> -p studydb < study_groups_geo_explain.sql
+-- 기준 좌표: 서울시청 (37.5665, 126.9780), 반경 5km
+--
+-- 기대 결과
+--   [전] type=ALL   (Study_groups 전체), rows ≈ 테이블 행 수, Extra: Using where; Using filesort
+--   [후] type=range key=idx_study_groups_status_lat_lng,
+--        rows ≈ 바운딩 박스 안 행 수, Extra: Using index condition; Using filesort
+-- ANALYZE 의 r_rows / r_total_time_ms 로 실제 읽은 행 수와 시간을 비교한다.
+-- =====================================================================
+
+SET @userLat  = 37.5665;
+SET @userLng  = 126.9780;
+SET @radiusKm = 5.0;
+
+SET @latDelta = @radiusKm / 111.32;
+SET @lngDelta = @radiusKm / (111.32 * COS(RADIANS(LEAST(ABS(@userLat) + @latDelta, 89.9))));
+
+-- ---------------------------------------------------------------------
+-- [전] 기존 쿼리: 계산식만으로 필터 (인덱스 사용 불가)
+-- ---------------------------------------------------------------------
+ANALYZE FORMAT=JSON
+SELECT sg.group_id,
+       6371 * ACOS(LEAST(1.0, GREATEST(-1.0,
+           COS(RADIANS(@userLat)) * COS(RADIANS(sg.latitude))
+           * COS(RADIANS(sg.longitude) - RADIANS(@userLng))
+           + SIN(RADIANS(@userLat)) * SIN(RADIANS(sg.latitude))))) AS distanceKm
+FROM Study_groups sg IGNORE INDEX (idx_study_groups_status_lat_lng)
+WHERE sg.status = 'ACTIVE'
+  AND sg.latitude IS NOT NULL
+  AND sg.longitude IS NOT NULL
+HAVING distanceKm <= @radiusKm
+ORDER BY distanceKm
+LIMIT 100;
+
+-- ---------------------------------------------------------------------
+-- [후] 바운딩 박스 + (status, latitude, longitude) 인덱스
+-- ---------------------------------------------------------------------
+ANALYZE FORMAT=JSON
+SELECT sg.group_id,
+       6371 * ACOS(LEAST(1.0, GREATEST(-1.0,
+           COS(RADIANS(@userLat)) * COS(RADIANS(sg.latitude))
+           * COS(RADIANS(sg.longitude) - RADIANS(@userLng))
+           + SIN(RADIANS(@userLat)) * SIN(RADIANS(sg.latitude))))) AS distanceKm
+FROM Study_groups sg
+WHERE sg.status = 'ACTIVE'
+  AND sg.latitude IS NOT NULL
+  AND sg.longitude IS NOT NULL
+  AND sg.latitude  BETWEEN @userLat - @latDelta AND @userLat + @latDelta
+  AND sg.longitude BETWEEN @userLng - @lngDelta AND @userLng + @lngDelta
+HAVING distanceKm <= @radiusKm
+ORDER BY distanceKm
+LIMIT 100;
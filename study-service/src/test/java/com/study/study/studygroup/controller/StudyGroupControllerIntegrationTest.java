@@ -10,7 +10,11 @@ import com.study.study.studygroup.dto.NotificationSendRequest;
 import com.study.study.studygroup.dto.StudyGroupRequest;
 import com.study.study.studygroup.repository.StudyGroupRepository;
 import com.study.study.userclient.NotificationClient;
+import com.study.study.outbox.domain.NotificationOutbox;
+import com.study.study.outbox.repository.NotificationOutboxRepository;
+import com.study.study.outbox.service.NotificationOutboxRelay;
 import com.study.study.userclient.UserClient;
+import com.study.study.userclient.UserSummaryCache;
 import com.study.study.userclient.dto.UserSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,6 +35,9 @@ import javax.sql.DataSource;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
@@ -78,6 +85,15 @@ class StudyGroupControllerIntegrationTest {
     @Autowired
     private GroupMemberRepository groupMemberRepository;
 
+    @Autowired
+    private UserSummaryCache userSummaryCache;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private NotificationOutboxRelay notificationOutboxRelay;
+
     private StudyGroup testGroup;
     private String userToken;
     private String adminToken;
@@ -102,8 +118,11 @@ class StudyGroupControllerIntegrationTest {
 
         userToken = jwtTokenProvider.createToken("testuser", "USER", testUserId);
         adminToken = jwtTokenProvider.createToken("admin", "ADMIN", adminUserId);
-        doNothing().when(notificationClient).send(any());
+        doNothing().when(notificationClient).send(any(), any());
         groupMemberRepository.deleteAll();
+
+        // 테스트마다 user-service mock 을 새로 쓰므로 유저 요약 캐시도 비움
+        userSummaryCache.invalidateAll();
     }
 
     @Test
@@ -140,6 +159,57 @@ class StudyGroupControllerIntegrationTest {
                 .andExpect(jsonPath("$.description", is("This is a test study group")));
     }
 
+    @WithMockUser(roles = "USER")
+    @Test
+    @DisplayName("GET /api/study-groups - 최신순 커서 페이지 + 상태 필터")
+    void getStudyGroups_CursorPage() throws Exception {
+        // Given - testGroup(ACTIVE) 뒤에 두 그룹 추가
+        StudyGroup second = new StudyGroup();
+        second.setLeaderId(testUserId);
+        second.setTitle("Second Group");
+        second.setDescription("second");
+        second.setCategory("[\"Java\"]");
+        second.setStatus(GroupStatus.PENDING);
+        studyGroupRepository.save(second);
+
+        StudyGroup third = new StudyGroup();
+        third.setLeaderId(anotherUserId);
+        third.setTitle("Third Group");
+        third.setDescription("third");
+        third.setCategory("[\"Python\"]");
+        third.setStatus(GroupStatus.ACTIVE);
+        studyGroupRepository.save(third);
+
+        // When & Then - 첫 페이지: 최신 2개, 목록용 필드만
+        String body = mockMvc.perform(get("/api/study-groups").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].title", is("Third Group")))
+                .andExpect(jsonPath("$.items[1].title", is("Second Group")))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        // When & Then - 다음 페이지: 남은 1개, 더 없음
+        String nextCursor = objectMapper.readTree(body).get("nextCursor").asText();
+        mockMvc.perform(get("/api/study-groups").param("size", "2").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].groupId", is(testGroup.getGroupId().intValue())))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        // When & Then - 상태 필터
+        mockMvc.perform(get("/api/study-groups").param("status", "active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].status", is("ACTIVE")))
+                .andExpect(jsonPath("$.items[1].status", is("ACTIVE")));
+
+        // When & Then - 잘못된 커서
+        mockMvc.perform(get("/api/study-groups").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/study-groups/{groupId} - 스터디 그룹 미존재")
     void getStudyGroupById_NotFound() throws Exception {
@@ -248,15 +318,60 @@ class StudyGroupControllerIntegrationTest {
         userSummary.setUsername("testuser");
         userSummary.setName("Test User");
 
-        when(userClient.getUserById(testUserId)).thenReturn(userSummary);
+        when(userClient.getUsersByIds(anyCollection())).thenReturn(Map.of(testUserId, userSummary));
 
         // When & Then
         mockMvc.perform(get("/api/study-groups/" + testGroup.getGroupId() + "/members")
                         .header("Authorization", "Bearer " + userToken))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].username").value("testuser"))
+                .andExpect(jsonPath("$[0].name").value("Test User"));
+
+        // Verify user-service was called once for the whole list (no per-member calls)
+        verify(userClient, times(1)).getUsersByIds(anyCollection());
+        verify(userClient, never()).getUserById(anyLong());
+    }
+
+    @Test
+    @DisplayName("[내부통신] 유저 요약 캐시 - 재조회는 캐시 사용, 내부 API 로 무효화 후 다시 조회")
+    void internalCommunication_UserSummaryCache_EvictByInternalApi() throws Exception {
+        // Given
+        GroupMember leaderMember = new GroupMember();
+        leaderMember.setGroupId(testGroup.getGroupId());
+        leaderMember.setUserId(testUserId);
+        leaderMember.setRole(GroupMember.Role.LEADER);
+        leaderMember.setStatus(GroupMember.Status.APPROVED);
+        groupMemberRepository.save(leaderMember);
+
+        UserSummary userSummary = new UserSummary();
+        userSummary.setUserId(testUserId);
+        userSummary.setUsername("testuser");
+        userSummary.setName("Test User");
+
+        when(userClient.getUsersByIds(anyCollection())).thenReturn(Map.of(testUserId, userSummary));
+
+        // When - 두 번 조회
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/study-groups/" + testGroup.getGroupId() + "/members")
+                            .header("Authorization", "Bearer " + userToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].name").value("Test User"));
+        }
+
+        // Then - user-service 는 한 번만 호출
+        verify(userClient, times(1)).getUsersByIds(anyCollection());
+
+        // When - user-service 가 이름 변경 후 무효화 호출 (토큰 없이)
+        userSummary.setName("Renamed User");
+        mockMvc.perform(delete("/internal/study/users/" + testUserId + "/summary"))
+                .andExpect(status().isNoContent());
 
-        // Verify user-service was called
-        verify(userClient, atLeastOnce()).getUserById(testUserId);
+        // Then - 다시 조회하면 바뀐 이름
+        mockMvc.perform(get("/api/study-groups/" + testGroup.getGroupId() + "/members")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Renamed User"));
+        verify(userClient, times(2)).getUsersByIds(anyCollection());
     }
 
     @Test
@@ -271,7 +386,7 @@ class StudyGroupControllerIntegrationTest {
         groupMemberRepository.save(leaderMember);
 
         // user-service 호출 실패
-        when(userClient.getUserById(anyLong()))
+        when(userClient.getUsersByIds(anyCollection()))
                 .thenThrow(new org.springframework.web.client.ResourceAccessException("Connection refused"));
 
         // When & Then - 실패해도 기본 정보로 응답
@@ -280,42 +395,61 @@ class StudyGroupControllerIntegrationTest {
                 .andExpect(status().isOk());
     }
 
-    @WithMockUser(roles = "USER")
     @Test
-    @DisplayName("[내부통신] study → notification-service 가입 신청 알림 발송실패")
+    @DisplayName("[내부통신] study → notification-service 가입 신청 알림 (outbox 기록 후 relay 전송)")
     void internalCommunication_NotificationService_JoinRequest_Success() throws Exception {
         // Given
         String anotherUserToken = jwtTokenProvider.createToken("anotheruser", "USER", anotherUserId);
 
-        doNothing().when(notificationClient).send(any(NotificationSendRequest.class));
-
-        // When & Then
-        mockMvc.perform(post("/api/study-groups/" + testGroup.getGroupId() + "/members/request")
+        // When - 가입 신청
+        mockMvc.perform(post("/api/study-groups/" + testGroup.getGroupId() + "/members")
                         .header("Authorization", "Bearer " + anotherUserToken))
-                .andExpect(result -> {
-                    int status = result.getResponse().getStatus();
-                    // 200 OK, 201 Created, 또는 이미 신청한 경우 4xx 모두 허용
-                    assertThat(status >= 200 && status < 500).isTrue();
-                });
-
-        // Verify notification-service was called for leader notification
-        verify(notificationClient, times(1)).send(any(NotificationSendRequest.class));
+                .andExpect(status().isCreated());
+
+        // Then - 요청 처리 중에는 notification-service 를 호출하지 않고 outbox 에만 기록
+        verify(notificationClient, never()).send(any(), any());
+        List<NotificationOutbox> pending = notificationOutboxRepository.findAll();
+        assertThat(pending).hasSize(1);
+        NotificationOutbox outbox = pending.get(0);
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutbox.Status.PENDING);
+        assertThat(outbox.getUserIds()).containsExactly(testUserId);
+        assertThat(outbox.getType()).isEqualTo("REQUEST");
+
+        // When - relay 전송
+        notificationOutboxRelay.relayBatch();
+
+        // Then - 리더에게 Idempotency-Key 와 함께 한 번 전송
+        verify(notificationClient, times(1)).send(
+                argThat(req -> req.getUserIds().equals(List.of(testUserId))),
+                eq(outbox.getIdempotencyKey()));
+        assertThat(notificationOutboxRepository.findById(outbox.getOutboxId()).orElseThrow().getStatus())
+                .isEqualTo(NotificationOutbox.Status.SENT);
     }
 
     @Test
-    @DisplayName("[내부통신] study → notification-service 호출 실패 시에 가입실패")
+    @DisplayName("[내부통신] study → notification-service 호출 실패해도 가입 신청 성공, outbox 에 남아 재시도")
     void internalCommunication_NotificationService_JoinRequest_ServiceError_GracefulDegradation() throws Exception {
         // Given
         String anotherUserToken = jwtTokenProvider.createToken("anotheruser", "USER", anotherUserId);
 
         // notification-service 호출 실패
         doThrow(new org.springframework.web.client.ResourceAccessException("Connection refused"))
-                .when(notificationClient).send(any(NotificationSendRequest.class));
+                .when(notificationClient).send(any(), any());
 
-        // When & Then - 알림 실패해도 가입 신청 실패
-        mockMvc.perform(post("/api/study-groups/" + testGroup.getGroupId() + "/members/request")
+        // When & Then - 알림은 요청 경로에 없으므로 가입 신청 성공
+        mockMvc.perform(post("/api/study-groups/" + testGroup.getGroupId() + "/members")
                         .header("Authorization", "Bearer " + anotherUserToken))
-                .andExpect(status().isOk());
+                .andExpect(status().isCreated());
+
+        // When - relay 전송 실패
+        notificationOutboxRelay.relayBatch();
+
+        // Then - PENDING 으로 남고 백오프 후 다시 전송 대상
+        NotificationOutbox outbox = notificationOutboxRepository.findAll().get(0);
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutbox.Status.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(outbox.getLastError()).contains("Connection refused");
     }
 
     // ==================== Internal API 테스트 (다른 서비스에서 호출) ====================
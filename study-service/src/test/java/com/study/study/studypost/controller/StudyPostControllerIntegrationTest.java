@@ -0,0 +1,282 @@
+package com.study.study.studypost.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.common.security.JwtTokenProvider;
+import com.study.study.studypost.domain.BoardType;
+import com.study.study.studypost.domain.StudyPost;
+import com.study.study.studypost.repository.StudyPostRepository;
+import com.study.study.userclient.NotificationClient;
+import com.study.study.userclient.UserClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("게시글 피드 통합 테스트 (커서 페이지)")
+class StudyPostControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudyPostRepository studyPostRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private StringRedisTemplate redisTemplate;
+
+    @MockBean
+    private RestTemplate restTemplate;
+
+    @MockBean
+    private UserClient userClient;
+
+    @MockBean
+    private NotificationClient notificationClient;
+
+    private String userToken;
+    private String adminToken;
+    private final Long testUserId = 1L;
+    private final Long adminUserId = 2L;
+    private final Long groupA = 100L;
+    private final Long groupB = 200L;
+
+    private StudyPost oldest;
+    private StudyPost middle;
+    private StudyPost newest;
+
+    @BeforeEach
+    void setUp() {
+        studyPostRepository.deleteAll();
+
+        // 오래된 순으로 저장 (피드는 최신순)
+        LocalDateTime base = LocalDateTime.of(2026, 10, 1, 9, 0);
+        oldest = save("Oldest Post", BoardType.FREE, groupA, base);
+        middle = save("Middle Post", BoardType.STUDY, groupA, base.plusMinutes(1));
+        newest = save("Newest Post", BoardType.FREE, groupB, base.plusMinutes(2));
+
+        userToken = jwtTokenProvider.createToken("testuser", "USER", testUserId);
+        adminToken = jwtTokenProvider.createToken("admin", "ADMIN", adminUserId);
+    }
+
+    // ===========================
+    // GET /api/study-posts
+    // ===========================
+
+    @Test
+    @DisplayName("GET /api/study-posts - 최신순 커서 페이지, 목록에 본문 없음")
+    void getAllPosts_CursorPage() throws Exception {
+        // When & Then - 첫 페이지: 최신 2개
+        String body = mockMvc.perform(get("/api/study-posts")
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].postId", is(newest.getPostId().intValue())))
+                .andExpect(jsonPath("$.items[1].postId", is(middle.getPostId().intValue())))
+                .andExpect(jsonPath("$.items[0].title", is("Newest Post")))
+                .andExpect(jsonPath("$.items[0].content").doesNotExist())
+                .andExpect(jsonPath("$.items[1].content").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        // When & Then - 다음 페이지: 남은 1개, 더 없음
+        String nextCursor = objectMapper.readTree(body).get("nextCursor").asText();
+        mockMvc.perform(get("/api/study-posts")
+                        .param("size", "2")
+                        .param("cursor", nextCursor)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].postId", is(oldest.getPostId().intValue())))
+                .andExpect(jsonPath("$.items[0].content").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/study-posts - 정확히 한 페이지 분량이면 nextCursor 없음")
+    void getAllPosts_ExactPage_NoNextCursor() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/study-posts")
+                        .param("size", "3")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/study-posts - 타입 / 그룹 / 타입+그룹 필터")
+    void getAllPosts_Filters() throws Exception {
+        // 타입 (대소문자 무관)
+        mockMvc.perform(get("/api/study-posts")
+                        .param("type", "free")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].postId", is(newest.getPostId().intValue())))
+                .andExpect(jsonPath("$.items[1].postId", is(oldest.getPostId().intValue())))
+                .andExpect(jsonPath("$.items[0].type", is("FREE")))
+                .andExpect(jsonPath("$.items[1].type", is("FREE")));
+
+        // 그룹
+        mockMvc.perform(get("/api/study-posts")
+                        .param("groupId", groupA.toString())
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].postId", is(middle.getPostId().intValue())))
+                .andExpect(jsonPath("$.items[1].postId", is(oldest.getPostId().intValue())));
+
+        // 타입 + 그룹
+        mockMvc.perform(get("/api/study-posts")
+                        .param("type", "FREE")
+                        .param("groupId", groupA.toString())
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].postId", is(oldest.getPostId().intValue())));
+    }
+
+    @Test
+    @DisplayName("GET /api/study-posts - 필터 + 커서로 다음 페이지")
+    void getAllPosts_FilterWithCursor() throws Exception {
+        // Given
+        String body = mockMvc.perform(get("/api/study-posts")
+                        .param("type", "FREE")
+                        .param("size", "1")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].postId", is(newest.getPostId().intValue())))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        // When & Then - 다른 타입(middle)은 건너뛰고 oldest
+        mockMvc.perform(get("/api/study-posts")
+                        .param("type", "FREE")
+                        .param("size", "1")
+                        .param("cursor", nextCursor)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].postId", is(oldest.getPostId().intValue())))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/study-posts - 잘못된 커서 / 타입은 400")
+    void getAllPosts_BadRequest() throws Exception {
+        // 잘못된 커서
+        mockMvc.perform(get("/api/study-posts")
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isBadRequest());
+
+        // 없는 타입
+        mockMvc.perform(get("/api/study-posts")
+                        .param("type", "UNKNOWN")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ===========================
+    // GET /api/admin/posts
+    // ===========================
+
+    @Test
+    @DisplayName("GET /api/admin/posts - 관리자 커서 페이지 + 필터, 목록에 본문 없음")
+    void adminGetAll_CursorPage() throws Exception {
+        // When & Then - 첫 페이지
+        String body = mockMvc.perform(get("/api/admin/posts")
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].postId", is(newest.getPostId().intValue())))
+                .andExpect(jsonPath("$.items[0].reported", is(false)))
+                .andExpect(jsonPath("$.items[0].content").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        // When & Then - 다음 페이지
+        String nextCursor = objectMapper.readTree(body).get("nextCursor").asText();
+        mockMvc.perform(get("/api/admin/posts")
+                        .param("size", "2")
+                        .param("cursor", nextCursor)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].postId", is(oldest.getPostId().intValue())))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        // When & Then - 타입 + 그룹 필터
+        mockMvc.perform(get("/api/admin/posts")
+                        .param("type", "STUDY")
+                        .param("groupId", groupA.toString())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].postId", is(middle.getPostId().intValue())));
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/posts - 잘못된 커서 / 타입은 400")
+    void adminGetAll_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/posts")
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/admin/posts")
+                        .param("type", "UNKNOWN")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/posts - 일반 사용자는 403")
+    void adminGetAll_Forbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/posts")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private StudyPost save(String title, BoardType type, Long groupId, LocalDateTime createdAt) {
+        StudyPost post = new StudyPost();
+        post.setTitle(title);
+        post.setContent("본문 " + title);
+        post.setType(type);
+        post.setGroupId(groupId);
+        post.setLeaderId(testUserId);
+        post.setMaxMembers(5);
+        post.setCreatedAt(createdAt);
+        post.setUpdatedAt(createdAt);
+        return studyPostRepository.save(post);
+    }
+}
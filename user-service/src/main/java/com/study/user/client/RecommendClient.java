@@ -0,0 +1,25 @@
+package com.study.user.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+@RequiredArgsConstructor
+public class RecommendClient {
+
+    private final RestTemplate restTemplate;
+
+    @Value("${recommend-service.base-url}")
+    private String recommendServiceBaseUrl;
+
+    /**
+     * recommend-service 의 관심 태그 캐시 무효화:
+     * DELETE {recommend-service.base-url}/internal/recommend/users/{userId}/tags
+     */
+    public void evictUserTags(Long userId) {
+        String url = recommendServiceBaseUrl + "/internal/recommend/users/" + userId + "/tags";
+        restTemplate.delete(url);
+    }
+}
@@ -24,4 +24,13 @@ public class StudyGroupClient {
         String url = studyServiceBaseUrl + "/internal/study/users/" + userId + "/groups";
         return restTemplate.getForObject(url, Object[].class);
     }
+
+    /**
+     * study-service 의 유저 요약 캐시 무효화 (username / name 변경 후):
+     * DELETE {study-service.base-url}/internal/study/users/{userId}/summary
+     */
+    public void evictUserSummary(Long userId) {
+        String url = studyServiceBaseUrl + "/internal/study/users/" + userId + "/summary";
+        restTemplate.delete(url);
+    }
 }
\ No newline at end of file
@@ -1,18 +1,25 @@
 package com.study.user.controller;
 
 import com.study.user.domain.User;
+import com.study.user.dto.UserBatchRequest;
 import com.study.user.dto.UserSummaryResponse;
 import com.study.user.dto.UserStatDTO;
 import com.study.user.repository.UserRepository;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/internal/users")   // 내부 서비스 통신 전용
 public class InternalUserController {
 
+    // 한 번에 조회할 수 있는 최대 유저 수 (호출하는 쪽은 이 단위로 나눠서 요청)
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final UserRepository userRepository;
 
     public InternalUserController(UserRepository userRepository) {
@@ -37,4 +44,32 @@ public class InternalUserController {
         return ResponseEntity.ok(dto);
     }
 
+    // ==========================
+    // 여러 유저 요약 일괄 조회 (멤버 목록 등에서 유저마다 호출하지 않도록)
+    // 없는 유저는 빠진 채로 반환
+    // ==========================
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserSummaryResponse>> getUserSummaries(@RequestBody UserBatchRequest request) {
+        if (request.getUserIds() == null || request.getUserIds().isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+
+        Set<Long> userIds = new LinkedHashSet<>(request.getUserIds());
+        userIds.remove(null);
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 유저는 최대 " + MAX_BATCH_SIZE + "명입니다.");
+        }
+
+        List<UserSummaryResponse> result = new ArrayList<>(userIds.size());
+        for (User user : userRepository.findAllById(userIds)) {
+            result.add(new UserSummaryResponse(
+                    user.getUserId(),
+                    user.getUsername(),
+                    user.getName()
+            ));
+        }
+
+        return ResponseEntity.ok(result);
+    }
+
 }
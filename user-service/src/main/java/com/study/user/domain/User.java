@@ -9,7 +9,13 @@ import java.util.List;
 import jakarta.persistence.FetchType;
 
 @Entity
-@Table(name = "Users")
+@Table(
+        name = "Users",
+        indexes = {
+                // recommend-service 변경 피드 (updated_at 워터마크 폴링)
+                @Index(name = "idx_users_updated_user", columnList = "updated_at, user_id")
+        }
+)
 public class User {
 
     // ============================
@@ -93,6 +99,12 @@ public class User {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 관심사 태그(컬렉션)만 바뀌면 @PreUpdate 가 호출되지 않으므로 직접 갱신
+    // (recommend-service 가 updated_at 으로 변경을 감지함)
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // ============================
     // 매너 점수 비즈니스 로직
     // ============================
@@ -0,0 +1,15 @@
+package com.study.user.event;
+
+/**
+ * 사용자 관심 태그 변경 (커밋 후 recommend-service 캐시 무효화용)
+ */
+public class InterestTagsChangedEvent {
+
+    private final Long userId;
+
+    public InterestTagsChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() { return userId; }
+}
@@ -0,0 +1,43 @@
+package com.study.user.event;
+
+import com.study.user.client.RecommendClient;
+import com.study.user.client.StudyGroupClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 사용자 정보 변경 → 다른 서비스의 사용자 단위 캐시 무효화
+ *
+ * 커밋된 뒤에만 호출 (롤백되면 캐시를 비울 이유가 없음)
+ * 실패해도 수정 요청은 성공 처리 → 각 캐시는 TTL(추천은 updated_at 변경 피드도)로 정리됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictListener {
+
+    private final RecommendClient recommendClient;
+    private final StudyGroupClient studyGroupClient;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInterestTagsChanged(InterestTagsChangedEvent event) {
+        try {
+            recommendClient.evictUserTags(event.getUserId());
+        } catch (RestClientException e) {
+            log.warn("[RecommendClient] 관심 태그 캐시 무효화 실패 userId={}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserSummaryChanged(UserSummaryChangedEvent event) {
+        try {
+            studyGroupClient.evictUserSummary(event.getUserId());
+        } catch (RestClientException e) {
+            log.warn("[StudyGroupClient] 유저 요약 캐시 무효화 실패 userId={}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+}
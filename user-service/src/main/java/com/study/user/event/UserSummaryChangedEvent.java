@@ -0,0 +1,15 @@
+package com.study.user.event;
+
+/**
+ * username / name 변경 (커밋 후 study-service 유저 요약 캐시 무효화용)
+ */
+public class UserSummaryChangedEvent {
+
+    private final Long userId;
+
+    public UserSummaryChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() { return userId; }
+}
@@ -8,14 +8,18 @@ import com.study.user.dto.MannerScoreResponse;
 import com.study.user.dto.UserGroupResponse;
 import com.study.user.dto.UserRequest;
 import com.study.user.dto.UserResponse;
+import com.study.user.event.InterestTagsChangedEvent;
+import com.study.user.event.UserSummaryChangedEvent;
 import com.study.user.repository.UserRepository;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @Transactional(readOnly = true)
@@ -23,11 +27,14 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder) {
+                       PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     // ============================
@@ -101,6 +108,10 @@ public class UserService {
                 .orElseThrow(() ->
                         new IllegalArgumentException("수정할 사용자를 찾을 수 없습니다. ID: " + userId));
 
+        // username / name 이 실제로 바뀌면 커밋 후 study-service 유저 요약 캐시 무효화
+        String oldUsername = user.getUsername();
+        String oldName = user.getName();
+
         // username: null/빈값이 아니면 수정
         if (request.getUsername() != null && !request.getUsername().isBlank()) {
             user.setUsername(request.getUsername());
@@ -121,9 +132,17 @@ public class UserService {
             user.setEmail(request.getEmail());
         }
 
+        if (!Objects.equals(oldUsername, user.getUsername()) || !Objects.equals(oldName, user.getName())) {
+            eventPublisher.publishEvent(new UserSummaryChangedEvent(userId));
+        }
+
         // 관심사 태그: null이 아닐 때만 교체
         if (request.getInterestTags() != null) {
             user.setInterestTags(request.getInterestTags());
+            user.touch();
+
+            // 커밋 후 recommend-service 관심 태그 캐시 무효화
+            eventPublisher.publishEvent(new InterestTagsChangedEvent(userId));
         }
 
         // 위치
@@ -460,4 +460,22 @@ class UserControllerIntegrationTest {
         mockMvc.perform(get("/internal/users/99999"))
                 .andExpect(status().is4xxClientError());
     }
+
+    @Test
+    @DisplayName("[내부API] /internal/users/batch - 여러 사용자 요약 일괄 조회 (없는 사용자는 제외)")
+    void internalApi_GetUserSummaries_Batch() throws Exception {
+        // Given - 중복 id / 존재하지 않는 id 포함
+        Map<String, Object> request = new HashMap<>();
+        request.put("userIds", Arrays.asList(testUser.getUserId(), testUser.getUserId(), 99999L));
+
+        // When & Then
+        mockMvc.perform(post("/internal/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].userId").value(testUser.getUserId()))
+                .andExpect(jsonPath("$[0].username").value("testuser"))
+                .andExpect(jsonPath("$[0].name").value("Test User"));
+    }
 }